@@ -0,0 +1,66 @@
+-- Insert throughput and primary key index size: random (v4) vs time-ordered (v7) UUIDs.
+--
+-- Run against a scratch database (PostgreSQL 18 for the built-in uuidv7()):
+--   psql -d bench -f docs/benchmarks/uuid-v7-vs-v4.sql
+--
+-- Each table mirrors the shape of job_requests' key + created_date. 10M rows are inserted
+-- in 100k-row batches so the index outgrows shared_buffers the way a production table does.
+
+\timing on
+
+DROP TABLE IF EXISTS bench_uuid_v4;
+DROP TABLE IF EXISTS bench_uuid_v7;
+
+-- Logged tables on purpose: unlogged ones write no WAL, which would hide the difference below.
+CREATE TABLE bench_uuid_v4 (
+    id           UUID PRIMARY KEY,
+    created_date TIMESTAMPTZ NOT NULL DEFAULT now(),
+    payload      TEXT
+);
+
+CREATE TABLE bench_uuid_v7 (LIKE bench_uuid_v4 INCLUDING ALL);
+
+-- Start each run right after a checkpoint so both pay full-page images from the same point
+CHECKPOINT;
+SELECT pg_stat_reset_shared('wal');
+
+DO $$
+BEGIN
+    FOR batch IN 1..100 LOOP
+        INSERT INTO bench_uuid_v4 (id, payload)
+        SELECT gen_random_uuid(), md5(g::text) FROM generate_series(1, 100000) g;
+    END LOOP;
+END $$;
+
+SELECT 'v4' AS variant, wal_records, wal_fpi, pg_size_pretty(wal_bytes) AS wal FROM pg_stat_wal;
+CHECKPOINT;
+SELECT pg_stat_reset_shared('wal');
+
+DO $$
+BEGIN
+    FOR batch IN 1..100 LOOP
+        INSERT INTO bench_uuid_v7 (id, payload)
+        SELECT uuidv7(), md5(g::text) FROM generate_series(1, 100000) g;
+    END LOOP;
+END $$;
+
+SELECT 'v7' AS variant, wal_records, wal_fpi, pg_size_pretty(wal_bytes) AS wal FROM pg_stat_wal;
+
+-- Index size and leaf density: v4 indexes settle around ~70% fill after page splits,
+-- v7 indexes stay close to the 90% fillfactor because splits only happen at the right edge.
+CREATE EXTENSION IF NOT EXISTS pgstattuple;
+
+SELECT 'v4' AS variant,
+       pg_size_pretty(pg_relation_size('bench_uuid_v4_pkey')) AS index_size,
+       (pgstatindex('bench_uuid_v4_pkey')).avg_leaf_density
+UNION ALL
+SELECT 'v7',
+       pg_size_pretty(pg_relation_size('bench_uuid_v7_pkey')),
+       (pgstatindex('bench_uuid_v7_pkey')).avg_leaf_density;
+
+-- Correlation between key order and insertion order (1.0 = perfectly ordered).
+ANALYZE bench_uuid_v4;
+ANALYZE bench_uuid_v7;
+SELECT tablename, attname, correlation
+FROM pg_stats
+WHERE tablename IN ('bench_uuid_v4', 'bench_uuid_v7') AND attname = 'id';
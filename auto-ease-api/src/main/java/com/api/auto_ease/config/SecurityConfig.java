@@ -1,6 +1,7 @@
 package com.api.auto_ease.config;
 
 import com.api.auto_ease.security.JwtAuthFilter;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.AllArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -51,6 +52,8 @@ public class SecurityConfig {
                                 res.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Unauthorized"))
                 )
                 .authorizeHttpRequests(auth -> auth
+                        // Completes streamed responses; the original request was already authorized
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(
                                 "/api/auth/**",
                                 "/api/car-makes/**",
@@ -60,6 +63,8 @@ public class SecurityConfig {
                                 "/error"
                         ).permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/garages").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/garages/nearby").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/garages/search").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/garages/*/reviews").permitAll()
                         .anyRequest().authenticated()
                 )
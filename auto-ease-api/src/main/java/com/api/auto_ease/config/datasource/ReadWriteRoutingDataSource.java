@@ -0,0 +1,81 @@
+package com.api.auto_ease.config.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Hands out replica connections inside read-only transactions and primary connections
+ * everywhere else.
+ * <p>
+ * The route is picked when a connection is taken, so this has to sit behind a
+ * {@link LazyConnectionDataSourceProxy}: the transaction manager asks for the connection before
+ * it marks the transaction read-only, and the proxy defers the real checkout to the first
+ * statement. While the replica is marked unusable, because it lags too far behind or a
+ * connection attempt failed, reads go to the primary too.
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    private final boolean hasReplica;
+    private volatile boolean replicaUsable;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica) {
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(Route.PRIMARY, primary);
+        if (replica != null) {
+            targets.put(Route.REPLICA, replica);
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        this.hasReplica = replica != null;
+        this.replicaUsable = hasReplica;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return replicaUsable && TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                ? Route.REPLICA
+                : Route.PRIMARY;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (determineCurrentLookupKey() == Route.REPLICA) {
+            try {
+                return getResolvedDataSources().get(Route.REPLICA).getConnection();
+            } catch (SQLException e) {
+                setReplicaUsable(false, "connection failed: " + e.getMessage());
+            }
+        }
+        return getResolvedDefaultDataSource().getConnection();
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    synchronized void setReplicaUsable(boolean usable, String reason) {
+        if (!hasReplica || replicaUsable == usable) {
+            return;
+        }
+        replicaUsable = usable;
+        if (usable) {
+            log.info("Read replica back in use ({})", reason);
+        } else {
+            log.warn("Read replica taken out of use, reads go to the primary ({})", reason);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.api.auto_ease.config.datasource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Polls the replica's replay lag and takes it out of {@link ReadWriteRoutingDataSource} while
+ * the lag is above {@code replica.max-lag-ms}, the replica is not streaming from the primary,
+ * or it cannot be queried.
+ * <p>
+ * The replica user needs {@code pg_read_all_stats} to see {@code pg_stat_wal_receiver.status};
+ * without it the replica never reads as streaming and all reads stay on the primary.
+ */
+@Component
+@ConditionalOnProperty("replica.datasource.jdbc-url")
+public class ReplicaLagMonitor {
+
+    // Lag is zero when caught up with everything received, so an idle primary does not read as
+    // lag; that only holds while the WAL receiver is streaming, since a standby that lost its
+    // primary has also replayed everything it received. Lag is null on a standby that has not
+    // replayed anything yet.
+    private static final String LAG_SQL = """
+            SELECT NOT pg_is_in_recovery()
+                       OR EXISTS (SELECT 1 FROM pg_stat_wal_receiver WHERE status = 'streaming') AS streaming,
+                   CASE
+                       WHEN NOT pg_is_in_recovery() THEN 0
+                       WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                       ELSE (EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000)::bigint
+                   END AS lag_ms
+            """;
+
+    private final ReadWriteRoutingDataSource readWriteRoutingDataSource;
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final long maxLagMs;
+
+    public ReplicaLagMonitor(ReadWriteRoutingDataSource readWriteRoutingDataSource,
+                             @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                             @Value("${replica.max-lag-ms}") long maxLagMs) {
+        this.readWriteRoutingDataSource = readWriteRoutingDataSource;
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.maxLagMs = maxLagMs;
+    }
+
+    @Scheduled(fixedDelayString = "${replica.lag-check-interval-ms}")
+    public void check() {
+        Lag lag;
+        try {
+            lag = replicaJdbcTemplate.queryForObject(LAG_SQL, (rs, rowNum) ->
+                    new Lag(rs.getBoolean("streaming"), rs.getObject("lag_ms", Long.class)));
+        } catch (DataAccessException e) {
+            readWriteRoutingDataSource.setReplicaUsable(false, "lag check failed: " + e.getMessage());
+            return;
+        }
+        if (!lag.streaming()) {
+            readWriteRoutingDataSource.setReplicaUsable(false, "not streaming from the primary");
+            return;
+        }
+        Long lagMs = lag.lagMs();
+        if (lagMs == null) {
+            readWriteRoutingDataSource.setReplicaUsable(false, "nothing replayed yet");
+            return;
+        }
+        readWriteRoutingDataSource.setReplicaUsable(lagMs <= maxLagMs, "lag " + lagMs + " ms");
+    }
+
+    private record Lag(boolean streaming, Long lagMs) {
+    }
+}
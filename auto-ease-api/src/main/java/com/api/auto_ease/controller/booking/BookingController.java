@@ -2,13 +2,18 @@ package com.api.auto_ease.controller.booking;
 
 import com.api.auto_ease.dto.booking.AcceptQuoteRequest;
 import com.api.auto_ease.dto.booking.BookingResponse;
+import com.api.auto_ease.dto.booking.UpdateBookingStatusRequest;
+import com.api.auto_ease.security.AuthenticatedUser;
 import com.api.auto_ease.service.booking.BookingService;
+import com.api.auto_ease.service.history.HistoryStreamService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.UUID;
@@ -18,20 +23,40 @@ import java.util.UUID;
 public class BookingController {
 
     private final BookingService bookingService;
+    private final HistoryStreamService historyStreamService;
 
     @PostMapping("/api/quotes/{quoteId}/accept")
     @PreAuthorize("hasRole('CAR_OWNER')")
     public ResponseEntity<BookingResponse> acceptQuote(Authentication auth,
                                                        @PathVariable UUID quoteId,
                                                        @RequestBody(required = false) AcceptQuoteRequest request) {
-        String userId = (String) auth.getPrincipal();
+        String userId = auth.getName();
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(bookingService.acceptQuote(userId, quoteId, request));
     }
 
     @GetMapping("/api/bookings")
     public List<BookingResponse> getMyBookings(Authentication auth) {
-        String userId = (String) auth.getPrincipal();
-        return bookingService.getMyBookings(userId);
+        AuthenticatedUser user = (AuthenticatedUser) auth.getPrincipal();
+        return bookingService.getMyBookings(user);
+    }
+
+    //same JSON as getMyBookings, written row by row for long histories
+    @GetMapping(value = "/api/bookings", params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamMyBookings(Authentication auth) {
+        AuthenticatedUser user = (AuthenticatedUser) auth.getPrincipal();
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(historyStreamService.streamMyBookings(user));
+    }
+
+    //garage moves its booking to IN_PROGRESS, then COMPLETED
+    @PatchMapping("/api/bookings/{bookingId}/status")
+    @PreAuthorize("hasRole('GARAGE')")
+    public BookingResponse updateStatus(Authentication auth,
+                                        @PathVariable UUID bookingId,
+                                        @RequestBody UpdateBookingStatusRequest request) {
+        AuthenticatedUser user = (AuthenticatedUser) auth.getPrincipal();
+        return bookingService.updateStatus(user, bookingId, request);
     }
 }
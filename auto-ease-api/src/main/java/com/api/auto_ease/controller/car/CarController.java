@@ -24,14 +24,14 @@ public class CarController {
     @PreAuthorize("hasRole('CAR_OWNER')")
     public ResponseEntity<CarResponse> addCar(Authentication auth,
                                               @Valid @RequestBody CreateCarRequest request) {
-        String userId = (String) auth.getPrincipal();
+        String userId = auth.getName();
         return ResponseEntity.status(HttpStatus.CREATED).body(carService.addCar(userId, request));
     }
 
     @GetMapping("/api/cars")
     @PreAuthorize("hasRole('CAR_OWNER')")
     public List<CarResponse> getMyCars(Authentication auth) {
-        String userId = (String) auth.getPrincipal();
+        String userId = auth.getName();
         return carService.getMyCars(userId);
     }
 
@@ -40,7 +40,7 @@ public class CarController {
     public CarResponse updateCar(Authentication auth,
                                  @PathVariable Integer id,
                                  @RequestBody UpdateCarRequest request) {
-        String userId = (String) auth.getPrincipal();
+        String userId = auth.getName();
         return carService.updateCar(userId, id, request);
     }
 
@@ -48,7 +48,7 @@ public class CarController {
     @PreAuthorize("hasRole('CAR_OWNER')")
     public ResponseEntity<Void> deleteCar(Authentication auth,
                                           @PathVariable Integer id) {
-        String userId = (String) auth.getPrincipal();
+        String userId = auth.getName();
         carService.deleteCar(userId, id);
         return ResponseEntity.noContent().build();
     }
@@ -0,0 +1,20 @@
+package com.api.auto_ease.controller.car;
+
+import com.api.auto_ease.dto.car.VinDecodeResponse;
+import com.api.auto_ease.service.vin.VinDecodeService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class VinController {
+
+    private final VinDecodeService vinDecodeService;
+
+    @GetMapping("/api/vin/{vin}")
+    public VinDecodeResponse decodeVin(@PathVariable String vin) {
+        return vinDecodeService.decode(vin);
+    }
+}
@@ -0,0 +1,49 @@
+package com.api.auto_ease.controller.export;
+
+import com.api.auto_ease.repository.export.ExportTable;
+import com.api.auto_ease.service.export.MarketplaceExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+@RestController
+@RequiredArgsConstructor
+public class ExportController {
+
+    private final MarketplaceExportService marketplaceExportService;
+
+    //CSV of job-requests, quotes, bookings or reviews created in [from, to], streamed as it is read
+    @GetMapping("/api/exports/{table}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> export(
+            @PathVariable String table,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        ExportTable exportTable = marketplaceExportService.resolveTable(table);
+        marketplaceExportService.validateRange(from, to);
+
+        String filename = exportTable.slug()
+                + (from != null ? "-from-" + from : "") + (to != null ? "-to-" + to : "")
+                + (gzip ? ".csv.gz" : ".csv");
+        StreamingResponseBody body = out -> marketplaceExportService.export(exportTable, from, to, gzip, out);
+        return ResponseEntity.ok()
+                .contentType(gzip ? MediaType.parseMediaType("application/gzip")
+                        : new MediaType("text", "csv", StandardCharsets.UTF_8))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+}
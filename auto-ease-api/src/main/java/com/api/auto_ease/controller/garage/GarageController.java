@@ -1,17 +1,27 @@
 package com.api.auto_ease.controller.garage;
 
+import com.api.auto_ease.dto.garage.CacheRegionStatsResponse;
 import com.api.auto_ease.dto.garage.CreateGarageRequest;
+import com.api.auto_ease.dto.garage.GarageDashboardResponse;
 import com.api.auto_ease.dto.garage.GarageResponse;
+import com.api.auto_ease.dto.garage.GarageSearchHit;
+import com.api.auto_ease.dto.garage.GarageStatsRebuildResponse;
+import com.api.auto_ease.dto.garage.NearbyGarageResponse;
 import com.api.auto_ease.dto.garage.UpdateGarageRequest;
+import com.api.auto_ease.service.garage.GarageCacheStats;
 import com.api.auto_ease.service.garage.GarageService;
+import com.api.auto_ease.service.garage.GarageStatsRebuildJob;
+import com.api.auto_ease.service.garage.GarageStatsService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
@@ -20,38 +30,78 @@ import java.util.UUID;
 public class GarageController {
 
     private final GarageService garageService;
+    private final GarageStatsService garageStatsService;
+    private final GarageStatsRebuildJob garageStatsRebuildJob;
+    private final GarageCacheStats garageCacheStats;
 
     @PostMapping("/api/garages")
     @PreAuthorize("hasRole('GARAGE')")
     public ResponseEntity<GarageResponse> createGarage(Authentication auth,
                                                        @Valid @RequestBody CreateGarageRequest request) {
-        String userId = (String) auth.getPrincipal();
+        String userId = auth.getName();
         return ResponseEntity.status(HttpStatus.CREATED).body(garageService.createGarage(userId, request));
     }
 
     @GetMapping("/api/garages/me")
     @PreAuthorize("hasRole('GARAGE')")
     public GarageResponse getMyGarage(Authentication auth) {
-        String userId = (String) auth.getPrincipal();
+        String userId = auth.getName();
         return garageService.getMyGarage(userId);
     }
 
     @PutMapping("/api/garages/me")
     @PreAuthorize("hasRole('GARAGE')")
     public GarageResponse updateMyGarage(Authentication auth,
-                                         @RequestBody UpdateGarageRequest request) {
-        String userId = (String) auth.getPrincipal();
+                                         @Valid @RequestBody UpdateGarageRequest request) {
+        String userId = auth.getName();
         return garageService.updateGarage(userId, request);
     }
 
+    @GetMapping("/api/garages/me/dashboard")
+    @PreAuthorize("hasRole('GARAGE')")
+    public GarageDashboardResponse getMyDashboard(Authentication auth,
+                                                  @RequestParam(defaultValue = "30") int days) {
+        String userId = auth.getName();
+        return garageStatsService.getDashboard(userId, days);
+    }
+
     @GetMapping("/api/garages")
     public List<GarageResponse> listApprovedGarages() {
         return garageService.listApprovedGarages();
     }
 
+    @GetMapping("/api/garages/nearby")
+    public List<NearbyGarageResponse> findNearbyGarages(@RequestParam double lat,
+                                                        @RequestParam double lng,
+                                                        @RequestParam(defaultValue = "25") double radiusKm,
+                                                        @RequestParam(defaultValue = "20") int limit) {
+        return garageService.findNearbyGarages(lat, lng, radiusKm, limit);
+    }
+
+    @GetMapping("/api/garages/search")
+    public List<GarageSearchHit> searchGarages(@RequestParam String q,
+                                               @RequestParam(defaultValue = "20") int limit) {
+        return garageService.searchGarages(q, limit);
+    }
+
     @PatchMapping("/api/garages/{id}/approve")
     @PreAuthorize("hasRole('ADMIN')")
     public GarageResponse approveGarage(@PathVariable UUID id) {
         return garageService.approveGarage(id);
     }
+
+    //recounts the dashboard rollups for a date range, to today when no end is given
+    @PostMapping("/api/garages/stats/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public GarageStatsRebuildResponse rebuildStats(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return garageStatsRebuildJob.rebuild(from, to != null ? to : LocalDate.now());
+    }
+
+    @GetMapping("/api/garages/cache-stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public List<CacheRegionStatsResponse> getCacheStats() {
+        return garageCacheStats.regions();
+    }
 }
@@ -2,15 +2,22 @@ package com.api.auto_ease.controller.jobrequest;
 
 import com.api.auto_ease.dto.jobrequest.CreateJobRequestRequest;
 import com.api.auto_ease.dto.jobrequest.JobRequestResponse;
+import com.api.auto_ease.dto.jobrequest.JobRequestSearchResponse;
+import com.api.auto_ease.dto.jobrequest.MatchedJobRequestResponse;
+import com.api.auto_ease.dto.jobrequest.OpenJobRequestFilter;
+import com.api.auto_ease.dto.jobrequest.OpenJobRequestSearchResponse;
 import com.api.auto_ease.dto.jobrequest.UpdateJobRequestRequest;
+import com.api.auto_ease.service.history.HistoryStreamService;
 import com.api.auto_ease.service.jobrequest.JobRequestService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.UUID;
@@ -20,42 +27,77 @@ import java.util.UUID;
 public class JobRequestController {
 
     private final JobRequestService jobRequestService;
+    private final HistoryStreamService historyStreamService;
 
     @PostMapping("/api/job-requests")
     @PreAuthorize("hasRole('CAR_OWNER')")
     public ResponseEntity<JobRequestResponse> createJobRequest(Authentication auth,
                                                                 @Valid @RequestBody CreateJobRequestRequest request) {
-        String userId = (String) auth.getPrincipal();
+        String userId = auth.getName();
         return ResponseEntity.status(HttpStatus.CREATED).body(jobRequestService.createJobRequest(userId, request));
     }
 
     @GetMapping("/api/job-requests")
     @PreAuthorize("hasRole('CAR_OWNER')")
     public List<JobRequestResponse> getMyJobRequests(Authentication auth) {
-        String userId = (String) auth.getPrincipal();
+        String userId = auth.getName();
         return jobRequestService.getMyJobRequests(userId);
     }
 
+    //same JSON as getMyJobRequests, written row by row for long histories
+    @GetMapping(value = "/api/job-requests", params = "stream=true")
+    @PreAuthorize("hasRole('CAR_OWNER')")
+    public ResponseEntity<StreamingResponseBody> streamMyJobRequests(Authentication auth) {
+        String userId = auth.getName();
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(historyStreamService.streamMyJobRequests(userId));
+    }
+
     @GetMapping("/api/job-requests/{id}")
     @PreAuthorize("hasRole('CAR_OWNER')")
     public JobRequestResponse getJobRequest(Authentication auth,
                                              @PathVariable UUID id) {
-        String userId = (String) auth.getPrincipal();
+        String userId = auth.getName();
         return jobRequestService.getJobRequest(userId, id);
     }
 
     @GetMapping("/api/job-requests/open")
     @PreAuthorize("hasRole('GARAGE')")
-    public List<JobRequestResponse> getOpenJobRequests() {
-        return jobRequestService.getOpenJobRequests();
+    public List<JobRequestResponse> getOpenJobRequests(Authentication auth, OpenJobRequestFilter filter) {
+        String userId = auth.getName();
+        return jobRequestService.getOpenJobRequests(userId, filter);
+    }
+
+    @GetMapping("/api/job-requests/open/faceted")
+    @PreAuthorize("hasRole('GARAGE')")
+    public OpenJobRequestSearchResponse searchOpenJobRequests(Authentication auth, OpenJobRequestFilter filter) {
+        String userId = auth.getName();
+        return jobRequestService.searchOpenJobRequests(userId, filter);
+    }
+
+    @GetMapping("/api/job-requests/matched")
+    @PreAuthorize("hasRole('GARAGE')")
+    public List<MatchedJobRequestResponse> getMatchedJobRequests(Authentication auth,
+                                                                 @RequestParam(defaultValue = "20") int limit) {
+        String userId = auth.getName();
+        return jobRequestService.getMatchedJobRequests(userId, limit);
+    }
+
+    @GetMapping("/api/job-requests/search")
+    @PreAuthorize("hasRole('GARAGE')")
+    public JobRequestSearchResponse searchOpenJobRequestsByText(@RequestParam String q,
+                                                                @RequestParam(required = false) String cursor,
+                                                                @RequestParam(defaultValue = "20") int limit) {
+        return jobRequestService.searchOpenJobRequestsByText(q, cursor, limit);
     }
 
     @PutMapping("/api/job-requests/{id}")
     @PreAuthorize("hasRole('CAR_OWNER')")
     public JobRequestResponse updateJobRequest(Authentication auth,
                                                 @PathVariable UUID id,
-                                                @RequestBody UpdateJobRequestRequest request) {
-        String userId = (String) auth.getPrincipal();
+                                                @Valid @RequestBody UpdateJobRequestRequest request) {
+        String userId = auth.getName();
         return jobRequestService.updateJobRequest(userId, id, request);
     }
 
@@ -63,7 +105,7 @@ public class JobRequestController {
     @PreAuthorize("hasRole('CAR_OWNER')")
     public ResponseEntity<Void> deleteJobRequest(Authentication auth,
                                                   @PathVariable UUID id) {
-        String userId = (String) auth.getPrincipal();
+        String userId = auth.getName();
         jobRequestService.deleteJobRequest(userId, id);
         return ResponseEntity.noContent().build();
     }
@@ -15,14 +15,14 @@ public class ProfileController {
 
     @GetMapping("/api/profiles/me")
     public ProfileResponse getMyProfile(Authentication auth) {
-        String userId = (String) auth.getPrincipal();
+        String userId = auth.getName();
         return profileService.getProfile(userId);
     }
 
     @PutMapping("/api/profiles/me")
     public ProfileResponse updateMyProfile(Authentication auth,
                                           @RequestBody UpdateProfileRequest request) {
-        String userId = (String) auth.getPrincipal();
+        String userId = auth.getName();
         return profileService.updateProfile(userId, request);
     }
 }
@@ -1,15 +1,20 @@
 package com.api.auto_ease.controller.quote;
 
 import com.api.auto_ease.dto.quote.CreateQuoteRequest;
+import com.api.auto_ease.dto.quote.QuotePriceRangeResponse;
 import com.api.auto_ease.dto.quote.QuoteResponse;
+import com.api.auto_ease.security.AuthenticatedUser;
+import com.api.auto_ease.service.history.HistoryStreamService;
 import com.api.auto_ease.service.quote.QuoteService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.UUID;
@@ -19,28 +24,54 @@ import java.util.UUID;
 public class QuoteController {
 
     private final QuoteService quoteService;
+    private final HistoryStreamService historyStreamService;
 
     @PostMapping("/api/job-requests/{jobRequestId}/quotes")
     @PreAuthorize("hasRole('GARAGE')")
     public ResponseEntity<QuoteResponse> submitQuote(Authentication auth,
                                                       @PathVariable UUID jobRequestId,
                                                       @Valid @RequestBody CreateQuoteRequest request) {
-        String userId = (String) auth.getPrincipal();
-        return ResponseEntity.status(HttpStatus.CREATED).body(quoteService.submitQuote(userId, jobRequestId, request));
+        AuthenticatedUser user = (AuthenticatedUser) auth.getPrincipal();
+        return ResponseEntity.status(HttpStatus.CREATED).body(quoteService.submitQuote(user, jobRequestId, request));
     }
 
     @GetMapping("/api/job-requests/{jobRequestId}/quotes")
     @PreAuthorize("hasRole('CAR_OWNER')")
     public List<QuoteResponse> getQuotesForRequest(Authentication auth,
                                                    @PathVariable UUID jobRequestId) {
-        String userId = (String) auth.getPrincipal();
+        String userId = auth.getName();
         return quoteService.getQuotesForRequest(userId, jobRequestId);
     }
 
     @GetMapping("/api/quotes/mine")
     @PreAuthorize("hasRole('GARAGE')")
     public List<QuoteResponse> getMyQuotes(Authentication auth) {
-        String userId = (String) auth.getPrincipal();
-        return quoteService.getMyQuotes(userId);
+        AuthenticatedUser user = (AuthenticatedUser) auth.getPrincipal();
+        return quoteService.getMyQuotes(user);
+    }
+
+    //same JSON as getMyQuotes, written row by row for long histories
+    @GetMapping(value = "/api/quotes/mine", params = "stream=true")
+    @PreAuthorize("hasRole('GARAGE')")
+    public ResponseEntity<StreamingResponseBody> streamMyQuotes(Authentication auth) {
+        AuthenticatedUser user = (AuthenticatedUser) auth.getPrincipal();
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(historyStreamService.streamMyQuotes(user));
+    }
+
+    @GetMapping("/api/quotes/price-range")
+    public QuotePriceRangeResponse getTypicalPriceRange(@RequestParam(required = false) UUID categoryId,
+                                                        @RequestParam(required = false) UUID makeId,
+                                                        @RequestParam(required = false) Integer year) {
+        return quoteService.getTypicalPriceRange(categoryId, makeId, year);
+    }
+
+    @GetMapping("/api/job-requests/{jobRequestId}/price-range")
+    @PreAuthorize("hasRole('CAR_OWNER')")
+    public QuotePriceRangeResponse getTypicalPriceRangeForRequest(Authentication auth,
+                                                                  @PathVariable UUID jobRequestId) {
+        String userId = auth.getName();
+        return quoteService.getTypicalPriceRangeForRequest(userId, jobRequestId);
     }
 }
@@ -1,14 +1,23 @@
 package com.api.auto_ease.controller.referencedata;
 
+import com.api.auto_ease.dto.referencedata.CarCatalogImportResponse;
+import com.api.auto_ease.dto.referencedata.CarCatalogTypeaheadResponse;
 import com.api.auto_ease.dto.referencedata.CarMakeResponse;
 import com.api.auto_ease.dto.referencedata.CarModelResponse;
 import com.api.auto_ease.repository.carMake.CarMakeRepository;
 import com.api.auto_ease.repository.carModel.CarModelRepository;
+import com.api.auto_ease.service.referencedata.CarCatalogImportService;
+import com.api.auto_ease.service.referencedata.CarCatalogTypeahead;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.UUID;
 
@@ -18,6 +27,8 @@ public class CarMakeController {
 
     private final CarMakeRepository carMakeRepository;
     private final CarModelRepository carModelRepository;
+    private final CarCatalogTypeahead carCatalogTypeahead;
+    private final CarCatalogImportService carCatalogImportService;
 
     @GetMapping("/api/car-makes")
     public List<CarMakeResponse> listMakes() {
@@ -29,7 +40,22 @@ public class CarMakeController {
     @GetMapping("/api/car-makes/{makeId}/models")
     public List<CarModelResponse> listModels(@PathVariable UUID makeId) {
         return carModelRepository.findByMakeIdOrderByNameAsc(makeId).stream()
-                .map(model -> new CarModelResponse(model.getId(), model.getMakeId(), model.getName()))
+                .map(model -> new CarModelResponse(model.getId(), model.getMakeId(), model.getName(),
+                        model.getYearFrom(), model.getYearTo()))
                 .toList();
     }
+
+    @GetMapping("/api/car-makes/typeahead")
+    public CarCatalogTypeaheadResponse typeahead(@RequestParam(defaultValue = "") String q,
+                                                 @RequestParam(required = false) UUID makeId,
+                                                 @RequestParam(defaultValue = "10") int limit) {
+        return carCatalogTypeahead.lookup(q, makeId, limit);
+    }
+
+    //bulk catalog load, CSV with a make,model,year header
+    @PostMapping(value = "/api/car-makes/import", consumes = "text/csv")
+    @PreAuthorize("hasRole('ADMIN')")
+    public CarCatalogImportResponse importCatalog(InputStream body) throws IOException {
+        return carCatalogImportService.importCatalog(body);
+    }
 }
@@ -25,7 +25,7 @@ public class ReviewController {
     public ResponseEntity<ReviewResponse> createReview(Authentication auth,
                                                         @PathVariable UUID bookingId,
                                                         @Valid @RequestBody CreateReviewRequest request) {
-        String userId = (String) auth.getPrincipal();
+        String userId = auth.getName();
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(reviewService.createReview(userId, bookingId, request));
     }
@@ -1,19 +1,70 @@
 package com.api.auto_ease.controller.service;
 
 import com.api.auto_ease.domain.serviceEntry.ServiceEntry;
+import com.api.auto_ease.security.AuthenticatedUser;
+import com.api.auto_ease.service.serviceEntry.ServiceEntryQueueService;
 import com.api.auto_ease.service.serviceEntry.ServiceEntryService;
+import com.api.auto_ease.service.serviceEntry.dto.ServiceEntryImportResponse;
+import com.api.auto_ease.service.serviceEntry.importer.ServiceEntryImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+import java.io.InputStream;
+
 @RestController
+@RequiredArgsConstructor
 public class ServiceRestController {
 
-    private ServiceEntryService serviceEntryService;
-
+    private final ServiceEntryService serviceEntryService;
+    private final ServiceEntryImportService serviceEntryImportService;
+    private final ServiceEntryQueueService serviceEntryQueueService;
 
     //entry point for service entry request for users and service entry retrieval for mechanics
     @PostMapping(value = "/api/v1/processServiceEntry")
-    public ServiceEntry processServiceEntry(String uuid, Object payload) {
-        return serviceEntryService.processServiceEntry(uuid, payload);
+    public ServiceEntry processServiceEntry(Authentication auth, @RequestBody byte[] payload) {
+        AuthenticatedUser user = (AuthenticatedUser) auth.getPrincipal();
+        return serviceEntryService.processServiceEntry(user.role(), user.uuid(), payload);
+    }
+
+    //bulk import of service history, one JSON object per line
+    @PostMapping(value = "/api/v1/service-entries/import", consumes = "application/x-ndjson")
+    @PreAuthorize("hasRole('CAR_OWNER')")
+    public ServiceEntryImportResponse importServiceEntries(Authentication auth, InputStream body) throws IOException {
+        String userId = auth.getName();
+        return serviceEntryImportService.importEntries(userId, body);
+    }
+
+    //mechanic work queue: claim the highest-priority open entry, optionally for one car make
+    @PostMapping("/api/v1/service-entries/claim")
+    @PreAuthorize("hasRole('GARAGE')")
+    public ResponseEntity<ServiceEntry> claimNextServiceEntry(
+            Authentication auth,
+            @RequestParam(required = false) String carMake) {
+        String userId = auth.getName();
+        return serviceEntryQueueService.claimNext(userId, carMake)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+
+    @PostMapping("/api/v1/service-entries/{id}/renew")
+    @PreAuthorize("hasRole('GARAGE')")
+    public ServiceEntry renewServiceEntryLease(Authentication auth, @PathVariable Integer id) {
+        String userId = auth.getName();
+        return serviceEntryQueueService.renewLease(userId, id);
+    }
+
+    @PostMapping("/api/v1/service-entries/{id}/complete")
+    @PreAuthorize("hasRole('GARAGE')")
+    public ServiceEntry completeServiceEntry(Authentication auth, @PathVariable Integer id) {
+        String userId = auth.getName();
+        return serviceEntryQueueService.complete(userId, id);
     }
 }
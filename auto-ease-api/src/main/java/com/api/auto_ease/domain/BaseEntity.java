@@ -8,13 +8,20 @@ import lombok.Setter;
 
 import static java.time.LocalDateTime.now;
 
+/**
+ * Shared integer-keyed base for the V1 tables (CAR, SERVICE_ENTRY, RATING, DOCUMENT).
+ * <p>
+ * Ids come from one pooled sequence per entity ({@code car_seq}, {@code serviceentry_seq},
+ * {@code rating_seq}, {@code document_seq}, see V8) instead of IDENTITY columns, so Hibernate
+ * can hand out ids in memory and send inserts as JDBC batches.
+ */
 @MappedSuperclass
 @Getter
 @Setter
 public class BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     Integer id;
 
     @Column(name = "created_date")
@@ -1,5 +1,6 @@
 package com.api.auto_ease.domain.booking;
 
+import com.api.auto_ease.domain.id.GeneratedUuidV7;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -22,7 +23,7 @@ import static java.time.LocalDateTime.now;
 public class Booking {
 
     @Id
-    @GeneratedValue
+    @GeneratedUuidV7
     private UUID id;
 
     @Column(name = "quote_id", nullable = false, unique = true)
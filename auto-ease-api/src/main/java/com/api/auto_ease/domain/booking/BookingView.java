@@ -0,0 +1,64 @@
+package com.api.auto_ease.domain.booking;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * Read model row for the booking list, keyed by booking id (see V22). Written alongside the
+ * booking, its quote's garage and its job request; never the source of truth.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Entity
+@Table(name = "booking_view")
+public class BookingView {
+
+    @Id
+    @Column(name = "booking_id")
+    private UUID bookingId;
+
+    @Column(name = "quote_id", nullable = false)
+    private UUID quoteId;
+
+    @Column(name = "owner_user_id", nullable = false, length = 50)
+    private String ownerUserId;
+
+    @Column(name = "garage_id", nullable = false)
+    private UUID garageId;
+
+    @Column(name = "garage_name", length = 200)
+    private String garageName;
+
+    @Column(name = "job_title", length = 200)
+    private String jobTitle;
+
+    @Column(name = "price", precision = 10, scale = 2)
+    private BigDecimal price;
+
+    @Column(name = "scheduled_date")
+    private LocalDate scheduledDate;
+
+    @Column(name = "scheduled_time")
+    private LocalTime scheduledTime;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private BookingStatus status;
+
+    @Column(name = "notes")
+    private String notes;
+
+    @Column(name = "created_date", nullable = false)
+    private LocalDateTime createdDate;
+}
@@ -29,6 +29,12 @@ public class CarModel {
     @Column(name = "name", nullable = false, length = 100)
     private String name;
 
+    @Column(name = "year_from")
+    private Integer yearFrom;
+
+    @Column(name = "year_to")
+    private Integer yearTo;
+
     @Column(name = "created_date")
     private LocalDateTime createdDate;
 
@@ -1,11 +1,16 @@
 package com.api.auto_ease.domain.garage;
 
+import com.api.auto_ease.domain.id.GeneratedUuidV7;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.hibernate.type.SqlTypes;
 
 import java.math.BigDecimal;
@@ -20,13 +25,20 @@ import static java.time.LocalDateTime.now;
 @Setter
 @Entity
 @Table(name = "garages")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Garage.CACHE_REGION)
+@NaturalIdCache(region = Garage.NATURAL_ID_CACHE_REGION)
 public class Garage {
 
+    public static final String CACHE_REGION = "garage";
+    public static final String NATURAL_ID_CACHE_REGION = "garage-by-user";
+
     @Id
-    @GeneratedValue
+    @GeneratedUuidV7
     @Column(updatable = false)
     private UUID id;
 
+    @NaturalId
     @Column(name = "user_id", nullable = false, length = 50)
     private String userId;
 
@@ -55,6 +67,12 @@ public class Garage {
     @JdbcTypeCode(SqlTypes.ARRAY)
     private String[] services;
 
+    @Column(name = "latitude")
+    private Double latitude;
+
+    @Column(name = "longitude")
+    private Double longitude;
+
     @Column(name = "is_approved", nullable = false)
     private Boolean isApproved;
 
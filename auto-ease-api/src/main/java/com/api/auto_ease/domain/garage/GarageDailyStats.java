@@ -0,0 +1,48 @@
+package com.api.auto_ease.domain.garage;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Entity
+@Table(name = "garage_daily_stats")
+@IdClass(GarageDailyStatsId.class)
+public class GarageDailyStats {
+
+    @Id
+    @Column(name = "garage_id")
+    private UUID garageId;
+
+    @Id
+    @Column(name = "stat_date")
+    private LocalDate statDate;
+
+    @Column(name = "quotes_submitted", nullable = false)
+    private Integer quotesSubmitted;
+
+    @Column(name = "bookings", nullable = false)
+    private Integer bookings;
+
+    @Column(name = "revenue", nullable = false, precision = 12, scale = 2)
+    private BigDecimal revenue;
+
+    @Column(name = "reviews", nullable = false)
+    private Integer reviews;
+
+    @Column(name = "rating_sum", nullable = false)
+    private Integer ratingSum;
+}
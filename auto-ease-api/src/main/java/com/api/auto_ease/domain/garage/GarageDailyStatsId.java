@@ -0,0 +1,18 @@
+package com.api.auto_ease.domain.garage;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.UUID;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@EqualsAndHashCode
+public class GarageDailyStatsId implements Serializable {
+
+    private UUID garageId;
+    private LocalDate statDate;
+}
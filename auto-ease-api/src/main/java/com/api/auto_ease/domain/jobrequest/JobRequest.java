@@ -1,5 +1,6 @@
 package com.api.auto_ease.domain.jobrequest;
 
+import com.api.auto_ease.domain.id.GeneratedUuidV7;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -22,7 +23,7 @@ import static java.time.LocalDateTime.now;
 public class JobRequest {
 
     @Id
-    @GeneratedValue
+    @GeneratedUuidV7
     @Column(updatable = false)
     private UUID id;
 
@@ -67,12 +68,23 @@ public class JobRequest {
     @Column(name = "location_state", length = 100)
     private String locationState;
 
+    @Column(name = "location_lat")
+    private Double locationLat;
+
+    @Column(name = "location_lng")
+    private Double locationLng;
+
     @Column(name = "created_date")
     private LocalDateTime createdDate;
 
     @Column(name = "modified_date")
     private LocalDateTime modifiedDate;
 
+    // Only ever changed by JobRequestRepository.incrementQuoteCount, so saving a request loaded
+    // before a quote came in cannot write back a stale count
+    @Column(name = "quote_count", nullable = false, insertable = false, updatable = false)
+    private int quoteCount;
+
     @PrePersist
     void onPersist() {
         if (urgency == null) {
@@ -0,0 +1,88 @@
+package com.api.auto_ease.domain.jobrequest;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static java.time.LocalDateTime.now;
+
+/**
+ * The key is assigned, so the entity tells Spring Data whether it is new: saving a fresh
+ * match persists it straight away instead of merging, which would first SELECT the row.
+ */
+@NoArgsConstructor
+@Getter
+@Setter
+@Entity
+@Table(name = "job_request_matches")
+@IdClass(JobRequestMatchId.class)
+public class JobRequestMatch implements Persistable<JobRequestMatchId> {
+
+    @Id
+    @Column(name = "job_request_id")
+    private UUID jobRequestId;
+
+    @Id
+    @Column(name = "garage_id")
+    private UUID garageId;
+
+    @Column(name = "score", nullable = false)
+    private Double score;
+
+    @Column(name = "distance_km")
+    private Double distanceKm;
+
+    @Column(name = "created_date", nullable = false)
+    private LocalDateTime createdDate;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean isNew = true;
+
+    public JobRequestMatch(UUID jobRequestId, UUID garageId, Double score, Double distanceKm,
+                           LocalDateTime createdDate) {
+        this.jobRequestId = jobRequestId;
+        this.garageId = garageId;
+        this.score = score;
+        this.distanceKm = distanceKm;
+        this.createdDate = createdDate;
+    }
+
+    @Override
+    public JobRequestMatchId getId() {
+        return new JobRequestMatchId(jobRequestId, garageId);
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        isNew = false;
+    }
+
+    @PrePersist
+    void onPersist() {
+        if (createdDate == null) {
+            createdDate = now();
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.api.auto_ease.domain.jobrequest;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@EqualsAndHashCode
+public class JobRequestMatchId implements Serializable {
+
+    private UUID jobRequestId;
+    private UUID garageId;
+}
@@ -1,5 +1,6 @@
 package com.api.auto_ease.domain.quote;
 
+import com.api.auto_ease.domain.id.GeneratedUuidV7;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -21,7 +22,7 @@ import static java.time.LocalDateTime.now;
 public class Quote {
 
     @Id
-    @GeneratedValue
+    @GeneratedUuidV7
     @Column(updatable = false)
     private UUID id;
 
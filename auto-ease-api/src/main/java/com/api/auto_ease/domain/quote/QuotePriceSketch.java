@@ -0,0 +1,47 @@
+package com.api.auto_ease.domain.quote;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Entity
+@Table(name = "quote_price_sketches")
+public class QuotePriceSketch {
+
+    @Id
+    @Column(name = "cell_key", length = 120)
+    private String cellKey;
+
+    @Column(name = "category_id")
+    private UUID categoryId;
+
+    @Column(name = "make_id")
+    private UUID makeId;
+
+    @Column(name = "year_band")
+    private Integer yearBand;
+
+    @Column(name = "quote_count", nullable = false)
+    private Long quoteCount;
+
+    @Column(name = "sketch", nullable = false)
+    private byte[] sketch;
+
+    @Column(name = "applied_through", nullable = false)
+    private LocalDateTime appliedThrough;
+
+    @Column(name = "snapshot_date", nullable = false)
+    private LocalDateTime snapshotDate;
+}
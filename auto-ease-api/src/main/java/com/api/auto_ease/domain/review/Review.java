@@ -1,5 +1,6 @@
 package com.api.auto_ease.domain.review;
 
+import com.api.auto_ease.domain.id.GeneratedUuidV7;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -20,7 +21,7 @@ import static java.time.LocalDateTime.now;
 public class Review {
 
     @Id
-    @GeneratedValue
+    @GeneratedUuidV7
     @Column(updatable = false)
     private UUID id;
 
@@ -0,0 +1,13 @@
+package com.api.auto_ease.dto.booking;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UpdateBookingStatusRequest {
+
+    private String status;
+}
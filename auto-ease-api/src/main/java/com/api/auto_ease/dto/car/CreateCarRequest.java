@@ -1,6 +1,5 @@
 package com.api.auto_ease.dto.car;
 
-import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -12,17 +11,16 @@ import java.util.UUID;
 @AllArgsConstructor
 public class CreateCarRequest {
 
-    @NotNull
+    // makeId, modelId and year are required unless decodeVin fills them in
     private UUID makeId;
-
-    @NotNull
     private UUID modelId;
-
-    @NotNull
     private Integer year;
 
     private String color;
     private String licensePlate;
     private String vin;
     private Integer mileage;
+
+    // Decode vin and use it for any of makeId, modelId and year left empty
+    private boolean decodeVin;
 }
@@ -0,0 +1,27 @@
+package com.api.auto_ease.dto.car;
+
+import com.api.auto_ease.dto.referencedata.CarModelResponse;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VinDecodeResponse {
+
+    private String vin;
+    private boolean valid;
+    private boolean checkDigitMatches;
+    private String manufacturer;
+    private Integer modelYear;
+    private UUID makeId;
+    private String makeName;
+    // The decoded model line when the VDS is known, otherwise the make's models for the year
+    private List<CarModelResponse> candidateModels;
+}
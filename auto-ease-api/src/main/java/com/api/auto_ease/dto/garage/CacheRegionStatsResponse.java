@@ -0,0 +1,21 @@
+package com.api.auto_ease.dto.garage;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheRegionStatsResponse {
+
+    private String region;
+    private long hits;
+    private long misses;
+    private long puts;
+    // Hits over lookups since startup, null before the first lookup
+    private Double hitRate;
+    private long entries;
+}
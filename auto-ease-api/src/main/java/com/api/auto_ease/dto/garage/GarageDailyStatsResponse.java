@@ -0,0 +1,24 @@
+package com.api.auto_ease.dto.garage;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GarageDailyStatsResponse {
+
+    private LocalDate date;
+    private int quotesSubmitted;
+    private int bookings;
+    private BigDecimal revenue;
+    private int reviews;
+    // Average of the day's review ratings, null on days without reviews
+    private BigDecimal averageRating;
+}
@@ -0,0 +1,32 @@
+package com.api.auto_ease.dto.garage;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GarageDashboardResponse {
+
+    private UUID garageId;
+    private LocalDate from;
+    private LocalDate to;
+    private int quotesSubmitted;
+    private int bookings;
+    // Bookings over quotes submitted in the window, null when no quotes were submitted
+    private Double acceptanceRate;
+    private BigDecimal revenue;
+    private int reviews;
+    private BigDecimal averageRating;
+    private BigDecimal overallRating;
+    private int totalReviews;
+    private List<GarageDailyStatsResponse> days;
+}
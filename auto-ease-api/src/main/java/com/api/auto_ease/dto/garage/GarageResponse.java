@@ -1,5 +1,6 @@
 package com.api.auto_ease.dto.garage;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -24,7 +25,12 @@ public class GarageResponse {
     private String phone;
     private String description;
     private String[] services;
+    private Double latitude;
+    private Double longitude;
     private Boolean isApproved;
     private BigDecimal averageRating;
     private Integer totalReviews;
+    // Only set on creation: a fresh token that carries the new garage's id
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String token;
 }
@@ -0,0 +1,16 @@
+package com.api.auto_ease.dto.garage;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GarageSearchHit {
+
+    private GarageResponse garage;
+    private double score;
+}
@@ -0,0 +1,22 @@
+package com.api.auto_ease.dto.garage;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GarageStatsRebuildResponse {
+
+    private LocalDate from;
+    private LocalDate to;
+    private int chunks;
+    private int rowsDeleted;
+    private int rowsWritten;
+    private long durationMs;
+}
@@ -1,5 +1,7 @@
 package com.api.auto_ease.dto.jobrequest;
 
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
@@ -31,4 +33,12 @@ public class CreateJobRequestRequest {
     private String locationAddress;
     private String locationCity;
     private String locationState;
+
+    @DecimalMin("-90.0")
+    @DecimalMax("90.0")
+    private Double locationLat;
+
+    @DecimalMin("-180.0")
+    @DecimalMax("180.0")
+    private Double locationLng;
 }
@@ -10,7 +10,7 @@ import java.time.LocalDate;
 import java.util.UUID;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class JobRequestResponse {
@@ -32,5 +32,8 @@ public class JobRequestResponse {
     private String locationAddress;
     private String locationCity;
     private String locationState;
+    private Double locationLat;
+    private Double locationLng;
+    private Double distanceKm;
     private Integer quoteCount;
 }
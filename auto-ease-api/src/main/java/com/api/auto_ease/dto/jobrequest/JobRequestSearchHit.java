@@ -0,0 +1,18 @@
+package com.api.auto_ease.dto.jobrequest;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobRequestSearchHit {
+
+    private JobRequestResponse jobRequest;
+    private float rank;
+    // HTML-escaped text with matches wrapped in <mark> tags
+    private String snippet;
+}
@@ -0,0 +1,19 @@
+package com.api.auto_ease.dto.jobrequest;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobRequestSearchResponse {
+
+    private List<JobRequestSearchHit> results;
+    // Pass back as cursor for the next page; null on the last page
+    private String nextCursor;
+}
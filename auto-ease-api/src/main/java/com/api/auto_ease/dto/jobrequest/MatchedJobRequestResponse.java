@@ -0,0 +1,17 @@
+package com.api.auto_ease.dto.jobrequest;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatchedJobRequestResponse {
+
+    private JobRequestResponse jobRequest;
+    // Category fit x proximity x rating at the time the request was matched
+    private double score;
+}
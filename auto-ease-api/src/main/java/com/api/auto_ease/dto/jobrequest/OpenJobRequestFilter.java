@@ -0,0 +1,31 @@
+package com.api.auto_ease.dto.jobrequest;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OpenJobRequestFilter {
+
+    private UUID categoryId;
+    private String urgency;
+    private BigDecimal budgetMin;
+    private BigDecimal budgetMax;
+    private String city;
+    private String state;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate preferredFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate preferredTo;
+
+    private Double radiusKm;
+}
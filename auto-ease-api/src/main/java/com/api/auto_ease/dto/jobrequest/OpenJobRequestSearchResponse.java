@@ -0,0 +1,19 @@
+package com.api.auto_ease.dto.jobrequest;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OpenJobRequestSearchResponse {
+
+    private List<JobRequestResponse> jobRequests;
+    private List<FacetCount> categories;
+    private List<FacetCount> urgencies;
+}
@@ -1,5 +1,7 @@
 package com.api.auto_ease.dto.jobrequest;
 
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -23,4 +25,12 @@ public class UpdateJobRequestRequest {
     private String locationAddress;
     private String locationCity;
     private String locationState;
+
+    @DecimalMin("-90.0")
+    @DecimalMax("90.0")
+    private Double locationLat;
+
+    @DecimalMin("-180.0")
+    @DecimalMax("180.0")
+    private Double locationLng;
 }
@@ -0,0 +1,26 @@
+package com.api.auto_ease.dto.quote;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuotePriceRangeResponse {
+
+    // The cell the range comes from; makeId and the years are null when it spans all of them
+    private UUID categoryId;
+    private UUID makeId;
+    private Integer yearFrom;
+    private Integer yearTo;
+    private long quoteCount;
+    private BigDecimal low;
+    private BigDecimal median;
+    private BigDecimal high;
+}
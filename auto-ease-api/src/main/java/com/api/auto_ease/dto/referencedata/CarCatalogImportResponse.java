@@ -0,0 +1,21 @@
+package com.api.auto_ease.dto.referencedata;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CarCatalogImportResponse {
+
+    private long rowsRead;
+    private int rowsSkipped;
+    private int makesInserted;
+    private int modelsInserted;
+    private int modelsUpdated;
+    private long durationMs;
+    private long rowsPerSecond;
+}
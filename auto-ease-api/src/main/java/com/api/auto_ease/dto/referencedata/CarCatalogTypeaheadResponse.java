@@ -0,0 +1,18 @@
+package com.api.auto_ease.dto.referencedata;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CarCatalogTypeaheadResponse {
+
+    private List<CarMakeResponse> makes;
+    private List<CarModelResponse> models;
+}
@@ -14,4 +14,6 @@ public class CarModelResponse {
     private UUID id;
     private UUID makeId;
     private String name;
+    private Integer yearFrom;
+    private Integer yearTo;
 }
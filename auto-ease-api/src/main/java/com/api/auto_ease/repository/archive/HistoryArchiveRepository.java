@@ -0,0 +1,118 @@
+package com.api.auto_ease.repository.archive;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Moves closed job requests and their quotes from the live tables into the monthly
+ * partitioned {@code job_requests_archive} and {@code quotes_archive} (see V20).
+ * <p>
+ * Every method runs inside the caller's transaction: the batch locked by
+ * {@link #lockClosedBefore} is moved by {@link #moveQuotes} and {@link #moveJobRequests} in the
+ * same transaction, so a request and its quotes are never split between live and archive.
+ */
+@Repository
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class HistoryArchiveRepository {
+
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Locks up to {@code limit} booked, completed or cancelled requests last changed before
+     * {@code cutoff}, oldest first. Requests with a booking still in progress are left alone,
+     * and rows locked by another transaction are skipped.
+     */
+    public List<UUID> lockClosedBefore(OffsetDateTime cutoff, int limit) {
+        return jdbcTemplate.queryForList("""
+                SELECT j.id
+                FROM job_requests j
+                WHERE j.status IN ('BOOKED', 'COMPLETED', 'CANCELLED')
+                  AND j.modified_date < ?
+                  AND NOT EXISTS (
+                      SELECT 1 FROM quotes q JOIN bookings b ON b.quote_id = q.id
+                      WHERE q.job_request_id = j.id AND b.status = 'IN_PROGRESS')
+                ORDER BY j.modified_date
+                LIMIT ?
+                FOR UPDATE OF j SKIP LOCKED
+                """, UUID.class, cutoff, limit);
+    }
+
+    /**
+     * Creates the archive partitions for every month (UTC) the requests or their quotes were
+     * created in, unless they exist already.
+     */
+    public void ensurePartitions(List<UUID> jobRequestIds) {
+        List<LocalDate> months = jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement("""
+                    SELECT CAST(date_trunc('month', created_date AT TIME ZONE 'UTC') AS date)
+                    FROM job_requests WHERE id = ANY(?)
+                    UNION
+                    SELECT CAST(date_trunc('month', created_date AT TIME ZONE 'UTC') AS date)
+                    FROM quotes WHERE job_request_id = ANY(?)
+                    """);
+            statement.setArray(1, connection.createArrayOf("uuid", jobRequestIds.toArray()));
+            statement.setArray(2, connection.createArrayOf("uuid", jobRequestIds.toArray()));
+            return statement;
+        }, (rs, rowNum) -> rs.getObject(1, LocalDate.class));
+
+        for (LocalDate month : months) {
+            for (String table : List.of("job_requests_archive", "quotes_archive")) {
+                jdbcTemplate.execute("""
+                        CREATE TABLE IF NOT EXISTS %s_%s PARTITION OF %s
+                            FOR VALUES FROM ('%s 00:00:00+00') TO ('%s 00:00:00+00')
+                        """.formatted(table, month.format(PARTITION_SUFFIX), table, month, month.plusMonths(1)));
+            }
+        }
+    }
+
+    public int moveQuotes(List<UUID> jobRequestIds) {
+        return move("""
+                WITH moved AS (
+                    DELETE FROM quotes WHERE job_request_id = ANY(?)
+                    RETURNING id, job_request_id, garage_id, price, estimated_duration, description,
+                              warranty_info, status, expires_at, created_date, modified_date
+                )
+                INSERT INTO quotes_archive (id, job_request_id, garage_id, price, estimated_duration, description,
+                                            warranty_info, status, expires_at, created_date, modified_date)
+                SELECT * FROM moved
+                """, jobRequestIds);
+    }
+
+    // Run after moveQuotes, which frees the requests from fk_quotes_job_request
+    public int moveJobRequests(List<UUID> jobRequestIds) {
+        return move("""
+                WITH moved AS (
+                    DELETE FROM job_requests WHERE id = ANY(?)
+                    RETURNING id, user_id, car_id, category_id, title, description, urgency, preferred_date,
+                              budget_min, budget_max, status, location_address, location_city, location_state,
+                              location_lat, location_lng, created_date, modified_date, quote_count
+                )
+                INSERT INTO job_requests_archive (id, user_id, car_id, category_id, title, description, urgency,
+                                                  preferred_date, budget_min, budget_max, status, location_address,
+                                                  location_city, location_state, location_lat, location_lng,
+                                                  created_date, modified_date, quote_count)
+                SELECT * FROM moved
+                """, jobRequestIds);
+    }
+
+    private int move(String sql, List<UUID> jobRequestIds) {
+        return jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            statement.setArray(1, connection.createArrayOf("uuid", jobRequestIds.toArray()));
+            return statement;
+        });
+    }
+}
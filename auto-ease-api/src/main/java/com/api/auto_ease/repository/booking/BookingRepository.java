@@ -1,7 +1,11 @@
 package com.api.auto_ease.repository.booking;
 
 import com.api.auto_ease.domain.booking.Booking;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -16,4 +20,10 @@ public interface BookingRepository extends JpaRepository<Booking, UUID> {
     List<Booking> findByQuoteIdIn(List<UUID> quoteIds);
 
     boolean existsByQuoteId(UUID quoteId);
+
+    // Status changes: concurrent moves of the same booking run one after the other, so each
+    // checks the transition against the status the previous one committed
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM Booking b WHERE b.id = :id")
+    Optional<Booking> lockById(@Param("id") UUID id);
 }
@@ -0,0 +1,34 @@
+package com.api.auto_ease.repository.booking;
+
+import com.api.auto_ease.domain.booking.BookingView;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface BookingViewRepository extends JpaRepository<BookingView, UUID> {
+
+    // Walks idx_booking_view_owner_created
+    List<BookingView> findByOwnerUserIdOrderByCreatedDateDescBookingIdDesc(String ownerUserId);
+
+    // Walks idx_booking_view_garage_created
+    List<BookingView> findByGarageIdOrderByCreatedDateDescBookingIdDesc(UUID garageId);
+
+    // Every column is written back on flush, so a row being changed is locked first; otherwise
+    // a concurrent renameGarage would be overwritten with the name read before it
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT v FROM BookingView v WHERE v.bookingId = :bookingId")
+    Optional<BookingView> lockById(@Param("bookingId") UUID bookingId);
+
+    @Modifying
+    @Query("UPDATE BookingView v SET v.garageName = :garageName WHERE v.garageId = :garageId")
+    int renameGarage(@Param("garageId") UUID garageId, @Param("garageName") String garageName);
+}
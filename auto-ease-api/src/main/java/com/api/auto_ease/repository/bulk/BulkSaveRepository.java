@@ -0,0 +1,46 @@
+package com.api.auto_ease.repository.bulk;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Bulk insert path for sequence-keyed entities.
+ * <p>
+ * Entities are persisted in chunks of {@code hibernate.jdbc.batch_size}; every chunk is flushed
+ * as ordered JDBC batches (rewritten by the PostgreSQL driver into multi-row inserts) and then
+ * detached, so the persistence context never grows beyond one chunk.
+ */
+@Repository
+public class BulkSaveRepository {
+
+    private final EntityManager entityManager;
+    private final int batchSize;
+
+    public BulkSaveRepository(
+            EntityManager entityManager,
+            @Value("${spring.jpa.properties.hibernate.jdbc.batch_size}") int batchSize) {
+        this.entityManager = entityManager;
+        this.batchSize = batchSize;
+    }
+
+    @Transactional
+    public <T> int saveAll(Iterable<T> entities) {
+        int count = 0;
+        for (T entity : entities) {
+            entityManager.persist(entity);
+            if (++count % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return count;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+}
@@ -0,0 +1,125 @@
+package com.api.auto_ease.repository.carCatalog;
+
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.Reader;
+import java.sql.SQLException;
+
+/**
+ * Set-based car catalog load: rows are streamed with {@code COPY} into a temporary staging
+ * table and merged into {@code car_makes}/{@code car_models} with a handful of statements.
+ * <p>
+ * The staging tables are dropped on commit, so every method must run inside the caller's
+ * transaction on the same connection.
+ */
+@Repository
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class CarCatalogCopyRepository {
+
+    public static final int MIN_YEAR = 1886;
+    public static final int MAX_YEAR = 2100;
+
+    private static final String COPY_SQL =
+            "COPY car_catalog_staging (make, model, year) FROM STDIN WITH (FORMAT csv, HEADER MATCH)";
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Serialises imports: two concurrent merges would race on inserting the same make.
+     */
+    public void lockCatalog() {
+        jdbcTemplate.execute("SELECT pg_advisory_xact_lock(hashtext('car_catalog_import'))");
+    }
+
+    public void createStagingTable() {
+        jdbcTemplate.execute("""
+                CREATE TEMP TABLE car_catalog_staging (
+                    make  TEXT,
+                    model TEXT,
+                    year  INTEGER
+                ) ON COMMIT DROP
+                """);
+    }
+
+    /**
+     * Streams CSV with a {@code make,model,year} header into the staging table and returns the row count.
+     */
+    public long copyIntoStaging(Reader csv) throws SQLException, IOException {
+        PGConnection connection = DataSourceUtils.getConnection(dataSource).unwrap(PGConnection.class);
+        long rows = connection.getCopyAPI().copyIn(COPY_SQL, csv);
+        jdbcTemplate.execute("ANALYZE car_catalog_staging");
+        return rows;
+    }
+
+    /**
+     * Collapses staged rows to one per (make, model), ignoring case and surrounding blanks,
+     * with the model's year range. Returns the number of staged rows that were unusable.
+     */
+    public int prepareMerge() {
+        jdbcTemplate.execute("""
+                CREATE TEMP TABLE car_catalog_merge ON COMMIT DROP AS
+                SELECT min(trim(make)) AS make, min(trim(model)) AS model,
+                       min(year) AS year_from, max(year) AS year_to
+                FROM car_catalog_staging
+                WHERE trim(make) <> '' AND length(trim(make)) <= 100
+                  AND trim(model) <> '' AND length(trim(model)) <= 100
+                  AND (year IS NULL OR year BETWEEN %d AND %d)
+                GROUP BY lower(trim(make)), lower(trim(model))
+                """.formatted(MIN_YEAR, MAX_YEAR));
+        Integer skipped = jdbcTemplate.queryForObject("""
+                SELECT count(*) FROM car_catalog_staging
+                WHERE make IS NULL OR trim(make) = '' OR length(trim(make)) > 100
+                   OR model IS NULL OR trim(model) = '' OR length(trim(model)) > 100
+                   OR year NOT BETWEEN %d AND %d
+                """.formatted(MIN_YEAR, MAX_YEAR), Integer.class);
+        return skipped == null ? 0 : skipped;
+    }
+
+    public int insertMissingMakes() {
+        return jdbcTemplate.update("""
+                INSERT INTO car_makes (name)
+                SELECT DISTINCT ON (lower(s.make)) s.make
+                FROM car_catalog_merge s
+                WHERE NOT EXISTS (SELECT 1 FROM car_makes m WHERE lower(m.name) = lower(s.make))
+                ORDER BY lower(s.make), s.make
+                """);
+    }
+
+    /**
+     * Widens the year range of models that already exist; returns how many changed.
+     */
+    public int widenExistingModelYears() {
+        return jdbcTemplate.update("""
+                UPDATE car_models c
+                SET year_from = LEAST(c.year_from, s.year_from),
+                    year_to = GREATEST(c.year_to, s.year_to)
+                FROM car_catalog_merge s
+                JOIN car_makes m ON lower(m.name) = lower(s.make)
+                WHERE c.make_id = m.id AND lower(c.name) = lower(s.model)
+                  AND (c.year_from IS DISTINCT FROM LEAST(c.year_from, s.year_from)
+                       OR c.year_to IS DISTINCT FROM GREATEST(c.year_to, s.year_to))
+                """);
+    }
+
+    public int insertMissingModels() {
+        return jdbcTemplate.update("""
+                INSERT INTO car_models (make_id, name, year_from, year_to)
+                SELECT m.id, s.model, s.year_from, s.year_to
+                FROM car_catalog_merge s
+                JOIN car_makes m ON lower(m.name) = lower(s.make)
+                WHERE NOT EXISTS (
+                    SELECT 1 FROM car_models c WHERE c.make_id = m.id AND lower(c.name) = lower(s.model)
+                )
+                """);
+    }
+}
@@ -2,11 +2,22 @@ package com.api.auto_ease.repository.carMake;
 
 import com.api.auto_ease.domain.carMake.CarMake;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface CarMakeRepository extends JpaRepository<CarMake, UUID> {
 
     List<CarMake> findAllByOrderByNameAsc();
+
+    Optional<CarMake> findByNameIgnoreCase(String name);
+
+    // Changes whenever a row is added, removed or renamed; used to rebuild the typeahead
+    @Query(value = "SELECT coalesce(md5(string_agg("
+            + "CAST(id AS text) || '|' || name, ',' ORDER BY id)), '') "
+            + "FROM car_makes",
+            nativeQuery = true)
+    String catalogChecksum();
 }
@@ -2,11 +2,22 @@ package com.api.auto_ease.repository.carModel;
 
 import com.api.auto_ease.domain.carModel.CarModel;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface CarModelRepository extends JpaRepository<CarModel, UUID> {
 
     List<CarModel> findByMakeIdOrderByNameAsc(UUID makeId);
+
+    Optional<CarModel> findByMakeIdAndNameIgnoreCase(UUID makeId, String name);
+
+    // Changes whenever a row is added, removed or renamed; used to rebuild the typeahead
+    @Query(value = "SELECT coalesce(md5(string_agg("
+            + "CAST(id AS text) || '|' || CAST(make_id AS text) || '|' || name, ',' ORDER BY id)), '') "
+            + "FROM car_models",
+            nativeQuery = true)
+    String catalogChecksum();
 }
@@ -0,0 +1,65 @@
+package com.api.auto_ease.repository.export;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * The marketplace tables ops can export, with the columns written and the timestamp the
+ * date-range filter applies to. Bookings carry their quote's garage, job request and price so
+ * accounting does not need a second file to join against. Job requests and quotes are read
+ * through the history views so archived rows are exported too.
+ */
+public enum ExportTable {
+
+    JOB_REQUESTS("job-requests", """
+            SELECT j.id, j.user_id, j.car_id, j.category_id, j.title, j.description, j.urgency,
+                   j.preferred_date, j.budget_min, j.budget_max, j.status, j.location_city,
+                   j.location_state, j.created_date, j.modified_date
+            FROM job_request_history j
+            """, "j.created_date"),
+
+    QUOTES("quotes", """
+            SELECT q.id, q.job_request_id, q.garage_id, q.price, q.estimated_duration, q.description,
+                   q.warranty_info, q.status, q.expires_at, q.created_date, q.modified_date
+            FROM quote_history q
+            """, "q.created_date"),
+
+    BOOKINGS("bookings", """
+            SELECT b.id, b.quote_id, q.job_request_id, q.garage_id, q.price, b.scheduled_date,
+                   b.scheduled_time, b.status, b.notes, b.created_date, b.modified_date
+            FROM bookings b
+            JOIN quote_history q ON q.id = b.quote_id
+            """, "b.created_date"),
+
+    REVIEWS("reviews", """
+            SELECT r.id, r.booking_id, r.garage_id, r.user_id, r.rating, r.comment,
+                   r.created_date, r.modified_date
+            FROM reviews r
+            """, "r.created_date");
+
+    private final String slug;
+    private final String select;
+    private final String dateColumn;
+
+    ExportTable(String slug, String select, String dateColumn) {
+        this.slug = slug;
+        this.select = select;
+        this.dateColumn = dateColumn;
+    }
+
+    public String slug() {
+        return slug;
+    }
+
+    String select() {
+        return select;
+    }
+
+    String dateColumn() {
+        return dateColumn;
+    }
+
+    public static Optional<ExportTable> fromSlug(String slug) {
+        return Arrays.stream(values()).filter(table -> table.slug.equals(slug)).findFirst();
+    }
+}
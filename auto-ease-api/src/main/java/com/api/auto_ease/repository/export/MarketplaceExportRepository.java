@@ -0,0 +1,58 @@
+package com.api.auto_ease.repository.export;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads an {@link ExportTable} through a forward-only JDBC cursor, bypassing JPA entirely.
+ * <p>
+ * The PostgreSQL driver only fetches in batches of {@value #FETCH_SIZE} rows when autocommit
+ * is off; otherwise it reads the whole result into memory. Every method therefore runs inside
+ * the caller's transaction.
+ */
+@Repository
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class MarketplaceExportRepository {
+
+    static final int FETCH_SIZE = 5_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Runs the export query for rows created in [from, to), a null bound leaving that side
+     * open, and hands the forward-only result set to {@code extractor}.
+     */
+    public <T> T stream(ExportTable table, OffsetDateTime from, OffsetDateTime to, ResultSetExtractor<T> extractor) {
+        StringBuilder sql = new StringBuilder(table.select());
+        List<Object> args = new ArrayList<>(2);
+        if (from != null) {
+            sql.append("WHERE ").append(table.dateColumn()).append(" >= ? ");
+            args.add(from);
+        }
+        if (to != null) {
+            sql.append(args.isEmpty() ? "WHERE " : "AND ").append(table.dateColumn()).append(" < ? ");
+            args.add(to);
+        }
+
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql.toString(),
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(FETCH_SIZE);
+            for (int i = 0; i < args.size(); i++) {
+                statement.setObject(i + 1, args.get(i));
+            }
+            return statement;
+        }, extractor);
+    }
+}
@@ -0,0 +1,44 @@
+package com.api.auto_ease.repository.garage;
+
+import com.api.auto_ease.domain.garage.GarageDailyStats;
+import com.api.auto_ease.domain.garage.GarageDailyStatsId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface GarageDailyStatsRepository extends JpaRepository<GarageDailyStats, GarageDailyStatsId> {
+
+    List<GarageDailyStats> findByGarageIdAndStatDateBetweenOrderByStatDate(UUID garageId, LocalDate from, LocalDate to);
+
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM garage_daily_stats)", nativeQuery = true)
+    boolean existsAny();
+
+    // Adds the deltas to the garage's row for the day, creating it on first use. Runs in the
+    // caller's transaction so the rollup commits or rolls back with the change it counts.
+    @Modifying
+    @Query(value = """
+            INSERT INTO garage_daily_stats (garage_id, stat_date, quotes_submitted, bookings, revenue, reviews, rating_sum)
+            VALUES (:garageId, :statDate, :quotes, :bookings, :revenue, :reviews, :ratingSum)
+            ON CONFLICT (garage_id, stat_date) DO UPDATE SET
+                quotes_submitted = garage_daily_stats.quotes_submitted + EXCLUDED.quotes_submitted,
+                bookings = garage_daily_stats.bookings + EXCLUDED.bookings,
+                revenue = garage_daily_stats.revenue + EXCLUDED.revenue,
+                reviews = garage_daily_stats.reviews + EXCLUDED.reviews,
+                rating_sum = garage_daily_stats.rating_sum + EXCLUDED.rating_sum
+            """, nativeQuery = true)
+    void increment(@Param("garageId") UUID garageId,
+                   @Param("statDate") LocalDate statDate,
+                   @Param("quotes") int quotes,
+                   @Param("bookings") int bookings,
+                   @Param("revenue") BigDecimal revenue,
+                   @Param("reviews") int reviews,
+                   @Param("ratingSum") int ratingSum);
+}
@@ -0,0 +1,70 @@
+package com.api.auto_ease.repository.garage;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+
+/**
+ * Set-based rebuild of {@code garage_daily_stats} for a date range from quotes, bookings and
+ * reviews. Days are taken in the JVM time zone, the same one the live increments use.
+ * <p>
+ * {@link #lockForRebuild()} must come first and every method must run inside the caller's
+ * transaction, so the delete and re-insert of a range are atomic with respect to live increments.
+ */
+@Repository
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class GarageDailyStatsRollupRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Blocks live increments until commit and waits for in-flight ones to commit first, so the
+     * rebuild sees every quote, booking and review already counted and none is counted twice.
+     * Also serialises concurrent rebuilds.
+     */
+    public void lockForRebuild() {
+        jdbcTemplate.execute("LOCK TABLE garage_daily_stats IN SHARE ROW EXCLUSIVE MODE");
+    }
+
+    public int deleteRange(LocalDate from, LocalDate to) {
+        return jdbcTemplate.update("DELETE FROM garage_daily_stats WHERE stat_date BETWEEN ? AND ?", from, to);
+    }
+
+    /**
+     * Recounts every garage day in [from, to] in one pass over the three sources and returns
+     * the number of rows written. The range must have been deleted first.
+     */
+    public int insertRange(LocalDate from, LocalDate to) {
+        ZoneId zone = ZoneId.systemDefault();
+        String zoneId = zone.getId();
+        OffsetDateTime start = from.atStartOfDay(zone).toOffsetDateTime();
+        OffsetDateTime end = to.plusDays(1).atStartOfDay(zone).toOffsetDateTime();
+        return jdbcTemplate.update("""
+                INSERT INTO garage_daily_stats (garage_id, stat_date, quotes_submitted, bookings, revenue, reviews, rating_sum)
+                SELECT garage_id, stat_date, sum(quotes), sum(bookings), sum(revenue), sum(reviews), sum(rating)
+                FROM (
+                    SELECT q.garage_id, (q.created_date AT TIME ZONE CAST(? AS TEXT))::date AS stat_date,
+                           1 AS quotes, 0 AS bookings, 0 AS revenue, 0 AS reviews, 0 AS rating
+                    FROM quote_history q
+                    WHERE q.created_date >= ? AND q.created_date < ?
+                    UNION ALL
+                    SELECT q.garage_id, (b.created_date AT TIME ZONE CAST(? AS TEXT))::date, 0, 1, q.price, 0, 0
+                    FROM bookings b
+                    JOIN quote_history q ON q.id = b.quote_id
+                    WHERE b.created_date >= ? AND b.created_date < ?
+                    UNION ALL
+                    SELECT r.garage_id, (r.created_date AT TIME ZONE CAST(? AS TEXT))::date, 0, 0, 0, 1, r.rating
+                    FROM reviews r
+                    WHERE r.created_date >= ? AND r.created_date < ?
+                ) activity
+                GROUP BY garage_id, stat_date
+                """, zoneId, start, end, zoneId, start, end, zoneId, start, end);
+    }
+}
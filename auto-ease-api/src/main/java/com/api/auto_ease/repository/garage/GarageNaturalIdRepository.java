@@ -0,0 +1,14 @@
+package com.api.auto_ease.repository.garage;
+
+import com.api.auto_ease.domain.garage.Garage;
+
+import java.util.Optional;
+
+public interface GarageNaturalIdRepository {
+
+    /**
+     * Loads a garage by its owner through the natural-id cache, so repeat lookups for the same
+     * user skip the database.
+     */
+    Optional<Garage> findByUserId(String userId);
+}
@@ -0,0 +1,25 @@
+package com.api.auto_ease.repository.garage;
+
+import com.api.auto_ease.domain.garage.Garage;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+// A derived findByUserId query would bypass the second-level cache; a natural-id load resolves
+// user id -> garage id from the natural-id region and the garage from the entity region.
+@Transactional(readOnly = true)
+class GarageNaturalIdRepositoryImpl implements GarageNaturalIdRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<Garage> findByUserId(String userId) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Garage.class)
+                .loadOptional(userId);
+    }
+}
@@ -1,7 +1,11 @@
 package com.api.auto_ease.repository.garage;
 
 import com.api.auto_ease.domain.garage.Garage;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -9,11 +13,20 @@ import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface GarageRepository extends JpaRepository<Garage, UUID> {
-
-    Optional<Garage> findByUserId(String userId);
+public interface GarageRepository extends JpaRepository<Garage, UUID>, GarageNaturalIdRepository {
 
     boolean existsByUserId(String userId);
 
     List<Garage> findByIsApprovedTrue();
+
+    // FOR SHARE: holds off a rename of the garage until the caller commits, so a name copied
+    // into booking_view is either renamed with the rest or already the new one
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT g FROM Garage g WHERE g.id = :id")
+    Optional<Garage> findForShareById(@Param("id") UUID id);
+
+    // Tokens issued before the garage was created carry no garageId, so fall back to the owner
+    default Optional<Garage> findOwnGarage(UUID garageId, String userId) {
+        return garageId != null ? findById(garageId) : findByUserId(userId);
+    }
 }
@@ -0,0 +1,88 @@
+package com.api.auto_ease.repository.history;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.UUID;
+
+/**
+ * Newest-first histories read row by row from a forward-only JDBC cursor for the streamed
+ * list endpoints. Each query already joins in what the list response shows, so a row maps to
+ * one JSON object with no further lookups and no entities are loaded.
+ * <p>
+ * Methods open their own read-only transaction, which the PostgreSQL driver needs to fetch
+ * in batches of {@value #FETCH_SIZE} rather than reading the whole result up front.
+ */
+@Repository
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class HistoryStreamRepository {
+
+    static final int FETCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Walks idx_quotes_garage_created and its archive counterpart
+    public void streamGarageQuotes(UUID garageId, RowCallbackHandler handler) {
+        stream("""
+                SELECT q.id, q.job_request_id, q.garage_id, q.price, q.estimated_duration, q.description,
+                       q.warranty_info, q.status
+                FROM quote_history q
+                WHERE q.garage_id = ?
+                ORDER BY q.created_date DESC
+                """, handler, garageId);
+    }
+
+    /**
+     * Bookings on the owner's job requests, then bookings of the garage (when given) that are
+     * not on the owner's own requests. Both walk an index of {@code booking_view}.
+     */
+    public void streamBookings(String ownerUserId, UUID garageId, RowCallbackHandler handler) {
+        String select = """
+                SELECT booking_id, quote_id, garage_id, garage_name, job_title, price,
+                       scheduled_date, scheduled_time, status, notes
+                FROM booking_view
+                """;
+        stream(select + "WHERE owner_user_id = ? ORDER BY created_date DESC, booking_id DESC",
+                handler, ownerUserId);
+        if (garageId != null) {
+            stream(select + "WHERE garage_id = ? AND owner_user_id <> ? ORDER BY created_date DESC, booking_id DESC",
+                    handler, garageId, ownerUserId);
+        }
+    }
+
+    // Walks idx_job_requests_user_created and its archive counterpart
+    public void streamOwnerJobRequests(String userId, RowCallbackHandler handler) {
+        stream("""
+                SELECT j.id, j.car_id, m.name AS make_name, mo.name AS model_name, c.year AS car_year,
+                       j.category_id, sc.name AS category_name, j.title, j.description, j.urgency,
+                       j.preferred_date, j.budget_min, j.budget_max, j.status, j.location_address,
+                       j.location_city, j.location_state, j.location_lat, j.location_lng,
+                       j.quote_count
+                FROM job_request_history j
+                LEFT JOIN CAR c ON c.id = j.car_id
+                LEFT JOIN car_makes m ON m.id = c.make_id
+                LEFT JOIN car_models mo ON mo.id = c.model_id
+                LEFT JOIN service_categories sc ON sc.id = j.category_id
+                WHERE j.user_id = ?
+                ORDER BY j.created_date DESC
+                """, handler, userId);
+    }
+
+    private void stream(String sql, RowCallbackHandler handler, Object... args) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(FETCH_SIZE);
+            for (int i = 0; i < args.length; i++) {
+                statement.setObject(i + 1, args[i]);
+            }
+            return statement;
+        }, handler);
+    }
+}
@@ -0,0 +1,18 @@
+package com.api.auto_ease.repository.jobrequest;
+
+import com.api.auto_ease.domain.jobrequest.JobRequest;
+import com.api.auto_ease.domain.jobrequest.Urgency;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Map;
+import java.util.UUID;
+
+public interface JobRequestFacetRepository {
+
+    /**
+     * Matching job requests per category. Requests without a category are counted under a null key.
+     */
+    Map<UUID, Long> countByCategory(Specification<JobRequest> spec);
+
+    Map<Urgency, Long> countByUrgency(Specification<JobRequest> spec);
+}
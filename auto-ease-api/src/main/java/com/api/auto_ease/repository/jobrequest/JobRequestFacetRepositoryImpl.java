@@ -0,0 +1,52 @@
+package com.api.auto_ease.repository.jobrequest;
+
+import com.api.auto_ease.domain.jobrequest.JobRequest;
+import com.api.auto_ease.domain.jobrequest.Urgency;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+class JobRequestFacetRepositoryImpl implements JobRequestFacetRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Map<UUID, Long> countByCategory(Specification<JobRequest> spec) {
+        return countBy(spec, "categoryId", UUID.class);
+    }
+
+    @Override
+    public Map<Urgency, Long> countByUrgency(Specification<JobRequest> spec) {
+        return countBy(spec, "urgency", Urgency.class);
+    }
+
+    private <K> Map<K, Long> countBy(Specification<JobRequest> spec, String attribute, Class<K> keyType) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Object[]> query = cb.createQuery(Object[].class);
+        Root<JobRequest> root = query.from(JobRequest.class);
+        Path<K> key = root.get(attribute);
+
+        query.multiselect(key, cb.count(root));
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.groupBy(key);
+
+        Map<K, Long> counts = new LinkedHashMap<>();
+        for (Object[] row : entityManager.createQuery(query).getResultList()) {
+            counts.put(keyType.cast(row[0]), (Long) row[1]);
+        }
+        return counts;
+    }
+}
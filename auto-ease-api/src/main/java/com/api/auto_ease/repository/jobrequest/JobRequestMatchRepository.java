@@ -0,0 +1,27 @@
+package com.api.auto_ease.repository.jobrequest;
+
+import com.api.auto_ease.domain.jobrequest.JobRequestMatch;
+import com.api.auto_ease.domain.jobrequest.JobRequestMatchId;
+import com.api.auto_ease.domain.jobrequest.JobRequestStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface JobRequestMatchRepository extends JpaRepository<JobRequestMatch, JobRequestMatchId> {
+
+    List<JobRequestMatch> findByJobRequestId(UUID jobRequestId);
+
+    // Walks idx_job_request_matches_garage newest first and drops requests that are no longer open.
+    @Query("SELECT m FROM JobRequestMatch m, JobRequest j "
+            + "WHERE j.id = m.jobRequestId AND m.garageId = :garageId AND j.status = :status "
+            + "ORDER BY m.createdDate DESC")
+    List<JobRequestMatch> findByGarageIdAndStatus(@Param("garageId") UUID garageId,
+                                                  @Param("status") JobRequestStatus status,
+                                                  Limit limit);
+}
@@ -0,0 +1,65 @@
+package com.api.auto_ease.repository.jobrequest;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Checks {@code job_requests.quote_count} against the quotes table and recounts rows that
+ * drifted.
+ */
+@Repository
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class JobRequestQuoteCountRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Requests whose stored count differs from their quotes. May include requests with a quote
+     * being submitted right now; {@link #recount} sorts those out.
+     */
+    public List<UUID> findDrifted() {
+        return jdbcTemplate.queryForList("""
+                SELECT j.id
+                FROM job_requests j
+                LEFT JOIN (SELECT job_request_id, count(*) AS quotes FROM quotes GROUP BY job_request_id) c
+                    ON c.job_request_id = j.id
+                WHERE j.quote_count <> coalesce(c.quotes, 0)
+                """, UUID.class);
+    }
+
+    /**
+     * Locks the requests, then recounts them in a second statement. Its snapshot is taken after
+     * the locks are held, so quotes whose increment was pending are committed and counted by then.
+     * Returns the number of rows corrected.
+     */
+    public int recount(List<UUID> jobRequestIds) {
+        jdbcTemplate.query(connection -> byIds(connection,
+                "SELECT id FROM job_requests WHERE id = ANY(?) FOR UPDATE", jobRequestIds), rs -> { });
+        return jdbcTemplate.update(connection -> byIds(connection, """
+                UPDATE job_requests j
+                SET quote_count = c.quotes
+                FROM (SELECT j2.id, count(q.id) AS quotes
+                      FROM job_requests j2
+                      LEFT JOIN quotes q ON q.job_request_id = j2.id
+                      WHERE j2.id = ANY(?)
+                      GROUP BY j2.id) c
+                WHERE c.id = j.id AND j.quote_count <> c.quotes
+                """, jobRequestIds));
+    }
+
+    private static PreparedStatement byIds(Connection connection, String sql, List<UUID> ids) throws SQLException {
+        PreparedStatement statement = connection.prepareStatement(sql);
+        statement.setArray(1, connection.createArrayOf("uuid", ids.toArray()));
+        return statement;
+    }
+}
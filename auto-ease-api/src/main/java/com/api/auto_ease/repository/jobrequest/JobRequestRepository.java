@@ -3,15 +3,80 @@ package com.api.auto_ease.repository.jobrequest;
 import com.api.auto_ease.domain.jobrequest.JobRequest;
 import com.api.auto_ease.domain.jobrequest.JobRequestStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface JobRequestRepository extends JpaRepository<JobRequest, UUID> {
+public interface JobRequestRepository extends JpaRepository<JobRequest, UUID>,
+        JpaSpecificationExecutor<JobRequest>, JobRequestFacetRepository {
 
     List<JobRequest> findByUserIdOrderByCreatedDateDesc(String userId);
 
     List<JobRequest> findByStatusOrderByCreatedDateDesc(JobRequestStatus status);
+
+    @Query("SELECT new com.api.auto_ease.repository.jobrequest.JobRequestVersion(j.id, j.modifiedDate) "
+            + "FROM JobRequest j WHERE j.status = :status")
+    List<JobRequestVersion> findVersionsByStatus(@Param("status") JobRequestStatus status);
+
+    // Atomic, and leaves modified_date alone so the open index and archive cutoff are unaffected
+    @Modifying
+    @Query(value = "UPDATE job_requests SET quote_count = quote_count + 1 WHERE id = :id", nativeQuery = true)
+    void incrementQuoteCount(@Param("id") UUID id);
+
+    // Live and archived requests (V20), for the owner's history. Read-only: archived rows
+    // cannot be updated through the entity.
+    @Query(value = "SELECT * FROM job_request_history WHERE user_id = :userId ORDER BY created_date DESC",
+            nativeQuery = true)
+    List<JobRequest> findHistoryByUserId(@Param("userId") String userId);
+
+    @Query(value = "SELECT * FROM job_request_history WHERE id = :id", nativeQuery = true)
+    Optional<JobRequest> findHistoryById(@Param("id") UUID id);
+
+    // Full-text search over OPEN requests, best match first. The inner query ranks and limits on
+    // idx_job_requests_open_search; ts_headline then runs only for the rows on the page.
+    // Matches in the snippet are wrapped in chr(2)/chr(3) markers.
+    String SEARCH_HEADLINE = """
+            ts_headline('simple', coalesce(j.title, '') || ' ' || coalesce(j.description, ''),
+                        websearch_to_tsquery('simple', :query),
+                        'StartSel=' || chr(2) || ', StopSel=' || chr(3) || ', MaxFragments=2, MinWords=5, MaxWords=20')
+            """;
+
+    @Query(value = "SELECT hit.id AS id, hit.rank AS rank, " + SEARCH_HEADLINE + """
+             AS snippet
+            FROM (
+                SELECT j.id, ts_rank(j.search_vector, q) AS rank
+                FROM job_requests j, websearch_to_tsquery('simple', :query) q
+                WHERE j.status = 'OPEN' AND j.search_vector @@ q
+                ORDER BY rank DESC, j.id DESC
+                LIMIT :limit
+            ) hit
+            JOIN job_requests j ON j.id = hit.id
+            ORDER BY hit.rank DESC, hit.id DESC
+            """, nativeQuery = true)
+    List<JobRequestSearchRow> searchOpen(@Param("query") String query, @Param("limit") int limit);
+
+    @Query(value = "SELECT hit.id AS id, hit.rank AS rank, " + SEARCH_HEADLINE + """
+             AS snippet
+            FROM (
+                SELECT j.id, ts_rank(j.search_vector, q) AS rank
+                FROM job_requests j, websearch_to_tsquery('simple', :query) q
+                WHERE j.status = 'OPEN' AND j.search_vector @@ q
+                  AND (ts_rank(j.search_vector, q), j.id) < (CAST(:afterRank AS real), :afterId)
+                ORDER BY rank DESC, j.id DESC
+                LIMIT :limit
+            ) hit
+            JOIN job_requests j ON j.id = hit.id
+            ORDER BY hit.rank DESC, hit.id DESC
+            """, nativeQuery = true)
+    List<JobRequestSearchRow> searchOpenAfter(@Param("query") String query,
+                                              @Param("afterRank") float afterRank,
+                                              @Param("afterId") UUID afterId,
+                                              @Param("limit") int limit);
 }
@@ -0,0 +1,12 @@
+package com.api.auto_ease.repository.jobrequest;
+
+import java.util.UUID;
+
+public interface JobRequestSearchRow {
+
+    UUID getId();
+
+    Float getRank();
+
+    String getSnippet();
+}
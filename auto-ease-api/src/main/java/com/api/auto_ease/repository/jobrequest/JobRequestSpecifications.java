@@ -0,0 +1,115 @@
+package com.api.auto_ease.repository.jobrequest;
+
+import com.api.auto_ease.domain.jobrequest.JobRequest;
+import com.api.auto_ease.domain.jobrequest.JobRequestStatus;
+import com.api.auto_ease.domain.jobrequest.Urgency;
+import com.api.auto_ease.service.geo.GeoDistance;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Filter building blocks for job request queries. Every value is bound as a parameter.
+ */
+public final class JobRequestSpecifications {
+
+    private JobRequestSpecifications() {
+    }
+
+    public static Specification<JobRequest> hasStatus(JobRequestStatus status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<JobRequest> inCategory(UUID categoryId) {
+        return (root, query, cb) -> cb.equal(root.get("categoryId"), categoryId);
+    }
+
+    public static Specification<JobRequest> hasUrgency(Urgency urgency) {
+        return (root, query, cb) -> cb.equal(root.get("urgency"), urgency);
+    }
+
+    /**
+     * The request's budget overlaps {@code [min, max]}. A budget bound the owner left empty
+     * is treated as open-ended.
+     */
+    public static Specification<JobRequest> budgetOverlaps(BigDecimal min, BigDecimal max) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (min != null) {
+                Path<BigDecimal> budgetMax = root.get("budgetMax");
+                predicates.add(cb.or(cb.isNull(budgetMax), cb.greaterThanOrEqualTo(budgetMax, min)));
+            }
+            if (max != null) {
+                Path<BigDecimal> budgetMin = root.get("budgetMin");
+                predicates.add(cb.or(cb.isNull(budgetMin), cb.lessThanOrEqualTo(budgetMin, max)));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    public static Specification<JobRequest> inCity(String city) {
+        String value = city.toLowerCase(Locale.ROOT);
+        return (root, query, cb) -> cb.equal(cb.lower(root.get("locationCity")), value);
+    }
+
+    public static Specification<JobRequest> inState(String state) {
+        String value = state.toLowerCase(Locale.ROOT);
+        return (root, query, cb) -> cb.equal(cb.lower(root.get("locationState")), value);
+    }
+
+    public static Specification<JobRequest> preferredBetween(LocalDate from, LocalDate to) {
+        return (root, query, cb) -> {
+            Path<LocalDate> preferredDate = root.get("preferredDate");
+            List<Predicate> predicates = new ArrayList<>();
+            if (from != null) {
+                predicates.add(cb.greaterThanOrEqualTo(preferredDate, from));
+            }
+            if (to != null) {
+                predicates.add(cb.lessThanOrEqualTo(preferredDate, to));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    /**
+     * Within {@code radiusKm} great-circle distance of the point. The bounding box range
+     * lets the planner use idx_job_requests_open_location; the haversine term then removes
+     * the corners of the box.
+     */
+    public static Specification<JobRequest> withinRadius(double lat, double lng, double radiusKm) {
+        GeoDistance.BoundingBox box = GeoDistance.boundingBox(lat, lng, radiusKm);
+        double minLng = box.minLng() < -180 ? box.minLng() + 360 : box.minLng();
+        double maxLng = box.maxLng() > 180 ? box.maxLng() - 360 : box.maxLng();
+        double halfDegreeRadians = Math.PI / 360;
+        double cosLat = Math.cos(Math.toRadians(lat));
+        double sinHalfAngle = Math.sin(radiusKm / (2 * GeoDistance.EARTH_RADIUS_KM));
+        double maxHaversine = sinHalfAngle * sinHalfAngle;
+
+        return (root, query, cb) -> {
+            Path<Double> jobLat = root.get("locationLat");
+            Path<Double> jobLng = root.get("locationLng");
+
+            Predicate latRange = cb.between(jobLat, box.minLat(), box.maxLat());
+            Predicate lngRange = box.crossesAntimeridian()
+                    ? cb.or(cb.greaterThanOrEqualTo(jobLng, minLng), cb.lessThanOrEqualTo(jobLng, maxLng))
+                    : cb.between(jobLng, minLng, maxLng);
+
+            Expression<Double> sinDLat = cb.function("sin", Double.class, cb.prod(cb.diff(jobLat, lat), halfDegreeRadians));
+            Expression<Double> sinDLng = cb.function("sin", Double.class, cb.prod(cb.diff(jobLng, lng), halfDegreeRadians));
+            Expression<Double> cosJobLat = cb.function("cos", Double.class, cb.prod(jobLat, Math.PI / 180));
+            Expression<Double> haversine = cb.sum(
+                    cb.prod(sinDLat, sinDLat),
+                    cb.prod(cb.prod(cosJobLat, cosLat), cb.prod(sinDLng, sinDLng)));
+
+            return cb.and(latRange, lngRange, cb.le(haversine, maxHaversine));
+        };
+    }
+}
@@ -0,0 +1,7 @@
+package com.api.auto_ease.repository.jobrequest;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record JobRequestVersion(UUID id, LocalDateTime modifiedDate) {
+}
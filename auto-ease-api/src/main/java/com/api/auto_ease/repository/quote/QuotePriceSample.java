@@ -0,0 +1,9 @@
+package com.api.auto_ease.repository.quote;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record QuotePriceSample(UUID categoryId, UUID makeId, Integer carYear, BigDecimal price,
+                               LocalDateTime createdDate) {
+}
@@ -0,0 +1,65 @@
+package com.api.auto_ease.repository.quote;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Quote prices with the category, make and model year they were quoted for, read from
+ * {@code quote_history} so archived quotes (V20) still count towards the typical price ranges.
+ * <p>
+ * Rows are fetched in batches of {@value #FETCH_SIZE} from a forward-only cursor, which the
+ * PostgreSQL driver only does inside a transaction; the caller must close the stream.
+ */
+@Repository
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class QuotePriceSampleRepository {
+
+    static final int FETCH_SIZE = 500;
+
+    private static final String PRICE_SAMPLES = """
+            SELECT j.category_id, c.make_id, c.year, q.price, q.created_date
+            FROM quote_history q
+            JOIN job_request_history j ON j.id = q.job_request_id
+            LEFT JOIN CAR c ON c.id = j.car_id
+            """;
+
+    private static final RowMapper<QuotePriceSample> SAMPLE = (rs, rowNum) -> new QuotePriceSample(
+            rs.getObject("category_id", UUID.class),
+            rs.getObject("make_id", UUID.class),
+            rs.getObject("year", Integer.class),
+            rs.getBigDecimal("price"),
+            rs.getTimestamp("created_date").toLocalDateTime());
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Stream<QuotePriceSample> streamPriceSamples() {
+        return stream(PRICE_SAMPLES);
+    }
+
+    public Stream<QuotePriceSample> streamPriceSamplesCreatedAfter(LocalDateTime after) {
+        return stream(PRICE_SAMPLES + "WHERE q.created_date > ?", after);
+    }
+
+    private Stream<QuotePriceSample> stream(String sql, Object... args) {
+        return jdbcTemplate.queryForStream(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(FETCH_SIZE);
+            for (int i = 0; i < args.length; i++) {
+                statement.setObject(i + 1, args[i]);
+            }
+            return statement;
+        }, SAMPLE);
+    }
+}
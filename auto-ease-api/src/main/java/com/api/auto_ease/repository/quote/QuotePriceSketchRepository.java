@@ -0,0 +1,9 @@
+package com.api.auto_ease.repository.quote;
+
+import com.api.auto_ease.domain.quote.QuotePriceSketch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface QuotePriceSketchRepository extends JpaRepository<QuotePriceSketch, String> {
+}
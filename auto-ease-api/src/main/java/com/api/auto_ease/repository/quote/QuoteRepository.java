@@ -2,9 +2,12 @@ package com.api.auto_ease.repository.quote;
 
 import com.api.auto_ease.domain.quote.Quote;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
@@ -19,4 +22,20 @@ public interface QuoteRepository extends JpaRepository<Quote, UUID> {
     int countByJobRequestId(UUID jobRequestId);
 
     List<Quote> findByJobRequestId(UUID jobRequestId);
+
+    // Live and archived quotes (V20), for histories. Read-only: archived rows cannot be
+    // updated through the entity.
+    @Query(value = "SELECT * FROM quote_history WHERE garage_id = :garageId ORDER BY created_date DESC",
+            nativeQuery = true)
+    List<Quote> findHistoryByGarageId(@Param("garageId") UUID garageId);
+
+    @Query(value = "SELECT * FROM quote_history WHERE job_request_id = :jobRequestId ORDER BY created_date DESC",
+            nativeQuery = true)
+    List<Quote> findHistoryByJobRequestId(@Param("jobRequestId") UUID jobRequestId);
+
+    @Query(value = "SELECT * FROM quote_history WHERE id = :id", nativeQuery = true)
+    Optional<Quote> findHistoryById(@Param("id") UUID id);
+
+    @Query(value = "SELECT * FROM quote_history ORDER BY created_date LIMIT 1", nativeQuery = true)
+    Optional<Quote> findFirstHistoryByCreatedDate();
 }
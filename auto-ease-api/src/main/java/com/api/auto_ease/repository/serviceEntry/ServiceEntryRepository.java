@@ -1,24 +1,68 @@
 package com.api.auto_ease.repository.serviceEntry;
 
 import com.api.auto_ease.domain.serviceEntry.ServiceEntry;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface ServiceEntryRepository extends JpaRepository<ServiceEntry, Long> {
+public interface ServiceEntryRepository extends JpaRepository<ServiceEntry, Integer> {
 
     List<ServiceEntry> findAlLByPriority(int priority);
 
-    List<ServiceEntry> findAllByOrderByPriorityDesc();
-
-    List<ServiceEntry> findAllByOrderByPriorityAsc();
-
     List<ServiceEntry> findByServiceUuid(String serviceUuid);
 
     List<ServiceEntry> findByClientUuid(String clientUuid);
 
     Optional<ServiceEntry> findByClientUuidAndServiceUuid(String clientUuid, String serviceUuid);
+
+    // Work queue: the lock* queries must run inside a transaction. Rows locked by another
+    // claimer are skipped instead of waited on, and the ORDER BY matches idx_service_entry_queue*.
+
+    @Query(value = """
+            SELECT * FROM SERVICE_ENTRY
+            WHERE service_uuid IS NULL AND completed_at IS NULL
+            ORDER BY priority DESC NULLS LAST, id
+            LIMIT 1
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    Optional<ServiceEntry> lockNextUnassigned();
+
+    @Query(value = """
+            SELECT * FROM SERVICE_ENTRY
+            WHERE service_uuid IS NULL AND completed_at IS NULL AND car_make = :carMake
+            ORDER BY priority DESC NULLS LAST, id
+            LIMIT 1
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    Optional<ServiceEntry> lockNextUnassignedByMake(@Param("carMake") String carMake);
+
+    @Query(value = """
+            SELECT * FROM SERVICE_ENTRY
+            WHERE id = :id AND service_uuid IS NULL AND completed_at IS NULL
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    Optional<ServiceEntry> lockUnassignedById(@Param("id") Integer id);
+
+    // Renew and complete: waits for a concurrent requeue or claim of the row and then sees it,
+    // so the holder's check and write cannot interleave with a new claim.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM ServiceEntry e WHERE e.id = :id")
+    Optional<ServiceEntry> lockById(@Param("id") Integer id);
+
+    @Modifying
+    @Query(value = """
+            UPDATE SERVICE_ENTRY
+            SET service_uuid = NULL, claimed_at = NULL, lease_expires_at = NULL, modified_date = :now
+            WHERE completed_at IS NULL AND lease_expires_at < :now
+            """, nativeQuery = true)
+    int requeueExpiredLeases(@Param("now") LocalDateTime now);
 }
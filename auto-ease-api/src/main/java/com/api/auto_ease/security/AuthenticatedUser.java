@@ -0,0 +1,18 @@
+package com.api.auto_ease.security;
+
+import com.api.auto_ease.domain.appUser.AppUserType;
+
+import java.security.Principal;
+import java.util.UUID;
+
+/**
+ * Principal put in the security context for a valid token. {@code garageId} is the caller's
+ * garage when the token was issued after it was created, otherwise null.
+ */
+public record AuthenticatedUser(String uuid, AppUserType role, UUID garageId) implements Principal {
+
+    @Override
+    public String getName() {
+        return uuid;
+    }
+}
@@ -33,11 +33,10 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
             if (jwtService.isValid(token)) {
                 Claims claims = jwtService.validateToken(token);
-                String uuid = claims.getSubject();
-                String role = claims.get("role", String.class);
+                AuthenticatedUser principal = jwtService.toPrincipal(claims);
 
-                var authorities = List.of(new SimpleGrantedAuthority("ROLE_" + role));
-                var auth = new UsernamePasswordAuthenticationToken(uuid, null, authorities);
+                var authorities = List.of(new SimpleGrantedAuthority("ROLE_" + principal.role().name()));
+                var auth = new UsernamePasswordAuthenticationToken(principal, null, authorities);
                 SecurityContextHolder.getContext().setAuthentication(auth);
             }
         }
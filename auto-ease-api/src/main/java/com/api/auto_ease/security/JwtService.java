@@ -11,6 +11,7 @@ import org.springframework.stereotype.Service;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.UUID;
 
 @Service
 public class JwtService {
@@ -26,11 +27,17 @@ public class JwtService {
     }
 
     public String generateToken(String uuid, String email, AppUserType role) {
+        return generateToken(uuid, email, role, null);
+    }
+
+    // garageId lets garage requests skip looking up the caller's garage
+    public String generateToken(String uuid, String email, AppUserType role, UUID garageId) {
         Date now = new Date();
         return Jwts.builder()
                 .subject(uuid)
                 .claim("email", email)
                 .claim("role", role.name())
+                .claim("garageId", garageId != null ? garageId.toString() : null)
                 .issuedAt(now)
                 .expiration(new Date(now.getTime() + expirationMs))
                 .signWith(key)
@@ -45,6 +52,13 @@ public class JwtService {
                 .getPayload();
     }
 
+    public AuthenticatedUser toPrincipal(Claims claims) {
+        String garageId = claims.get("garageId", String.class);
+        return new AuthenticatedUser(claims.getSubject(),
+                AppUserType.valueOf(claims.get("role", String.class)),
+                garageId != null ? UUID.fromString(garageId) : null);
+    }
+
     public String extractUuid(String token) {
         return validateToken(token).getSubject();
     }
@@ -0,0 +1,53 @@
+package com.api.auto_ease.service.archive;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Archives job requests that were booked, completed or cancelled more than
+ * {@code archive.retention-days} ago, {@value #BATCH_SIZE} requests per transaction so live
+ * writes only ever wait on one small batch. Their history stays readable through the
+ * {@code job_request_history} and {@code quote_history} views.
+ */
+@Slf4j
+@Component
+public class HistoryArchiveJob {
+
+    static final int BATCH_SIZE = 500;
+
+    private final HistoryArchiveService historyArchiveService;
+    private final long retentionDays;
+
+    public HistoryArchiveJob(
+            HistoryArchiveService historyArchiveService,
+            @Value("${archive.retention-days}") long retentionDays) {
+        this.historyArchiveService = historyArchiveService;
+        this.retentionDays = retentionDays;
+    }
+
+    @Scheduled(fixedDelayString = "${archive.interval-ms}", initialDelayString = "${archive.interval-ms}")
+    public void archiveExpired() {
+        archiveClosedBefore(OffsetDateTime.now().minusDays(retentionDays));
+    }
+
+    public void archiveClosedBefore(OffsetDateTime cutoff) {
+        long start = System.nanoTime();
+        int jobRequests = 0;
+        int quotes = 0;
+        HistoryArchiveService.ArchiveBatch batch;
+        do {
+            batch = historyArchiveService.archiveBatch(cutoff, BATCH_SIZE);
+            jobRequests += batch.jobRequests();
+            quotes += batch.quotes();
+        } while (batch.jobRequests() == BATCH_SIZE);
+
+        if (jobRequests > 0) {
+            log.info("Archived {} job requests and {} quotes closed before {} in {} ms",
+                    jobRequests, quotes, cutoff, (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.api.auto_ease.service.archive;
+
+import com.api.auto_ease.repository.archive.HistoryArchiveRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Moves one batch of closed job requests, with their quotes, into the archive partitions.
+ * <p>
+ * Each batch is its own transaction, so a request and its quotes move together and readers of
+ * the history views never see one without the other.
+ */
+@Service
+@RequiredArgsConstructor
+public class HistoryArchiveService {
+
+    private final HistoryArchiveRepository historyArchiveRepository;
+
+    @Transactional
+    public ArchiveBatch archiveBatch(OffsetDateTime cutoff, int limit) {
+        List<UUID> jobRequestIds = historyArchiveRepository.lockClosedBefore(cutoff, limit);
+        if (jobRequestIds.isEmpty()) {
+            return new ArchiveBatch(0, 0);
+        }
+        historyArchiveRepository.ensurePartitions(jobRequestIds);
+        int quotes = historyArchiveRepository.moveQuotes(jobRequestIds);
+        int jobRequests = historyArchiveRepository.moveJobRequests(jobRequestIds);
+        return new ArchiveBatch(jobRequests, quotes);
+    }
+
+    public record ArchiveBatch(int jobRequests, int quotes) {
+    }
+}
@@ -1,11 +1,14 @@
 package com.api.auto_ease.service.auth;
 
 import com.api.auto_ease.domain.appUser.AppUser;
+import com.api.auto_ease.domain.appUser.AppUserType;
+import com.api.auto_ease.domain.garage.Garage;
 import com.api.auto_ease.domain.profile.Profile;
 import com.api.auto_ease.dto.auth.AuthResponse;
 import com.api.auto_ease.dto.auth.LoginRequest;
 import com.api.auto_ease.dto.auth.RegisterRequest;
 import com.api.auto_ease.repository.appUser.AppUserRepository;
+import com.api.auto_ease.repository.garage.GarageRepository;
 import com.api.auto_ease.repository.profile.ProfileRepository;
 import com.api.auto_ease.security.JwtService;
 import lombok.RequiredArgsConstructor;
@@ -22,6 +25,7 @@ public class AuthService {
 
     private final AppUserRepository appUserRepository;
     private final ProfileRepository profileRepository;
+    private final GarageRepository garageRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
 
@@ -73,7 +77,10 @@ public class AuthService {
         Profile profile = profileRepository.findByUserId(user.getUuid()).orElse(null);
         String fullName = profile != null ? profile.getFullName() : null;
 
-        String token = jwtService.generateToken(user.getUuid(), user.getEmail(), user.getType());
+        UUID garageId = user.getType() == AppUserType.GARAGE
+                ? garageRepository.findByUserId(user.getUuid()).map(Garage::getId).orElse(null)
+                : null;
+        String token = jwtService.generateToken(user.getUuid(), user.getEmail(), user.getType(), garageId);
 
         return AuthResponse.builder()
                 .token(token)
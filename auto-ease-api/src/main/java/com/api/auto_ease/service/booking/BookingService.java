@@ -1,7 +1,9 @@
 package com.api.auto_ease.service.booking;
 
 import com.api.auto_ease.domain.booking.Booking;
+import com.api.auto_ease.domain.appUser.AppUserType;
 import com.api.auto_ease.domain.booking.BookingStatus;
+import com.api.auto_ease.domain.booking.BookingView;
 import com.api.auto_ease.domain.garage.Garage;
 import com.api.auto_ease.domain.jobrequest.JobRequest;
 import com.api.auto_ease.domain.jobrequest.JobRequestStatus;
@@ -9,11 +11,17 @@ import com.api.auto_ease.domain.quote.Quote;
 import com.api.auto_ease.domain.quote.QuoteStatus;
 import com.api.auto_ease.dto.booking.AcceptQuoteRequest;
 import com.api.auto_ease.dto.booking.BookingResponse;
+import com.api.auto_ease.dto.booking.UpdateBookingStatusRequest;
 import com.api.auto_ease.repository.booking.BookingRepository;
+import com.api.auto_ease.repository.booking.BookingViewRepository;
 import com.api.auto_ease.repository.garage.GarageRepository;
 import com.api.auto_ease.repository.jobrequest.JobRequestRepository;
 import com.api.auto_ease.repository.quote.QuoteRepository;
+import com.api.auto_ease.security.AuthenticatedUser;
+import com.api.auto_ease.service.garage.GarageStatsService;
+import com.api.auto_ease.service.jobrequest.JobRequestChangedEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -26,9 +34,12 @@ import java.util.*;
 public class BookingService {
 
     private final BookingRepository bookingRepository;
+    private final BookingViewRepository bookingViewRepository;
     private final QuoteRepository quoteRepository;
     private final JobRequestRepository jobRequestRepository;
     private final GarageRepository garageRepository;
+    private final GarageStatsService garageStatsService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public BookingResponse acceptQuote(String ownerUserId, UUID quoteId, AcceptQuoteRequest request) {
@@ -62,6 +73,7 @@ public class BookingService {
 
         jobRequest.setStatus(JobRequestStatus.BOOKED);
         jobRequestRepository.save(jobRequest);
+        eventPublisher.publishEvent(new JobRequestChangedEvent(jobRequest.getId()));
 
         Booking booking = new Booking(null, quoteId,
                 request != null ? request.getScheduledDate() : null,
@@ -70,96 +82,94 @@ public class BookingService {
                 request != null ? request.getNotes() : null,
                 null, null);
         booking = bookingRepository.save(booking);
-
-        Garage garage = garageRepository.findById(quote.getGarageId()).orElse(null);
-        return toResponse(booking, quote, jobRequest, garage);
+        garageStatsService.recordBooking(quote, booking);
+
+        Garage garage = garageRepository.findForShareById(quote.getGarageId()).orElse(null);
+        BookingView view = bookingViewRepository.save(new BookingView(booking.getId(), quoteId,
+                jobRequest.getUserId(), quote.getGarageId(), garage != null ? garage.getBusinessName() : null,
+                jobRequest.getTitle(), quote.getPrice(), booking.getScheduledDate(), booking.getScheduledTime(),
+                booking.getStatus(), booking.getNotes(), booking.getCreatedDate()));
+        return toResponse(view);
     }
 
-    public List<BookingResponse> getMyBookings(String userId) {
-        List<BookingResponse> ownerBookings = getOwnerBookings(userId);
-        List<BookingResponse> garageBookings = getGarageBookings(userId);
-
+    /**
+     * Bookings on the user's own job requests, then, for a garage, its bookings that are not on
+     * its own requests. Each side is one range scan of {@code booking_view}.
+     */
+    @Transactional(readOnly = true)
+    public List<BookingResponse> getMyBookings(AuthenticatedUser user) {
         Map<UUID, BookingResponse> merged = new LinkedHashMap<>();
-        for (BookingResponse bookingResponse : ownerBookings) {
-            merged.put(bookingResponse.getId(), bookingResponse);
+        for (BookingView view : bookingViewRepository.findByOwnerUserIdOrderByCreatedDateDescBookingIdDesc(user.uuid())) {
+            merged.put(view.getBookingId(), toResponse(view));
         }
-        for (BookingResponse bookingResponse : garageBookings) {
-            merged.put(bookingResponse.getId(), bookingResponse);
+
+        if (user.role() == AppUserType.GARAGE) {
+            UUID garageId = user.garageId() != null ? user.garageId()
+                    : garageRepository.findByUserId(user.uuid()).map(Garage::getId).orElse(null);
+            if (garageId != null) {
+                for (BookingView view : bookingViewRepository.findByGarageIdOrderByCreatedDateDescBookingIdDesc(garageId)) {
+                    merged.putIfAbsent(view.getBookingId(), toResponse(view));
+                }
+            }
         }
 
         return new ArrayList<>(merged.values());
     }
 
-    private List<BookingResponse> getOwnerBookings(String userId) {
-        List<JobRequest> jobRequests = jobRequestRepository.findByUserIdOrderByCreatedDateDesc(userId);
-        if (jobRequests.isEmpty()) {
-            return List.of();
-        }
-
-        List<UUID> quoteIds = jobRequests.stream()
-                .flatMap(jobRequest -> quoteRepository.findByJobRequestId(jobRequest.getId()).stream())
-                .map(Quote::getId)
-                .toList();
-        if (quoteIds.isEmpty()) {
-            return List.of();
-        }
-
-        Map<UUID, JobRequest> jobRequestByQuoteId = new HashMap<>();
-        Map<UUID, Quote> quoteById = new HashMap<>();
-        for (JobRequest jobRequest : jobRequests) {
-            for (Quote quote : quoteRepository.findByJobRequestId(jobRequest.getId())) {
-                quoteById.put(quote.getId(), quote);
-                jobRequestByQuoteId.put(quote.getId(), jobRequest);
-            }
+    /**
+     * Moves one of the garage's bookings along CONFIRMED, IN_PROGRESS, COMPLETED. Cancelling is
+     * not offered here: it would also have to reopen the job request and release the quote.
+     */
+    @Transactional
+    public BookingResponse updateStatus(AuthenticatedUser garageUser, UUID bookingId, UpdateBookingStatusRequest request) {
+        BookingStatus status;
+        try {
+            status = BookingStatus.valueOf(Objects.requireNonNullElse(request.getStatus(), ""));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid booking status");
         }
 
-        return bookingRepository.findByQuoteIdIn(quoteIds).stream()
-                .map(booking -> {
-                    Quote quote = quoteById.get(booking.getQuoteId());
-                    JobRequest jobRequest = jobRequestByQuoteId.get(booking.getQuoteId());
-                    Garage garage = quote != null ? garageRepository.findById(quote.getGarageId()).orElse(null) : null;
-                    return toResponse(booking, quote, jobRequest, garage);
-                })
-                .toList();
-    }
+        Booking booking = bookingRepository.lockById(bookingId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Booking not found"));
+        BookingView view = bookingViewRepository.lockById(bookingId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Booking not found"));
 
-    private List<BookingResponse> getGarageBookings(String userId) {
-        Optional<Garage> garageOpt = garageRepository.findByUserId(userId);
-        if (garageOpt.isEmpty()) {
-            return List.of();
+        Garage garage = garageRepository.findOwnGarage(garageUser.garageId(), garageUser.uuid())
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Garage not found"));
+        if (!garage.getId().equals(view.getGarageId())) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "This booking is not with your garage");
         }
 
-        Garage garage = garageOpt.get();
-        List<Quote> quotes = quoteRepository.findByGarageIdOrderByCreatedDateDesc(garage.getId());
-        if (quotes.isEmpty()) {
-            return List.of();
+        if (!canMove(booking.getStatus(), status)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Cannot move booking from " + booking.getStatus() + " to " + status);
         }
 
-        List<UUID> quoteIds = quotes.stream().map(Quote::getId).toList();
-        Map<UUID, Quote> quoteById = new HashMap<>();
-        quotes.forEach(quote -> quoteById.put(quote.getId(), quote));
+        booking.setStatus(status);
+        view.setStatus(status);
+        return toResponse(view);
+    }
 
-        return bookingRepository.findByQuoteIdIn(quoteIds).stream()
-                .map(booking -> {
-                    Quote quote = quoteById.get(booking.getQuoteId());
-                    JobRequest jobRequest = quote != null ? jobRequestRepository.findById(quote.getJobRequestId()).orElse(null) : null;
-                    return toResponse(booking, quote, jobRequest, garage);
-                })
-                .toList();
+    private static boolean canMove(BookingStatus from, BookingStatus to) {
+        return switch (from) {
+            case CONFIRMED -> to == BookingStatus.IN_PROGRESS;
+            case IN_PROGRESS -> to == BookingStatus.COMPLETED;
+            case COMPLETED, CANCELLED -> false;
+        };
     }
 
-    private BookingResponse toResponse(Booking booking, Quote quote, JobRequest jobRequest, Garage garage) {
+    private BookingResponse toResponse(BookingView view) {
         return BookingResponse.builder()
-                .id(booking.getId())
-                .quoteId(booking.getQuoteId())
-                .garageId(quote != null ? quote.getGarageId() : null)
-                .garageName(garage != null ? garage.getBusinessName() : "Unknown")
-                .jobTitle(jobRequest != null ? jobRequest.getTitle() : "Unknown")
-                .price(quote != null ? quote.getPrice() : null)
-                .scheduledDate(booking.getScheduledDate())
-                .scheduledTime(booking.getScheduledTime())
-                .status(booking.getStatus().name())
-                .notes(booking.getNotes())
+                .id(view.getBookingId())
+                .quoteId(view.getQuoteId())
+                .garageId(view.getGarageId())
+                .garageName(view.getGarageName() != null ? view.getGarageName() : "Unknown")
+                .jobTitle(view.getJobTitle() != null ? view.getJobTitle() : "Unknown")
+                .price(view.getPrice())
+                .scheduledDate(view.getScheduledDate())
+                .scheduledTime(view.getScheduledTime())
+                .status(view.getStatus().name())
+                .notes(view.getNotes())
                 .build();
     }
 }
@@ -6,9 +6,11 @@ import com.api.auto_ease.domain.carModel.CarModel;
 import com.api.auto_ease.dto.car.CarResponse;
 import com.api.auto_ease.dto.car.CreateCarRequest;
 import com.api.auto_ease.dto.car.UpdateCarRequest;
+import com.api.auto_ease.dto.car.VinDecodeResponse;
 import com.api.auto_ease.repository.car.CarRepository;
 import com.api.auto_ease.repository.carMake.CarMakeRepository;
 import com.api.auto_ease.repository.carModel.CarModelRepository;
+import com.api.auto_ease.service.vin.VinDecodeService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -25,22 +27,54 @@ public class CarService {
     private final CarRepository carRepository;
     private final CarMakeRepository carMakeRepository;
     private final CarModelRepository carModelRepository;
+    private final VinDecodeService vinDecodeService;
 
     @Transactional
     public CarResponse addCar(String userId, CreateCarRequest request) {
-        CarMake make = carMakeRepository.findById(request.getMakeId())
+        UUID makeId = request.getMakeId();
+        UUID modelId = request.getModelId();
+        Integer year = request.getYear();
+        String vin = request.getVin();
+
+        if (request.isDecodeVin()) {
+            if (vin == null || vin.isBlank()) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "vin is required when decodeVin is set");
+            }
+            VinDecodeResponse decoded = vinDecodeService.decode(vin);
+            if (!decoded.isValid()) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "VIN check digit does not match");
+            }
+            vin = decoded.getVin();
+            if (makeId == null) {
+                makeId = decoded.getMakeId();
+            }
+            if (year == null) {
+                year = decoded.getModelYear();
+            }
+            if (modelId == null && decoded.getCandidateModels().size() == 1
+                    && decoded.getCandidateModels().get(0).getMakeId().equals(makeId)) {
+                modelId = decoded.getCandidateModels().get(0).getId();
+            }
+        }
+
+        if (makeId == null || modelId == null || year == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    request.isDecodeVin() ? "Could not decode makeId, modelId and year from the VIN; provide them"
+                            : "makeId, modelId and year are required");
+        }
+
+        CarMake make = carMakeRepository.findById(makeId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid make ID"));
 
-        CarModel model = carModelRepository.findById(request.getModelId())
+        CarModel model = carModelRepository.findById(modelId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid model ID"));
 
-        if (!model.getMakeId().equals(request.getMakeId())) {
+        if (!model.getMakeId().equals(makeId)) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Model does not belong to the specified make");
         }
 
-        Car car = new Car(userId, request.getMakeId(), request.getModelId(),
-                request.getYear(), request.getColor(), request.getLicensePlate(),
-                request.getVin(), request.getMileage());
+        Car car = new Car(userId, makeId, modelId, year, request.getColor(), request.getLicensePlate(),
+                vin, request.getMileage());
 
         car = carRepository.save(car);
 
@@ -0,0 +1,85 @@
+package com.api.auto_ease.service.export;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Minimal RFC 4180 CSV writer: fields are quoted only when they contain a comma, quote or line
+ * break, rows end with CRLF and a null is written as an empty field.
+ * <p>
+ * Free-text fields that start with {@code = + - @}, a tab or a carriage return are prefixed with
+ * {@code '} so a spreadsheet opening the export shows them as text instead of evaluating them.
+ * The writer holds no row state beyond the current line, so memory does not grow with the row
+ * count. Not thread safe.
+ */
+public final class CsvWriter implements Closeable {
+
+    private final Writer out;
+    private boolean firstField = true;
+
+    public CsvWriter(Writer out) {
+        this.out = out;
+    }
+
+    public void field(String value, boolean text) throws IOException {
+        if (!firstField) {
+            out.write(',');
+        }
+        firstField = false;
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+
+        boolean guard = text && isFormulaStart(value.charAt(0));
+        if (!needsQuotes(value)) {
+            if (guard) {
+                out.write('\'');
+            }
+            out.write(value);
+            return;
+        }
+        out.write('"');
+        if (guard) {
+            out.write('\'');
+        }
+        int start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) == '"') {
+                out.write(value, start, i + 1 - start);
+                out.write('"');
+                start = i + 1;
+            }
+        }
+        out.write(value, start, value.length() - start);
+        out.write('"');
+    }
+
+    public void endRow() throws IOException {
+        out.write("\r\n");
+        firstField = true;
+    }
+
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    private static boolean needsQuotes(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isFormulaStart(char c) {
+        return c == '=' || c == '+' || c == '-' || c == '@' || c == '\t' || c == '\r';
+    }
+}
@@ -0,0 +1,44 @@
+package com.api.auto_ease.service.garage;
+
+import com.api.auto_ease.domain.garage.Garage;
+import com.api.auto_ease.dto.garage.CacheRegionStatsResponse;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Hit rates of the {@link Garage} second-level cache regions, from Hibernate statistics.
+ * Counters run from startup.
+ */
+@Component
+@RequiredArgsConstructor
+public class GarageCacheStats {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public List<CacheRegionStatsResponse> regions() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        return List.of(
+                region(statistics, Garage.CACHE_REGION),
+                region(statistics, Garage.NATURAL_ID_CACHE_REGION));
+    }
+
+    private static CacheRegionStatsResponse region(Statistics statistics, String name) {
+        CacheRegionStatistics region = statistics.getDomainDataRegionStatistics(name);
+        long hits = region.getHitCount();
+        long misses = region.getMissCount();
+        return CacheRegionStatsResponse.builder()
+                .region(name)
+                .hits(hits)
+                .misses(misses)
+                .puts(region.getPutCount())
+                .hitRate(hits + misses == 0 ? null : Math.round(hits * 1000.0 / (hits + misses)) / 1000.0)
+                .entries(region.getElementCountInMemory())
+                .build();
+    }
+}
@@ -0,0 +1,10 @@
+package com.api.auto_ease.service.garage;
+
+import com.api.auto_ease.domain.garage.Garage;
+
+/**
+ * Published whenever a garage is created or modified, so in-memory views of garages can
+ * refresh once the change is committed.
+ */
+public record GarageChangedEvent(Garage garage) {
+}
@@ -0,0 +1,175 @@
+package com.api.auto_ease.service.garage;
+
+import com.api.auto_ease.domain.garage.Garage;
+import com.api.auto_ease.dto.garage.GarageResponse;
+import com.api.auto_ease.dto.garage.NearbyGarageResponse;
+import com.api.auto_ease.repository.garage.GarageRepository;
+import com.api.auto_ease.service.geo.GeoDistance;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory spatial index of approved garages with coordinates.
+ * <p>
+ * Garages are bucketed into a fixed grid of {@value #CELL_DEGREES} degree cells. A radius
+ * query scans only the cells under the circle's bounding box, checks the exact haversine
+ * distance and keeps the closest {@code limit} hits in a bounded heap. Each entry holds a
+ * ready {@link GarageResponse}, so a query never touches the database.
+ * <p>
+ * The index is loaded when the application is ready and then kept current from
+ * {@link GarageChangedEvent}s after commit. Writes are serialised; reads are lock free.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GarageGeoIndex {
+
+    static final double CELL_DEGREES = 0.25;
+    private static final int LAT_CELLS = (int) Math.round(180 / CELL_DEGREES);
+    private static final int LNG_CELLS = (int) Math.round(360 / CELL_DEGREES);
+
+    private final GarageRepository garageRepository;
+
+    private final Map<UUID, IndexedGarage> byId = new ConcurrentHashMap<>();
+    private final Map<Integer, Map<UUID, IndexedGarage>> cells = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long start = System.nanoTime();
+        List<Garage> garages = garageRepository.findByIsApprovedTrue();
+        garages.forEach(this::upsert);
+        log.info("Garage geo index loaded {} of {} approved garages in {} ms",
+                byId.size(), garages.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGarageChanged(GarageChangedEvent event) {
+        upsert(event.garage());
+    }
+
+    public synchronized void upsert(Garage garage) {
+        IndexedGarage current = byId.get(garage.getId());
+        if (current != null && isOlder(garage.getModifiedDate(), current.modifiedDate())) {
+            return;
+        }
+        if (current != null) {
+            removeFromCell(current);
+        }
+
+        if (!Boolean.TRUE.equals(garage.getIsApproved()) || garage.getLatitude() == null || garage.getLongitude() == null) {
+            byId.remove(garage.getId());
+            return;
+        }
+
+        double lat = garage.getLatitude();
+        double lng = garage.getLongitude();
+        IndexedGarage entry = new IndexedGarage(garage.getId(), lat, lng, cellKey(row(lat), column(lng)),
+                garage.getModifiedDate(), GarageService.toResponse(garage));
+        byId.put(entry.id(), entry);
+        cells.computeIfAbsent(entry.cellKey(), key -> new ConcurrentHashMap<>()).put(entry.id(), entry);
+    }
+
+    public synchronized void remove(UUID garageId) {
+        IndexedGarage current = byId.remove(garageId);
+        if (current != null) {
+            removeFromCell(current);
+        }
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    /**
+     * Approved garages within {@code radiusKm} of the point, closest first, at most {@code limit}.
+     */
+    public List<NearbyGarageResponse> findNearest(double lat, double lng, double radiusKm, int limit) {
+        GeoDistance.BoundingBox box = GeoDistance.boundingBox(lat, lng, radiusKm);
+        int minRow = row(box.minLat());
+        int maxRow = row(box.maxLat());
+        int minColumn = (int) Math.floor((box.minLng() + 180) / CELL_DEGREES);
+        int maxColumn = (int) Math.floor((box.maxLng() + 180) / CELL_DEGREES);
+        if (maxColumn - minColumn >= LNG_CELLS) {
+            minColumn = 0;
+            maxColumn = LNG_CELLS - 1;
+        }
+
+        PriorityQueue<Hit> closest = new PriorityQueue<>(limit + 1, Comparator.comparingDouble(Hit::distanceKm).reversed());
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int column = minColumn; column <= maxColumn; column++) {
+                Map<UUID, IndexedGarage> cell = cells.get(cellKey(row, Math.floorMod(column, LNG_CELLS)));
+                if (cell == null) {
+                    continue;
+                }
+                for (IndexedGarage entry : cell.values()) {
+                    // An entry that is mid-move can be seen in two cells; only count the live one.
+                    if (byId.get(entry.id()) != entry) {
+                        continue;
+                    }
+                    double distance = GeoDistance.haversineKm(lat, lng, entry.lat(), entry.lng());
+                    if (distance > radiusKm) {
+                        continue;
+                    }
+                    if (closest.size() < limit) {
+                        closest.add(new Hit(entry, distance));
+                    } else if (distance < closest.peek().distanceKm()) {
+                        closest.poll();
+                        closest.add(new Hit(entry, distance));
+                    }
+                }
+            }
+        }
+
+        List<Hit> hits = new ArrayList<>(closest);
+        hits.sort(Comparator.comparingDouble(Hit::distanceKm));
+        return hits.stream()
+                .map(hit -> NearbyGarageResponse.builder()
+                        .garage(hit.entry().garage())
+                        .distanceKm(hit.distanceKm())
+                        .build())
+                .toList();
+    }
+
+    private void removeFromCell(IndexedGarage entry) {
+        Map<UUID, IndexedGarage> cell = cells.get(entry.cellKey());
+        if (cell != null) {
+            cell.remove(entry.id());
+        }
+    }
+
+    private static boolean isOlder(LocalDateTime candidate, LocalDateTime current) {
+        return candidate != null && current != null && candidate.isBefore(current);
+    }
+
+    private static int row(double lat) {
+        return Math.clamp((long) Math.floor((lat + 90) / CELL_DEGREES), 0, LAT_CELLS - 1);
+    }
+
+    private static int column(double lng) {
+        return Math.floorMod((int) Math.floor((lng + 180) / CELL_DEGREES), LNG_CELLS);
+    }
+
+    private static int cellKey(int row, int column) {
+        return row * LNG_CELLS + column;
+    }
+
+    private record IndexedGarage(UUID id, double lat, double lng, int cellKey,
+                                 LocalDateTime modifiedDate, GarageResponse garage) {
+    }
+
+    private record Hit(IndexedGarage entry, double distanceKm) {
+    }
+}
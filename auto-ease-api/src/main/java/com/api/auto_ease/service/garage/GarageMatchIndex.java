@@ -0,0 +1,239 @@
+package com.api.auto_ease.service.garage;
+
+import com.api.auto_ease.domain.garage.Garage;
+import com.api.auto_ease.domain.serviceCategory.ServiceCategory;
+import com.api.auto_ease.repository.garage.GarageRepository;
+import com.api.auto_ease.repository.serviceCategory.ServiceCategoryRepository;
+import com.api.auto_ease.service.geo.GeoDistance;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index from service category to the approved garages offering it, used
+ * to pick the garages a new job request is shown to.
+ * <p>
+ * A garage's free-text {@code services} are folded the same way as {@link GarageSearchIndex}
+ * terms and matched against the service category names, so "brake service" and
+ * "Brake-Service" both land under Brake Service. A garage whose services name no category is
+ * a generalist: it is a candidate for every category, at a lower weight than a specialist.
+ * <p>
+ * A job's candidates are scored as category fit × proximity × the garage rating factor, and
+ * the best {@code limit} are kept in a bounded heap. Garages further than
+ * {@value #MAX_DISTANCE_KM} km from a job with coordinates are not eligible. Like
+ * {@link GarageGeoIndex}, the index is loaded when the application is ready and kept current
+ * from {@link GarageChangedEvent}s after commit.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GarageMatchIndex {
+
+    static final double MAX_DISTANCE_KM = 100;
+
+    private static final double GENERALIST_WEIGHT = 0.5;
+    // Proximity halves at this distance: 1 / (1 + distance / scale)
+    private static final double DISTANCE_SCALE_KM = 15;
+    // Used when either side has no coordinates; the same as a garage 45 km away
+    private static final double UNKNOWN_PROXIMITY = 0.25;
+
+    private final GarageRepository garageRepository;
+    private final ServiceCategoryRepository serviceCategoryRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, UUID> categoriesByName = new HashMap<>();
+    private final Map<UUID, Candidate> candidates = new HashMap<>();
+    private final Map<UUID, Set<UUID>> byCategory = new HashMap<>();
+    private final Set<UUID> generalists = new HashSet<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        long start = System.nanoTime();
+        setCategories(serviceCategoryRepository.findAll());
+        List<Garage> garages = garageRepository.findByIsApprovedTrue();
+        garages.forEach(this::upsert);
+        log.info("Garage match index loaded {} garages over {} categories ({} generalists) in {} ms",
+                size(), byCategory.size(), generalists.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGarageChanged(GarageChangedEvent event) {
+        upsert(event.garage());
+    }
+
+    void setCategories(Collection<ServiceCategory> categories) {
+        lock.writeLock().lock();
+        try {
+            categoriesByName.clear();
+            for (ServiceCategory category : categories) {
+                categoriesByName.put(categoryKey(category.getName()), category.getId());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void upsert(Garage garage) {
+        lock.writeLock().lock();
+        try {
+            Candidate current = candidates.get(garage.getId());
+            if (current != null && isOlder(garage.getModifiedDate(), current.modifiedDate())) {
+                return;
+            }
+            if (current != null) {
+                unlink(current);
+            }
+            if (Boolean.TRUE.equals(garage.getIsApproved())) {
+                link(new Candidate(garage.getId(), garage.getLatitude(), garage.getLongitude(),
+                        categoriesOf(garage.getServices()),
+                        GarageSearchIndex.ratingFactor(garage.getAverageRating(), garage.getTotalReviews()),
+                        garage.getModifiedDate()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(UUID garageId) {
+        lock.writeLock().lock();
+        try {
+            Candidate current = candidates.get(garageId);
+            if (current != null) {
+                unlink(current);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return candidates.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * The best {@code limit} garages for a job in {@code categoryId} at the given location,
+     * best first. A job without a category is open to every garage on distance and rating alone.
+     */
+    public List<Match> match(UUID categoryId, Double lat, Double lng, int limit) {
+        PriorityQueue<Match> best = new PriorityQueue<>(limit + 1, Comparator.comparingDouble(Match::score));
+
+        lock.readLock().lock();
+        try {
+            if (categoryId == null) {
+                for (Candidate candidate : candidates.values()) {
+                    offer(best, candidate, 1, lat, lng, limit);
+                }
+            } else {
+                for (UUID garageId : byCategory.getOrDefault(categoryId, Set.of())) {
+                    offer(best, candidates.get(garageId), 1, lat, lng, limit);
+                }
+                for (UUID garageId : generalists) {
+                    offer(best, candidates.get(garageId), GENERALIST_WEIGHT, lat, lng, limit);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Match> matches = new ArrayList<>(best);
+        matches.sort(Comparator.comparingDouble(Match::score).reversed());
+        return matches;
+    }
+
+    private static void offer(PriorityQueue<Match> best, Candidate candidate, double categoryWeight,
+                              Double lat, Double lng, int limit) {
+        Double distance = null;
+        double proximity = UNKNOWN_PROXIMITY;
+        if (lat != null && lng != null && candidate.lat() != null && candidate.lng() != null) {
+            distance = GeoDistance.haversineKm(lat, lng, candidate.lat(), candidate.lng());
+            if (distance > MAX_DISTANCE_KM) {
+                return;
+            }
+            proximity = 1 / (1 + distance / DISTANCE_SCALE_KM);
+        }
+
+        double score = categoryWeight * proximity * candidate.ratingFactor();
+        if (best.size() < limit) {
+            best.add(new Match(candidate.id(), score, distance));
+        } else if (score > best.peek().score()) {
+            best.poll();
+            best.add(new Match(candidate.id(), score, distance));
+        }
+    }
+
+    private Set<UUID> categoriesOf(String[] services) {
+        Set<UUID> categories = new HashSet<>();
+        if (services != null) {
+            for (String service : services) {
+                UUID categoryId = categoriesByName.get(categoryKey(service));
+                if (categoryId != null) {
+                    categories.add(categoryId);
+                }
+            }
+        }
+        return Set.copyOf(categories);
+    }
+
+    private void link(Candidate candidate) {
+        candidates.put(candidate.id(), candidate);
+        if (candidate.categories().isEmpty()) {
+            generalists.add(candidate.id());
+        }
+        for (UUID categoryId : candidate.categories()) {
+            byCategory.computeIfAbsent(categoryId, id -> new HashSet<>()).add(candidate.id());
+        }
+    }
+
+    private void unlink(Candidate candidate) {
+        candidates.remove(candidate.id());
+        generalists.remove(candidate.id());
+        for (UUID categoryId : candidate.categories()) {
+            Set<UUID> garages = byCategory.get(categoryId);
+            if (garages != null) {
+                garages.remove(candidate.id());
+                if (garages.isEmpty()) {
+                    byCategory.remove(categoryId);
+                }
+            }
+        }
+    }
+
+    private static String categoryKey(String name) {
+        return String.join(" ", GarageSearchIndex.tokenize(name));
+    }
+
+    private static boolean isOlder(LocalDateTime candidate, LocalDateTime current) {
+        return candidate != null && current != null && candidate.isBefore(current);
+    }
+
+    public record Match(UUID garageId, double score, Double distanceKm) {
+    }
+
+    private record Candidate(UUID id, Double lat, Double lng, Set<UUID> categories,
+                             double ratingFactor, LocalDateTime modifiedDate) {
+    }
+}
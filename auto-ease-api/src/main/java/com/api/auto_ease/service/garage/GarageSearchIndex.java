@@ -0,0 +1,321 @@
+package com.api.auto_ease.service.garage;
+
+import com.api.auto_ease.domain.garage.Garage;
+import com.api.auto_ease.dto.garage.GarageResponse;
+import com.api.auto_ease.dto.garage.GarageSearchHit;
+import com.api.auto_ease.repository.garage.GarageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory inverted index of approved garages for keyword search.
+ * <p>
+ * Business name, city, services and description are folded to lower-case ASCII and split
+ * into terms. Every term is also indexed by its edge n-grams ({@value #MIN_GRAM} to
+ * {@value #MAX_GRAM} characters), so "frân" finds "frâne" while the user is still typing.
+ * Each field carries its own weight, and relevance is BM25 over the weighted term
+ * frequencies. A full-term match scores higher than a prefix match. All query terms must match.
+ * <p>
+ * Relevance is multiplied by a rating factor based on the Bayesian average of
+ * {@code averageRating} over {@code totalReviews}, so a single five-star review does not
+ * outrank a long track record. Like {@link GarageGeoIndex}, the index is loaded when the
+ * application is ready and kept current from {@link GarageChangedEvent}s after commit.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GarageSearchIndex {
+
+    static final int MIN_GRAM = 2;
+    static final int MAX_GRAM = 12;
+
+    private static final float NAME_WEIGHT = 3f;
+    private static final float SERVICES_WEIGHT = 2f;
+    private static final float CITY_WEIGHT = 2f;
+    private static final float DESCRIPTION_WEIGHT = 1f;
+    private static final float PREFIX_WEIGHT = 0.6f;
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    // Bayesian prior: a garage without reviews is treated as 3.5 stars over 5 reviews
+    private static final double PRIOR_RATING = 3.5;
+    private static final double PRIOR_REVIEWS = 5;
+    private static final double RATING_WEIGHT = 0.5;
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final GarageRepository garageRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<UUID, Document> documents = new HashMap<>();
+    private final Map<String, Map<UUID, Float>> terms = new HashMap<>();
+    private final Map<String, Map<UUID, Float>> prefixes = new HashMap<>();
+    private double totalLength;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long start = System.nanoTime();
+        List<Garage> garages = garageRepository.findByIsApprovedTrue();
+        garages.forEach(this::upsert);
+        log.info("Garage search index loaded {} garages, {} terms in {} ms",
+                size(), termCount(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGarageChanged(GarageChangedEvent event) {
+        upsert(event.garage());
+    }
+
+    public void upsert(Garage garage) {
+        Document document = Boolean.TRUE.equals(garage.getIsApproved()) ? analyze(garage) : null;
+
+        lock.writeLock().lock();
+        try {
+            Document current = documents.get(garage.getId());
+            if (current != null && isOlder(garage.getModifiedDate(), current.modifiedDate())) {
+                return;
+            }
+            if (current != null) {
+                unlink(current);
+            }
+            if (document != null) {
+                link(document);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(UUID garageId) {
+        lock.writeLock().lock();
+        try {
+            Document current = documents.get(garageId);
+            if (current != null) {
+                unlink(current);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int termCount() {
+        lock.readLock().lock();
+        try {
+            return terms.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Best matching garages for the query, highest score first, at most {@code limit}.
+     */
+    public List<GarageSearchHit> search(String query, int limit) {
+        List<String> queryTerms = List.copyOf(new LinkedHashSet<>(tokenize(query)));
+        if (queryTerms.isEmpty()) {
+            return List.of();
+        }
+
+        PriorityQueue<Hit> best = new PriorityQueue<>(limit + 1, Comparator.comparingDouble(Hit::score));
+        lock.readLock().lock();
+        try {
+            if (documents.isEmpty()) {
+                return List.of();
+            }
+            double averageLength = totalLength / documents.size();
+
+            List<Map<UUID, Double>> perTerm = new ArrayList<>(queryTerms.size());
+            for (String term : queryTerms) {
+                Map<UUID, Double> scores = scoreTerm(term, averageLength);
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+                perTerm.add(scores);
+            }
+            // Drive the intersection from the rarest term
+            perTerm.sort(Comparator.comparingInt(Map::size));
+
+            candidates:
+            for (Map.Entry<UUID, Double> candidate : perTerm.get(0).entrySet()) {
+                double relevance = candidate.getValue();
+                for (int i = 1; i < perTerm.size(); i++) {
+                    Double score = perTerm.get(i).get(candidate.getKey());
+                    if (score == null) {
+                        continue candidates;
+                    }
+                    relevance += score;
+                }
+                Document document = documents.get(candidate.getKey());
+                double score = relevance * document.ratingFactor();
+                if (best.size() < limit) {
+                    best.add(new Hit(document, score));
+                } else if (score > best.peek().score()) {
+                    best.poll();
+                    best.add(new Hit(document, score));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Hit> hits = new ArrayList<>(best);
+        hits.sort(Comparator.comparingDouble(Hit::score).reversed());
+        return hits.stream()
+                .map(hit -> GarageSearchHit.builder()
+                        .garage(hit.document().garage())
+                        .score(hit.score())
+                        .build())
+                .toList();
+    }
+
+    /**
+     * BM25 score of one query term per document, taking the better of a full-term and a prefix match.
+     */
+    private Map<UUID, Double> scoreTerm(String term, double averageLength) {
+        Map<UUID, Double> scores = new HashMap<>();
+        accumulate(scores, terms.get(term), 1f, averageLength);
+        if (term.length() >= MIN_GRAM && term.length() <= MAX_GRAM) {
+            accumulate(scores, prefixes.get(term), PREFIX_WEIGHT, averageLength);
+        }
+        return scores;
+    }
+
+    private void accumulate(Map<UUID, Double> scores, Map<UUID, Float> postings, float weight, double averageLength) {
+        if (postings == null) {
+            return;
+        }
+        int n = documents.size();
+        int df = postings.size();
+        double idf = Math.log(1 + (n - df + 0.5) / (df + 0.5));
+        for (Map.Entry<UUID, Float> posting : postings.entrySet()) {
+            double tf = posting.getValue();
+            double norm = K1 * (1 - B + B * documents.get(posting.getKey()).length() / averageLength);
+            double score = weight * idf * tf * (K1 + 1) / (tf + norm);
+            scores.merge(posting.getKey(), score, Math::max);
+        }
+    }
+
+    private void link(Document document) {
+        documents.put(document.id(), document);
+        totalLength += document.length();
+        document.terms().forEach((term, tf) ->
+                terms.computeIfAbsent(term, key -> new HashMap<>()).put(document.id(), tf));
+        document.prefixes().forEach((prefix, tf) ->
+                prefixes.computeIfAbsent(prefix, key -> new HashMap<>()).put(document.id(), tf));
+    }
+
+    private void unlink(Document document) {
+        documents.remove(document.id());
+        totalLength -= document.length();
+        document.terms().keySet().forEach(term -> removePosting(terms, term, document.id()));
+        document.prefixes().keySet().forEach(prefix -> removePosting(prefixes, prefix, document.id()));
+    }
+
+    private static void removePosting(Map<String, Map<UUID, Float>> index, String key, UUID id) {
+        Map<UUID, Float> postings = index.get(key);
+        if (postings != null) {
+            postings.remove(id);
+            if (postings.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+
+    private static Document analyze(Garage garage) {
+        Map<String, Float> termFrequencies = new HashMap<>();
+        float length = 0;
+        length += addField(termFrequencies, garage.getBusinessName(), NAME_WEIGHT);
+        length += addField(termFrequencies, garage.getCity(), CITY_WEIGHT);
+        if (garage.getServices() != null) {
+            for (String service : garage.getServices()) {
+                length += addField(termFrequencies, service, SERVICES_WEIGHT);
+            }
+        }
+        length += addField(termFrequencies, garage.getDescription(), DESCRIPTION_WEIGHT);
+
+        Map<String, Float> prefixFrequencies = new HashMap<>();
+        termFrequencies.forEach((term, tf) -> {
+            // The full term is already in the term postings; only proper prefixes go here
+            for (int end = MIN_GRAM; end < Math.min(term.length(), MAX_GRAM + 1); end++) {
+                prefixFrequencies.merge(term.substring(0, end), tf, Float::sum);
+            }
+        });
+
+        return new Document(garage.getId(), Map.copyOf(termFrequencies), Map.copyOf(prefixFrequencies),
+                Math.max(length, 1f), ratingFactor(garage.getAverageRating(), garage.getTotalReviews()),
+                garage.getModifiedDate(), GarageService.toResponse(garage));
+    }
+
+    private static float addField(Map<String, Float> termFrequencies, String text, float weight) {
+        List<String> tokens = tokenize(text);
+        tokens.forEach(token -> termFrequencies.merge(token, weight, Float::sum));
+        return tokens.size() * weight;
+    }
+
+    static double ratingFactor(BigDecimal averageRating, Integer totalReviews) {
+        double rating = averageRating == null ? 0 : averageRating.doubleValue();
+        int reviews = totalReviews == null ? 0 : totalReviews;
+        double bayesian = (rating * reviews + PRIOR_RATING * PRIOR_REVIEWS) / (reviews + PRIOR_REVIEWS);
+        return 1 + RATING_WEIGHT * bayesian / 5;
+    }
+
+    /**
+     * Lower-case, diacritic-free terms: "Frâne și Direcție" becomes [frane, si, directie].
+     */
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String folded = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        List<String> tokens = new ArrayList<>();
+        for (String token : SEPARATORS.split(folded)) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static boolean isOlder(LocalDateTime candidate, LocalDateTime current) {
+        return candidate != null && current != null && candidate.isBefore(current);
+    }
+
+    private record Document(UUID id, Map<String, Float> terms, Map<String, Float> prefixes, float length,
+                            double ratingFactor, LocalDateTime modifiedDate, GarageResponse garage) {
+    }
+
+    private record Hit(Document document, double score) {
+    }
+}
@@ -1,11 +1,19 @@
 package com.api.auto_ease.service.garage;
 
+import com.api.auto_ease.domain.appUser.AppUser;
+import com.api.auto_ease.domain.appUser.AppUserType;
 import com.api.auto_ease.domain.garage.Garage;
 import com.api.auto_ease.dto.garage.CreateGarageRequest;
 import com.api.auto_ease.dto.garage.GarageResponse;
+import com.api.auto_ease.dto.garage.GarageSearchHit;
+import com.api.auto_ease.dto.garage.NearbyGarageResponse;
 import com.api.auto_ease.dto.garage.UpdateGarageRequest;
+import com.api.auto_ease.repository.appUser.AppUserRepository;
+import com.api.auto_ease.repository.booking.BookingViewRepository;
 import com.api.auto_ease.repository.garage.GarageRepository;
+import com.api.auto_ease.security.JwtService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,7 +25,17 @@ import java.util.List;
 @RequiredArgsConstructor
 public class GarageService {
 
+    private static final double MAX_NEARBY_RADIUS_KM = 500;
+    private static final int MAX_NEARBY_LIMIT = 100;
+    private static final int MAX_SEARCH_LIMIT = 50;
+
     private final GarageRepository garageRepository;
+    private final GarageGeoIndex garageGeoIndex;
+    private final GarageSearchIndex garageSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AppUserRepository appUserRepository;
+    private final JwtService jwtService;
+    private final BookingViewRepository bookingViewRepository;
 
     @Transactional
     public GarageResponse createGarage(String userId, CreateGarageRequest request) {
@@ -28,12 +46,20 @@ public class GarageService {
         Garage garage = new Garage(null, userId, request.getBusinessName(),
                 request.getAddress(), request.getCity(), request.getState(),
                 request.getPostalCode(), request.getPhone(), request.getDescription(),
-                request.getServices(), false, null, null, null, null);
+                request.getServices(), request.getLatitude(), request.getLongitude(),
+                false, null, null, null, null);
 
         garage = garageRepository.save(garage);
-        return toResponse(garage);
+        eventPublisher.publishEvent(new GarageChangedEvent(garage));
+
+        // Tokens issued before this point have no garageId and keep working through the owner lookup
+        String email = appUserRepository.findById(userId).map(AppUser::getEmail).orElse(null);
+        GarageResponse response = toResponse(garage);
+        response.setToken(jwtService.generateToken(userId, email, AppUserType.GARAGE, garage.getId()));
+        return response;
     }
 
+    @Transactional(readOnly = true)
     public GarageResponse getMyGarage(String userId) {
         Garage garage = garageRepository.findByUserId(userId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Garage not found"));
@@ -45,7 +71,9 @@ public class GarageService {
         Garage garage = garageRepository.findByUserId(userId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Garage not found"));
 
-        if (request.getBusinessName() != null) {
+        boolean renamed = request.getBusinessName() != null
+                && !request.getBusinessName().equals(garage.getBusinessName());
+        if (renamed) {
             garage.setBusinessName(request.getBusinessName());
         }
         if (request.getAddress() != null) {
@@ -69,27 +97,67 @@ public class GarageService {
         if (request.getServices() != null) {
             garage.setServices(request.getServices());
         }
+        if (request.getLatitude() != null) {
+            garage.setLatitude(request.getLatitude());
+        }
+        if (request.getLongitude() != null) {
+            garage.setLongitude(request.getLongitude());
+        }
 
         garage = garageRepository.save(garage);
+        if (renamed) {
+            // Flushing locks the garage row, which waits for bookings being accepted to commit
+            // (they hold it FOR SHARE), so the rename also reaches their booking_view rows
+            garageRepository.flush();
+            bookingViewRepository.renameGarage(garage.getId(), garage.getBusinessName());
+        }
+        eventPublisher.publishEvent(new GarageChangedEvent(garage));
         return toResponse(garage);
     }
 
+    @Transactional(readOnly = true)
     public List<GarageResponse> listApprovedGarages() {
         return garageRepository.findByIsApprovedTrue().stream()
-                .map(this::toResponse)
+                .map(GarageService::toResponse)
                 .toList();
     }
 
+    public List<NearbyGarageResponse> findNearbyGarages(double lat, double lng, double radiusKm, int limit) {
+        if (lat < -90 || lat > 90 || lng < -180 || lng > 180) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid coordinates");
+        }
+        if (radiusKm <= 0 || radiusKm > MAX_NEARBY_RADIUS_KM) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "radiusKm must be between 0 and " + MAX_NEARBY_RADIUS_KM);
+        }
+        if (limit < 1 || limit > MAX_NEARBY_LIMIT) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit must be between 1 and " + MAX_NEARBY_LIMIT);
+        }
+
+        return garageGeoIndex.findNearest(lat, lng, radiusKm, limit);
+    }
+
+    public List<GarageSearchHit> searchGarages(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Search query is required");
+        }
+        if (limit < 1 || limit > MAX_SEARCH_LIMIT) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit must be between 1 and " + MAX_SEARCH_LIMIT);
+        }
+
+        return garageSearchIndex.search(query, limit);
+    }
+
     @Transactional
     public GarageResponse approveGarage(java.util.UUID garageId) {
         Garage garage = garageRepository.findById(garageId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Garage not found"));
         garage.setIsApproved(true);
         garage = garageRepository.save(garage);
+        eventPublisher.publishEvent(new GarageChangedEvent(garage));
         return toResponse(garage);
     }
 
-    private GarageResponse toResponse(Garage garage) {
+    static GarageResponse toResponse(Garage garage) {
         return GarageResponse.builder()
                 .id(garage.getId())
                 .userId(garage.getUserId())
@@ -101,6 +169,8 @@ public class GarageService {
                 .phone(garage.getPhone())
                 .description(garage.getDescription())
                 .services(garage.getServices())
+                .latitude(garage.getLatitude())
+                .longitude(garage.getLongitude())
                 .isApproved(garage.getIsApproved())
                 .averageRating(garage.getAverageRating())
                 .totalReviews(garage.getTotalReviews())
@@ -0,0 +1,77 @@
+package com.api.auto_ease.service.garage;
+
+import com.api.auto_ease.dto.garage.GarageStatsRebuildResponse;
+import com.api.auto_ease.repository.garage.GarageDailyStatsRepository;
+import com.api.auto_ease.repository.quote.QuoteRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+
+/**
+ * Backfills {@code garage_daily_stats} from quotes, bookings and reviews.
+ * <p>
+ * The range is rebuilt {@value #CHUNK_DAYS} days per transaction, so live quotes, bookings and
+ * reviews only wait on the chunk being recounted. Runs once at startup when the rollups are
+ * empty but quotes exist, starting from the oldest quote including archived ones, and on
+ * demand to repair a range.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GarageStatsRebuildJob {
+
+    static final int CHUNK_DAYS = 31;
+
+    private final GarageStatsService garageStatsService;
+    private final GarageDailyStatsRepository garageDailyStatsRepository;
+    private final QuoteRepository quoteRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        if (garageDailyStatsRepository.existsAny()) {
+            return;
+        }
+        quoteRepository.findFirstHistoryByCreatedDate()
+                .ifPresent(first -> rebuild(first.getCreatedDate().toLocalDate(), LocalDate.now()));
+    }
+
+    public GarageStatsRebuildResponse rebuild(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "from must not be after to");
+        }
+
+        long start = System.nanoTime();
+        int chunks = 0;
+        int rowsDeleted = 0;
+        int rowsWritten = 0;
+        for (LocalDate chunkFrom = from; !chunkFrom.isAfter(to); chunkFrom = chunkFrom.plusDays(CHUNK_DAYS)) {
+            LocalDate chunkTo = chunkFrom.plusDays(CHUNK_DAYS - 1L);
+            if (chunkTo.isAfter(to)) {
+                chunkTo = to;
+            }
+            GarageStatsService.RebuildResult result = garageStatsService.rebuildRange(chunkFrom, chunkTo);
+            chunks++;
+            rowsDeleted += result.rowsDeleted();
+            rowsWritten += result.rowsWritten();
+        }
+
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        log.info("Garage stats rebuild {} to {}: {} chunks, {} rows deleted, {} rows written in {} ms",
+                from, to, chunks, rowsDeleted, rowsWritten, elapsedMs);
+
+        return GarageStatsRebuildResponse.builder()
+                .from(from)
+                .to(to)
+                .chunks(chunks)
+                .rowsDeleted(rowsDeleted)
+                .rowsWritten(rowsWritten)
+                .durationMs(elapsedMs)
+                .build();
+    }
+}
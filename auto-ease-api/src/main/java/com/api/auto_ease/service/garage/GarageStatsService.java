@@ -0,0 +1,152 @@
+package com.api.auto_ease.service.garage;
+
+import com.api.auto_ease.domain.booking.Booking;
+import com.api.auto_ease.domain.garage.Garage;
+import com.api.auto_ease.domain.garage.GarageDailyStats;
+import com.api.auto_ease.domain.quote.Quote;
+import com.api.auto_ease.domain.review.Review;
+import com.api.auto_ease.dto.garage.GarageDailyStatsResponse;
+import com.api.auto_ease.dto.garage.GarageDashboardResponse;
+import com.api.auto_ease.repository.garage.GarageDailyStatsRepository;
+import com.api.auto_ease.repository.garage.GarageDailyStatsRollupRepository;
+import com.api.auto_ease.repository.garage.GarageRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Garage dashboard figures kept as daily per-garage rollups in {@code garage_daily_stats}.
+ * <p>
+ * Quotes, bookings and reviews bump their garage's row for the day in the transaction that
+ * creates them, so the dashboard reads at most one row per day of the window however long the
+ * garage's history is. Bookings and revenue are counted on the day the quote was accepted.
+ * {@link GarageStatsRebuildJob} recounts any date range from the source tables.
+ */
+@Service
+@RequiredArgsConstructor
+public class GarageStatsService {
+
+    static final int MAX_DASHBOARD_DAYS = 366;
+
+    private final GarageRepository garageRepository;
+    private final GarageDailyStatsRepository garageDailyStatsRepository;
+    private final GarageDailyStatsRollupRepository garageDailyStatsRollupRepository;
+
+    public void recordQuoteSubmitted(Quote quote) {
+        garageDailyStatsRepository.increment(quote.getGarageId(), statDate(quote.getCreatedDate()),
+                1, 0, BigDecimal.ZERO, 0, 0);
+    }
+
+    public void recordBooking(Quote quote, Booking booking) {
+        garageDailyStatsRepository.increment(quote.getGarageId(), statDate(booking.getCreatedDate()),
+                0, 1, quote.getPrice(), 0, 0);
+    }
+
+    public void recordReview(Review review) {
+        garageDailyStatsRepository.increment(review.getGarageId(), statDate(review.getCreatedDate()),
+                0, 0, BigDecimal.ZERO, 1, review.getRating());
+    }
+
+    @Transactional(readOnly = true)
+    public GarageDashboardResponse getDashboard(String userId, int days) {
+        if (days < 1 || days > MAX_DASHBOARD_DAYS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "days must be between 1 and " + MAX_DASHBOARD_DAYS);
+        }
+        Garage garage = garageRepository.findByUserId(userId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Garage not found"));
+
+        LocalDate to = LocalDate.now();
+        LocalDate from = to.minusDays(days - 1L);
+        Map<LocalDate, GarageDailyStats> rows = new HashMap<>();
+        for (GarageDailyStats row : garageDailyStatsRepository
+                .findByGarageIdAndStatDateBetweenOrderByStatDate(garage.getId(), from, to)) {
+            rows.put(row.getStatDate(), row);
+        }
+
+        // Every day of the window is listed so the series can be charted as is
+        int quotes = 0;
+        int bookings = 0;
+        BigDecimal revenue = BigDecimal.ZERO;
+        int reviews = 0;
+        int ratingSum = 0;
+        List<GarageDailyStatsResponse> series = new ArrayList<>(days);
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            GarageDailyStats row = rows.get(date);
+            if (row == null) {
+                series.add(new GarageDailyStatsResponse(date, 0, 0, BigDecimal.ZERO, 0, null));
+                continue;
+            }
+            quotes += row.getQuotesSubmitted();
+            bookings += row.getBookings();
+            revenue = revenue.add(row.getRevenue());
+            reviews += row.getReviews();
+            ratingSum += row.getRatingSum();
+            series.add(GarageDailyStatsResponse.builder()
+                    .date(date)
+                    .quotesSubmitted(row.getQuotesSubmitted())
+                    .bookings(row.getBookings())
+                    .revenue(row.getRevenue())
+                    .reviews(row.getReviews())
+                    .averageRating(averageRating(row.getRatingSum(), row.getReviews()))
+                    .build());
+        }
+
+        return GarageDashboardResponse.builder()
+                .garageId(garage.getId())
+                .from(from)
+                .to(to)
+                .quotesSubmitted(quotes)
+                .bookings(bookings)
+                .acceptanceRate(acceptanceRate(bookings, quotes))
+                .revenue(revenue)
+                .reviews(reviews)
+                .averageRating(averageRating(ratingSum, reviews))
+                .overallRating(garage.getAverageRating())
+                .totalReviews(garage.getTotalReviews())
+                .days(series)
+                .build();
+    }
+
+    /**
+     * Recounts [from, to] from the source tables in one transaction.
+     */
+    @Transactional
+    public RebuildResult rebuildRange(LocalDate from, LocalDate to) {
+        garageDailyStatsRollupRepository.lockForRebuild();
+        int deleted = garageDailyStatsRollupRepository.deleteRange(from, to);
+        int written = garageDailyStatsRollupRepository.insertRange(from, to);
+        return new RebuildResult(deleted, written);
+    }
+
+    private static Double acceptanceRate(int bookings, int quotes) {
+        if (quotes == 0) {
+            return null;
+        }
+        // A booking lands on its acceptance day, which can follow the window's last quote
+        return Math.round(Math.min(1.0, (double) bookings / quotes) * 1000) / 1000.0;
+    }
+
+    private static BigDecimal averageRating(int ratingSum, int reviews) {
+        return reviews == 0 ? null
+                : BigDecimal.valueOf(ratingSum).divide(BigDecimal.valueOf(reviews), 2, RoundingMode.HALF_UP);
+    }
+
+    private static LocalDate statDate(LocalDateTime createdDate) {
+        return createdDate != null ? createdDate.toLocalDate() : LocalDate.now();
+    }
+
+    public record RebuildResult(int rowsDeleted, int rowsWritten) {
+    }
+}
@@ -0,0 +1,48 @@
+package com.api.auto_ease.service.geo;
+
+/**
+ * Great-circle helpers on a spherical earth, used by the location based searches.
+ */
+public final class GeoDistance {
+
+    public static final double EARTH_RADIUS_KM = 6371.0088;
+
+    private GeoDistance() {
+    }
+
+    public static double haversineKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double sinLat = Math.sin(dLat / 2);
+        double sinLng = Math.sin(dLng / 2);
+        double a = sinLat * sinLat
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * sinLng * sinLng;
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    /**
+     * Smallest latitude/longitude box containing every point within {@code radiusKm}.
+     * Longitudes are not normalised: near the antimeridian {@code minLng} can be below -180
+     * or {@code maxLng} above 180. When the circle reaches a pole the box spans all longitudes.
+     */
+    public static BoundingBox boundingBox(double lat, double lng, double radiusKm) {
+        double angular = radiusKm / EARTH_RADIUS_KM;
+        double dLat = Math.toDegrees(angular);
+        double minLat = lat - dLat;
+        double maxLat = lat + dLat;
+
+        if (minLat <= -90 || maxLat >= 90) {
+            return new BoundingBox(Math.max(minLat, -90), Math.min(maxLat, 90), -180, 180);
+        }
+
+        double dLng = Math.toDegrees(Math.asin(Math.sin(angular) / Math.cos(Math.toRadians(lat))));
+        return new BoundingBox(minLat, maxLat, lng - dLng, lng + dLng);
+    }
+
+    public record BoundingBox(double minLat, double maxLat, double minLng, double maxLng) {
+
+        public boolean crossesAntimeridian() {
+            return minLng < -180 || maxLng > 180;
+        }
+    }
+}
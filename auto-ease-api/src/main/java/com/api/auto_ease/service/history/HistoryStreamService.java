@@ -0,0 +1,148 @@
+package com.api.auto_ease.service.history;
+
+import com.api.auto_ease.domain.appUser.AppUserType;
+import com.api.auto_ease.domain.garage.Garage;
+import com.api.auto_ease.repository.garage.GarageRepository;
+import com.api.auto_ease.repository.history.HistoryStreamRepository;
+import com.api.auto_ease.security.AuthenticatedUser;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Streamed variants of the quote, booking and job request lists for long histories.
+ * <p>
+ * Rows are written from the JDBC result set straight into a {@link JsonGenerator} on the
+ * response, producing the same JSON array as the list endpoints. Nothing is collected first,
+ * so memory stays at one fetch batch and the response starts as soon as the first batch is
+ * read, however long the history. Ownership checks run before streaming starts so they can
+ * still fail with a proper status.
+ */
+@Service
+@RequiredArgsConstructor
+public class HistoryStreamService {
+
+    private static final int FLUSH_EVERY = 500;
+
+    private final HistoryStreamRepository historyStreamRepository;
+    private final GarageRepository garageRepository;
+    private final ObjectMapper objectMapper;
+
+    public StreamingResponseBody streamMyQuotes(AuthenticatedUser garageUser) {
+        Garage garage = garageRepository.findOwnGarage(garageUser.garageId(), garageUser.uuid())
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Garage not found"));
+        UUID garageId = garage.getId();
+        String garageName = garage.getBusinessName();
+        String garageCity = garage.getCity();
+        BigDecimal garageRating = garage.getAverageRating();
+
+        return out -> writeArray(out, (generator, rs) -> {
+            generator.writePOJOField("id", rs.getObject("id"));
+            generator.writePOJOField("jobRequestId", rs.getObject("job_request_id"));
+            generator.writePOJOField("garageId", rs.getObject("garage_id"));
+            generator.writeStringField("garageName", garageName);
+            generator.writeStringField("garageCity", garageCity);
+            generator.writePOJOField("garageRating", garageRating);
+            generator.writePOJOField("price", rs.getBigDecimal("price"));
+            generator.writeStringField("estimatedDuration", rs.getString("estimated_duration"));
+            generator.writeStringField("description", rs.getString("description"));
+            generator.writeStringField("warrantyInfo", rs.getString("warranty_info"));
+            generator.writeStringField("status", rs.getString("status"));
+        }, handler -> historyStreamRepository.streamGarageQuotes(garageId, handler));
+    }
+
+    public StreamingResponseBody streamMyBookings(AuthenticatedUser user) {
+        String userId = user.uuid();
+        UUID garageId = user.garageId() != null || user.role() != AppUserType.GARAGE ? user.garageId()
+                : garageRepository.findByUserId(userId).map(Garage::getId).orElse(null);
+
+        return out -> writeArray(out, (generator, rs) -> {
+            generator.writePOJOField("id", rs.getObject("booking_id"));
+            generator.writePOJOField("quoteId", rs.getObject("quote_id"));
+            generator.writePOJOField("garageId", rs.getObject("garage_id"));
+            generator.writeStringField("garageName", orUnknown(rs.getString("garage_name")));
+            generator.writeStringField("jobTitle", orUnknown(rs.getString("job_title")));
+            generator.writePOJOField("price", rs.getBigDecimal("price"));
+            generator.writePOJOField("scheduledDate", rs.getObject("scheduled_date", LocalDate.class));
+            generator.writePOJOField("scheduledTime", rs.getObject("scheduled_time", LocalTime.class));
+            generator.writeStringField("status", rs.getString("status"));
+            generator.writeStringField("notes", rs.getString("notes"));
+        }, handler -> historyStreamRepository.streamBookings(userId, garageId, handler));
+    }
+
+    public StreamingResponseBody streamMyJobRequests(String userId) {
+        return out -> writeArray(out, (generator, rs) -> {
+            generator.writePOJOField("id", rs.getObject("id"));
+            generator.writePOJOField("carId", rs.getObject("car_id"));
+            generator.writeStringField("makeName", orUnknown(rs.getString("make_name")));
+            generator.writeStringField("modelName", orUnknown(rs.getString("model_name")));
+            generator.writePOJOField("carYear", rs.getObject("car_year"));
+            generator.writePOJOField("categoryId", rs.getObject("category_id"));
+            generator.writeStringField("categoryName", rs.getString("category_name"));
+            generator.writeStringField("title", rs.getString("title"));
+            generator.writeStringField("description", rs.getString("description"));
+            generator.writeStringField("urgency", rs.getString("urgency"));
+            generator.writePOJOField("preferredDate", rs.getObject("preferred_date", LocalDate.class));
+            generator.writePOJOField("budgetMin", rs.getBigDecimal("budget_min"));
+            generator.writePOJOField("budgetMax", rs.getBigDecimal("budget_max"));
+            generator.writeStringField("status", rs.getString("status"));
+            generator.writeStringField("locationAddress", rs.getString("location_address"));
+            generator.writeStringField("locationCity", rs.getString("location_city"));
+            generator.writeStringField("locationState", rs.getString("location_state"));
+            generator.writePOJOField("locationLat", rs.getObject("location_lat"));
+            generator.writePOJOField("locationLng", rs.getObject("location_lng"));
+            generator.writeNullField("distanceKm");
+            generator.writeNumberField("quoteCount", rs.getInt("quote_count"));
+        }, handler -> historyStreamRepository.streamOwnerJobRequests(userId, handler));
+    }
+
+    private void writeArray(OutputStream out, RowWriter rowWriter, Consumer<RowCallbackHandler> query)
+            throws IOException {
+        try (JsonGenerator generator = objectMapper.createGenerator(out)) {
+            generator.writeStartArray();
+            int[] written = {0};
+            try {
+                query.accept(rs -> {
+                    try {
+                        generator.writeStartObject();
+                        rowWriter.write(generator, rs);
+                        generator.writeEndObject();
+                        if (++written[0] % FLUSH_EVERY == 0) {
+                            generator.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    private static String orUnknown(String value) {
+        return value != null ? value : "Unknown";
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(JsonGenerator generator, ResultSet rs) throws SQLException, IOException;
+    }
+}
@@ -0,0 +1,10 @@
+package com.api.auto_ease.service.jobrequest;
+
+import java.util.UUID;
+
+/**
+ * Published when a job request is created, updated, deleted, quoted or booked, so the
+ * open job index can refresh the request once the change is committed.
+ */
+public record JobRequestChangedEvent(UUID jobRequestId) {
+}
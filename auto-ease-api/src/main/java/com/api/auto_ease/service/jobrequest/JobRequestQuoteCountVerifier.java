@@ -0,0 +1,38 @@
+package com.api.auto_ease.service.jobrequest;
+
+import com.api.auto_ease.repository.jobrequest.JobRequestQuoteCountRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Periodically compares the {@code quote_count} kept on each job request with its quotes and
+ * recounts the ones that drifted, e.g. after quotes were changed by hand in the database.
+ * Archived requests are frozen with their quotes and are not checked.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobRequestQuoteCountVerifier {
+
+    private final JobRequestQuoteCountRepository jobRequestQuoteCountRepository;
+
+    @Scheduled(fixedDelayString = "${job-request.quote-count.verify-interval-ms}",
+            initialDelayString = "${job-request.quote-count.verify-interval-ms}")
+    @Transactional
+    public void verify() {
+        List<UUID> drifted = jobRequestQuoteCountRepository.findDrifted();
+        if (drifted.isEmpty()) {
+            return;
+        }
+        int corrected = jobRequestQuoteCountRepository.recount(drifted);
+        if (corrected > 0) {
+            log.warn("Quote counts drifted from the quotes table on {} job requests; recounted", corrected);
+        }
+    }
+}
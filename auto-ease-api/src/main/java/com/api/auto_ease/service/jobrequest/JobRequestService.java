@@ -3,38 +3,77 @@ package com.api.auto_ease.service.jobrequest;
 import com.api.auto_ease.domain.car.Car;
 import com.api.auto_ease.domain.carMake.CarMake;
 import com.api.auto_ease.domain.carModel.CarModel;
+import com.api.auto_ease.domain.garage.Garage;
 import com.api.auto_ease.domain.jobrequest.JobRequest;
+import com.api.auto_ease.domain.jobrequest.JobRequestMatch;
 import com.api.auto_ease.domain.jobrequest.JobRequestStatus;
 import com.api.auto_ease.domain.jobrequest.Urgency;
 import com.api.auto_ease.domain.serviceCategory.ServiceCategory;
 import com.api.auto_ease.dto.jobrequest.CreateJobRequestRequest;
+import com.api.auto_ease.dto.jobrequest.FacetCount;
 import com.api.auto_ease.dto.jobrequest.JobRequestResponse;
+import com.api.auto_ease.dto.jobrequest.JobRequestSearchHit;
+import com.api.auto_ease.dto.jobrequest.JobRequestSearchResponse;
+import com.api.auto_ease.dto.jobrequest.MatchedJobRequestResponse;
+import com.api.auto_ease.dto.jobrequest.OpenJobRequestFilter;
+import com.api.auto_ease.dto.jobrequest.OpenJobRequestSearchResponse;
 import com.api.auto_ease.dto.jobrequest.UpdateJobRequestRequest;
 import com.api.auto_ease.repository.car.CarRepository;
 import com.api.auto_ease.repository.carMake.CarMakeRepository;
 import com.api.auto_ease.repository.carModel.CarModelRepository;
+import com.api.auto_ease.repository.garage.GarageRepository;
+import com.api.auto_ease.repository.jobrequest.JobRequestMatchRepository;
 import com.api.auto_ease.repository.jobrequest.JobRequestRepository;
-import com.api.auto_ease.repository.quote.QuoteRepository;
+import com.api.auto_ease.repository.jobrequest.JobRequestSearchRow;
+import com.api.auto_ease.repository.jobrequest.JobRequestSpecifications;
 import com.api.auto_ease.repository.serviceCategory.ServiceCategoryRepository;
+import com.api.auto_ease.service.garage.GarageMatchIndex;
+import com.api.auto_ease.service.geo.GeoDistance;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.util.HtmlUtils;
 
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class JobRequestService {
 
+    private static final double MAX_FEED_RADIUS_KM = 500;
+    private static final int MAX_SEARCH_LIMIT = 50;
+    // Garages each request is matched to and shown to in their matched feed
+    private static final int GARAGES_PER_REQUEST = 20;
+
     private final JobRequestRepository jobRequestRepository;
     private final CarRepository carRepository;
     private final ServiceCategoryRepository serviceCategoryRepository;
-    private final QuoteRepository quoteRepository;
     private final CarMakeRepository carMakeRepository;
     private final CarModelRepository carModelRepository;
+    private final GarageRepository garageRepository;
+    private final OpenJobRequestIndex openJobRequestIndex;
+    private final JobRequestMatchRepository jobRequestMatchRepository;
+    private final GarageMatchIndex garageMatchIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public JobRequestResponse createJobRequest(String userId, CreateJobRequestRequest request) {
@@ -63,14 +102,72 @@ public class JobRequestService {
                 request.getCategoryId(), request.getTitle(), request.getDescription(),
                 urgency, request.getPreferredDate(), request.getBudgetMin(), request.getBudgetMax(),
                 JobRequestStatus.OPEN, request.getLocationAddress(), request.getLocationCity(),
-                request.getLocationState(), null, null);
+                request.getLocationState(), request.getLocationLat(), request.getLocationLng(), null, null, 0);
 
         jobRequest = jobRequestRepository.save(jobRequest);
+        matchGarages(jobRequest, List.of());
+        eventPublisher.publishEvent(new JobRequestChangedEvent(jobRequest.getId()));
         return toResponse(jobRequest, car);
     }
 
+    /**
+     * Records the best garages for the request from {@link GarageMatchIndex}. Only those
+     * garages see the request in their matched feed; the open feed still lists everything.
+     * Garages that were already matched keep their row and its created_date, so a re-match
+     * does not move the request up their feed; garages no longer among the best are dropped.
+     */
+    private void matchGarages(JobRequest jobRequest, List<JobRequestMatch> existing) {
+        Map<UUID, JobRequestMatch> previous = new HashMap<>();
+        existing.forEach(match -> previous.put(match.getGarageId(), match));
+
+        LocalDateTime matchedAt = LocalDateTime.now();
+        List<JobRequestMatch> added = new ArrayList<>();
+        for (GarageMatchIndex.Match match : garageMatchIndex.match(jobRequest.getCategoryId(),
+                jobRequest.getLocationLat(), jobRequest.getLocationLng(), GARAGES_PER_REQUEST)) {
+            JobRequestMatch kept = previous.remove(match.garageId());
+            if (kept != null) {
+                kept.setScore(match.score());
+                kept.setDistanceKm(match.distanceKm());
+            } else {
+                added.add(new JobRequestMatch(jobRequest.getId(), match.garageId(), match.score(),
+                        match.distanceKm(), matchedAt));
+            }
+        }
+        jobRequestMatchRepository.deleteAll(previous.values());
+        jobRequestMatchRepository.saveAll(added);
+    }
+
+    /**
+     * Open requests this garage was matched to, newest first.
+     */
+    @Transactional(readOnly = true)
+    public List<MatchedJobRequestResponse> getMatchedJobRequests(String userId, int limit) {
+        if (limit < 1 || limit > MAX_SEARCH_LIMIT) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit must be between 1 and " + MAX_SEARCH_LIMIT);
+        }
+        Garage garage = garageRepository.findByUserId(userId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Garage not found"));
+
+        List<JobRequestMatch> matches = jobRequestMatchRepository
+                .findByGarageIdAndStatus(garage.getId(), JobRequestStatus.OPEN, Limit.of(limit));
+        Map<UUID, JobRequest> jobRequests = new HashMap<>();
+        jobRequestRepository.findAllById(matches.stream().map(JobRequestMatch::getJobRequestId).toList())
+                .forEach(jobRequest -> jobRequests.put(jobRequest.getId(), jobRequest));
+
+        return matches.stream()
+                .filter(match -> jobRequests.containsKey(match.getJobRequestId()))
+                .map(match -> MatchedJobRequestResponse.builder()
+                        .jobRequest(toResponse(jobRequests.get(match.getJobRequestId())).toBuilder()
+                                .distanceKm(match.getDistanceKm())
+                                .build())
+                        .score(match.getScore())
+                        .build())
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
     public JobRequestResponse getJobRequest(String userId, UUID id) {
-        JobRequest jobRequest = jobRequestRepository.findById(id)
+        JobRequest jobRequest = jobRequestRepository.findHistoryById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Job request not found"));
 
         if (!jobRequest.getUserId().equals(userId)) {
@@ -80,16 +177,291 @@ public class JobRequestService {
         return toResponse(jobRequest);
     }
 
+    @Transactional(readOnly = true)
     public List<JobRequestResponse> getMyJobRequests(String userId) {
-        return jobRequestRepository.findByUserIdOrderByCreatedDateDesc(userId).stream()
+        return jobRequestRepository.findHistoryByUserId(userId).stream()
                 .map(this::toResponse)
                 .toList();
     }
 
-    public List<JobRequestResponse> getOpenJobRequests() {
-        return jobRequestRepository.findByStatusOrderByCreatedDateDesc(JobRequestStatus.OPEN).stream()
-                .map(this::toResponse)
+    /**
+     * Open requests matching the filter, newest first. Served from {@link OpenJobRequestIndex}
+     * once it is loaded; the database query is the fallback while the index warms up.
+     */
+    @Transactional(readOnly = true)
+    public List<JobRequestResponse> getOpenJobRequests(String userId, OpenJobRequestFilter filter) {
+        OpenJobQuery query = openJobQuery(userId, filter);
+
+        if (openJobRequestIndex.isReady()) {
+            return openJobRequestIndex.search(toIndexQuery(query), false).entries().stream()
+                    .map(entry -> withDistance(entry.response(), query, entry.lat(), entry.lng()))
+                    .toList();
+        }
+
+        return findOpenJobRequests(toCriteria(query), query);
+    }
+
+    /**
+     * Filtered open requests plus per-category and per-urgency counts. Each facet is counted
+     * with every filter except its own, so the counts show what selecting another value yields.
+     */
+    public OpenJobRequestSearchResponse searchOpenJobRequests(String userId, OpenJobRequestFilter filter) {
+        OpenJobQuery query = openJobQuery(userId, filter);
+
+        if (openJobRequestIndex.isReady()) {
+            OpenJobRequestIndex.Result result = openJobRequestIndex.search(toIndexQuery(query), true);
+            return OpenJobRequestSearchResponse.builder()
+                    .jobRequests(result.entries().stream()
+                            .map(entry -> withDistance(entry.response(), query, entry.lat(), entry.lng()))
+                            .toList())
+                    .categories(categoryFacets(result.categoryCounts(), result.categoryNames()))
+                    .urgencies(urgencyFacets(result.urgencyCounts()))
+                    .build();
+        }
+
+        OpenJobCriteria criteria = toCriteria(query);
+        Map<UUID, Long> categoryCounts = jobRequestRepository.countByCategory(criteria.withoutCategory());
+        Map<UUID, String> categoryNames = new HashMap<>();
+        serviceCategoryRepository.findAllById(categoryCounts.keySet().stream().filter(Objects::nonNull).toList())
+                .forEach(category -> categoryNames.put(category.getId(), category.getName()));
+
+        return OpenJobRequestSearchResponse.builder()
+                .jobRequests(findOpenJobRequests(criteria, query))
+                .categories(categoryFacets(categoryCounts, categoryNames))
+                .urgencies(urgencyFacets(jobRequestRepository.countByUrgency(criteria.withoutUrgency())))
+                .build();
+    }
+
+    private List<JobRequestResponse> findOpenJobRequests(OpenJobCriteria criteria, OpenJobQuery query) {
+        return jobRequestRepository.findAll(criteria.all(), Sort.by(Sort.Direction.DESC, "createdDate")).stream()
+                .map(jobRequest -> withDistance(toResponse(jobRequest), query,
+                        jobRequest.getLocationLat(), jobRequest.getLocationLng()))
+                .toList();
+    }
+
+    private JobRequestResponse withDistance(JobRequestResponse response, OpenJobQuery query, Double lat, Double lng) {
+        if (query.radiusKm() == null) {
+            return response;
+        }
+        // Index entries share their response object, so never modify it in place.
+        return response.toBuilder()
+                .distanceKm(GeoDistance.haversineKm(query.originLat(), query.originLng(), lat, lng))
+                .build();
+    }
+
+    private List<FacetCount> categoryFacets(Map<UUID, Long> counts, Map<UUID, String> names) {
+        return counts.entrySet().stream()
+                .map(entry -> FacetCount.builder()
+                        .value(entry.getKey() == null ? null : entry.getKey().toString())
+                        .label(entry.getKey() == null ? null : names.get(entry.getKey()))
+                        .count(entry.getValue())
+                        .build())
+                .sorted(Comparator.comparingLong(FacetCount::getCount).reversed())
+                .toList();
+    }
+
+    private List<FacetCount> urgencyFacets(Map<Urgency, Long> counts) {
+        return counts.entrySet().stream()
+                .map(entry -> FacetCount.builder()
+                        .value(entry.getKey().name())
+                        .label(entry.getKey().name())
+                        .count(entry.getValue())
+                        .build())
+                .sorted(Comparator.comparingLong(FacetCount::getCount).reversed())
+                .toList();
+    }
+
+    private OpenJobQuery openJobQuery(String userId, OpenJobRequestFilter filter) {
+        if (filter.getBudgetMin() != null && filter.getBudgetMax() != null
+                && filter.getBudgetMin().compareTo(filter.getBudgetMax()) > 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "budgetMin must not exceed budgetMax");
+        }
+
+        Urgency urgency = null;
+        if (filter.getUrgency() != null) {
+            try {
+                urgency = Urgency.valueOf(filter.getUrgency());
+            } catch (IllegalArgumentException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid urgency value");
+            }
+        }
+
+        Double originLat = null;
+        Double originLng = null;
+        if (filter.getRadiusKm() != null) {
+            if (filter.getRadiusKm() <= 0 || filter.getRadiusKm() > MAX_FEED_RADIUS_KM) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "radiusKm must be between 0 and " + MAX_FEED_RADIUS_KM);
+            }
+            Garage garage = garageRepository.findByUserId(userId)
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Garage not found"));
+            if (garage.getLatitude() == null || garage.getLongitude() == null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Garage location is not set");
+            }
+            originLat = garage.getLatitude();
+            originLng = garage.getLongitude();
+        }
+
+        return new OpenJobQuery(filter.getCategoryId(), urgency, filter.getBudgetMin(), filter.getBudgetMax(),
+                blankToNull(filter.getCity()), blankToNull(filter.getState()),
+                filter.getPreferredFrom(), filter.getPreferredTo(), originLat, originLng, filter.getRadiusKm());
+    }
+
+    private OpenJobCriteria toCriteria(OpenJobQuery query) {
+        List<Specification<JobRequest>> common = new ArrayList<>();
+        common.add(JobRequestSpecifications.hasStatus(JobRequestStatus.OPEN));
+
+        if (query.budgetMin() != null || query.budgetMax() != null) {
+            common.add(JobRequestSpecifications.budgetOverlaps(query.budgetMin(), query.budgetMax()));
+        }
+        if (query.city() != null) {
+            common.add(JobRequestSpecifications.inCity(query.city()));
+        }
+        if (query.state() != null) {
+            common.add(JobRequestSpecifications.inState(query.state()));
+        }
+        if (query.preferredFrom() != null || query.preferredTo() != null) {
+            common.add(JobRequestSpecifications.preferredBetween(query.preferredFrom(), query.preferredTo()));
+        }
+        if (query.radiusKm() != null) {
+            common.add(JobRequestSpecifications.withinRadius(query.originLat(), query.originLng(), query.radiusKm()));
+        }
+
+        return new OpenJobCriteria(common,
+                query.categoryId() == null ? null : JobRequestSpecifications.inCategory(query.categoryId()),
+                query.urgency() == null ? null : JobRequestSpecifications.hasUrgency(query.urgency()));
+    }
+
+    private OpenJobRequestIndex.Query toIndexQuery(OpenJobQuery query) {
+        List<Predicate<OpenJobRequestIndex.Entry>> residual = new ArrayList<>();
+
+        if (query.budgetMin() != null) {
+            residual.add(entry -> entry.budgetMax() == null || entry.budgetMax().compareTo(query.budgetMin()) >= 0);
+        }
+        if (query.budgetMax() != null) {
+            residual.add(entry -> entry.budgetMin() == null || entry.budgetMin().compareTo(query.budgetMax()) <= 0);
+        }
+        if (query.preferredFrom() != null) {
+            residual.add(entry -> entry.preferredDate() != null && !entry.preferredDate().isBefore(query.preferredFrom()));
+        }
+        if (query.preferredTo() != null) {
+            residual.add(entry -> entry.preferredDate() != null && !entry.preferredDate().isAfter(query.preferredTo()));
+        }
+        if (query.radiusKm() != null) {
+            residual.add(entry -> entry.lat() != null && entry.lng() != null
+                    && GeoDistance.haversineKm(query.originLat(), query.originLng(), entry.lat(), entry.lng()) <= query.radiusKm());
+        }
+
+        Predicate<OpenJobRequestIndex.Entry> combined = residual.stream().reduce(Predicate::and).orElse(null);
+        return new OpenJobRequestIndex.Query(query.categoryId(), query.urgency(), query.city(), query.state(), combined);
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    private record OpenJobQuery(UUID categoryId, Urgency urgency, BigDecimal budgetMin, BigDecimal budgetMax,
+                                String city, String state, LocalDate preferredFrom, LocalDate preferredTo,
+                                Double originLat, Double originLng, Double radiusKm) {
+    }
+
+    private record OpenJobCriteria(List<Specification<JobRequest>> common,
+                                   Specification<JobRequest> category,
+                                   Specification<JobRequest> urgency) {
+
+        Specification<JobRequest> all() {
+            return combine(category, urgency);
+        }
+
+        Specification<JobRequest> withoutCategory() {
+            return combine(urgency);
+        }
+
+        Specification<JobRequest> withoutUrgency() {
+            return combine(category);
+        }
+
+        @SafeVarargs
+        private Specification<JobRequest> combine(Specification<JobRequest>... extra) {
+            List<Specification<JobRequest>> specs = new ArrayList<>(common);
+            for (Specification<JobRequest> spec : extra) {
+                if (spec != null) {
+                    specs.add(spec);
+                }
+            }
+            return Specification.allOf(specs);
+        }
+    }
+
+    /**
+     * Keyword search over open requests, ranked by ts_rank. Accepts web search syntax
+     * ("quoted phrases", -exclusions, or). Pages continue from an opaque keyset cursor.
+     */
+    public JobRequestSearchResponse searchOpenJobRequestsByText(String query, String cursor, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Search query is required");
+        }
+        if (limit < 1 || limit > MAX_SEARCH_LIMIT) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit must be between 1 and " + MAX_SEARCH_LIMIT);
+        }
+
+        String text = query.trim();
+        List<JobRequestSearchRow> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = jobRequestRepository.searchOpen(text, limit + 1);
+        } else {
+            SearchCursor after = SearchCursor.decode(cursor);
+            rows = jobRequestRepository.searchOpenAfter(text, after.rank(), after.id(), limit + 1);
+        }
+
+        boolean hasMore = rows.size() > limit;
+        List<JobRequestSearchRow> page = hasMore ? rows.subList(0, limit) : rows;
+
+        Map<UUID, JobRequest> jobRequests = new HashMap<>();
+        jobRequestRepository.findAllById(page.stream().map(JobRequestSearchRow::getId).toList())
+                .forEach(jobRequest -> jobRequests.put(jobRequest.getId(), jobRequest));
+
+        List<JobRequestSearchHit> results = page.stream()
+                .filter(row -> jobRequests.containsKey(row.getId()))
+                .map(row -> JobRequestSearchHit.builder()
+                        .jobRequest(toResponse(jobRequests.get(row.getId())))
+                        .rank(row.getRank())
+                        .snippet(highlight(row.getSnippet()))
+                        .build())
                 .toList();
+
+        JobRequestSearchRow last = page.isEmpty() ? null : page.get(page.size() - 1);
+        return JobRequestSearchResponse.builder()
+                .results(results)
+                .nextCursor(hasMore ? new SearchCursor(last.getRank(), last.getId()).encode() : null)
+                .build();
+    }
+
+    private static String highlight(String snippet) {
+        if (snippet == null) {
+            return null;
+        }
+        return HtmlUtils.htmlEscape(snippet)
+                .replace("\u0002", "<mark>")
+                .replace("\u0003", "</mark>");
+    }
+
+    private record SearchCursor(float rank, UUID id) {
+
+        String encode() {
+            String raw = Float.toString(rank) + ":" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static SearchCursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.indexOf(':');
+                return new SearchCursor(Float.parseFloat(raw.substring(0, separator)),
+                        UUID.fromString(raw.substring(separator + 1)));
+            } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+            }
+        }
     }
 
     @Transactional
@@ -105,6 +477,10 @@ public class JobRequestService {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Can only update OPEN requests");
         }
 
+        UUID previousCategoryId = jobRequest.getCategoryId();
+        Double previousLat = jobRequest.getLocationLat();
+        Double previousLng = jobRequest.getLocationLng();
+
         if (request.getCategoryId() != null) {
             serviceCategoryRepository.findById(request.getCategoryId())
                     .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid category ID"));
@@ -141,8 +517,21 @@ public class JobRequestService {
         if (request.getLocationState() != null) {
             jobRequest.setLocationState(request.getLocationState());
         }
+        if (request.getLocationLat() != null) {
+            jobRequest.setLocationLat(request.getLocationLat());
+        }
+        if (request.getLocationLng() != null) {
+            jobRequest.setLocationLng(request.getLocationLng());
+        }
 
         jobRequest = jobRequestRepository.save(jobRequest);
+        // Only category and location decide the match; other edits leave the garages' feeds alone
+        if (!Objects.equals(previousCategoryId, jobRequest.getCategoryId())
+                || !Objects.equals(previousLat, jobRequest.getLocationLat())
+                || !Objects.equals(previousLng, jobRequest.getLocationLng())) {
+            matchGarages(jobRequest, jobRequestMatchRepository.findByJobRequestId(jobRequest.getId()));
+        }
+        eventPublisher.publishEvent(new JobRequestChangedEvent(jobRequest.getId()));
         return toResponse(jobRequest);
     }
 
@@ -156,9 +545,58 @@ public class JobRequestService {
         }
 
         jobRequestRepository.delete(jobRequest);
+        eventPublisher.publishEvent(new JobRequestChangedEvent(id));
+    }
+
+    OpenJobRequestIndex.Entry toIndexEntry(JobRequest jobRequest) {
+        return toIndexEntry(jobRequest, toResponse(jobRequest));
     }
 
-    private JobRequestResponse toResponse(JobRequest jobRequest) {
+    /**
+     * Index entries for many requests at once: cars, makes, models and categories are each
+     * loaded with one query instead of per request.
+     */
+    List<OpenJobRequestIndex.Entry> toIndexEntries(List<JobRequest> jobRequests) {
+        Map<Integer, Car> cars = new HashMap<>();
+        carRepository.findAllById(jobRequests.stream().map(JobRequest::getCarId).filter(Objects::nonNull)
+                        .collect(Collectors.toSet()))
+                .forEach(car -> cars.put(car.getId(), car));
+
+        Map<UUID, String> makeNames = new HashMap<>();
+        carMakeRepository.findAllById(cars.values().stream().map(Car::getMakeId).filter(Objects::nonNull)
+                        .collect(Collectors.toSet()))
+                .forEach(make -> makeNames.put(make.getId(), make.getName()));
+
+        Map<UUID, String> modelNames = new HashMap<>();
+        carModelRepository.findAllById(cars.values().stream().map(Car::getModelId).filter(Objects::nonNull)
+                        .collect(Collectors.toSet()))
+                .forEach(model -> modelNames.put(model.getId(), model.getName()));
+
+        Map<UUID, String> categoryNames = new HashMap<>();
+        serviceCategoryRepository.findAllById(jobRequests.stream().map(JobRequest::getCategoryId)
+                        .filter(Objects::nonNull).collect(Collectors.toSet()))
+                .forEach(category -> categoryNames.put(category.getId(), category.getName()));
+
+        return jobRequests.stream()
+                .map(jobRequest -> {
+                    Car car = cars.get(jobRequest.getCarId());
+                    return toIndexEntry(jobRequest, toResponse(jobRequest, car,
+                            car != null ? makeNames.getOrDefault(car.getMakeId(), "Unknown") : "Unknown",
+                            car != null ? modelNames.getOrDefault(car.getModelId(), "Unknown") : "Unknown",
+                            categoryNames.get(jobRequest.getCategoryId())));
+                })
+                .toList();
+    }
+
+    private static OpenJobRequestIndex.Entry toIndexEntry(JobRequest jobRequest, JobRequestResponse response) {
+        return new OpenJobRequestIndex.Entry(jobRequest.getId(), jobRequest.getCategoryId(), response.getCategoryName(),
+                jobRequest.getUrgency(), jobRequest.getLocationCity(), jobRequest.getLocationState(),
+                jobRequest.getBudgetMin(), jobRequest.getBudgetMax(), jobRequest.getPreferredDate(),
+                jobRequest.getLocationLat(), jobRequest.getLocationLng(),
+                jobRequest.getCreatedDate(), jobRequest.getModifiedDate(), response);
+    }
+
+    JobRequestResponse toResponse(JobRequest jobRequest) {
         Car car = carRepository.findById(jobRequest.getCarId()).orElse(null);
         return toResponse(jobRequest, car);
     }
@@ -166,12 +604,10 @@ public class JobRequestService {
     private JobRequestResponse toResponse(JobRequest jobRequest, Car car) {
         String makeName = "Unknown";
         String modelName = "Unknown";
-        Integer carYear = null;
 
         if (car != null) {
             makeName = carMakeRepository.findById(car.getMakeId()).map(CarMake::getName).orElse("Unknown");
             modelName = carModelRepository.findById(car.getModelId()).map(CarModel::getName).orElse("Unknown");
-            carYear = car.getYear();
         }
 
         String categoryName = null;
@@ -180,14 +616,17 @@ public class JobRequestService {
                     .map(ServiceCategory::getName).orElse(null);
         }
 
-        int quoteCount = quoteRepository.countByJobRequestId(jobRequest.getId());
+        return toResponse(jobRequest, car, makeName, modelName, categoryName);
+    }
 
+    private static JobRequestResponse toResponse(JobRequest jobRequest, Car car, String makeName, String modelName,
+                                                 String categoryName) {
         return JobRequestResponse.builder()
                 .id(jobRequest.getId())
                 .carId(jobRequest.getCarId())
                 .makeName(makeName)
                 .modelName(modelName)
-                .carYear(carYear)
+                .carYear(car != null ? car.getYear() : null)
                 .categoryId(jobRequest.getCategoryId())
                 .categoryName(categoryName)
                 .title(jobRequest.getTitle())
@@ -200,7 +639,9 @@ public class JobRequestService {
                 .locationAddress(jobRequest.getLocationAddress())
                 .locationCity(jobRequest.getLocationCity())
                 .locationState(jobRequest.getLocationState())
-                .quoteCount(quoteCount)
+                .locationLat(jobRequest.getLocationLat())
+                .locationLng(jobRequest.getLocationLng())
+                .quoteCount(jobRequest.getQuoteCount())
                 .build();
     }
 }
@@ -0,0 +1,309 @@
+package com.api.auto_ease.service.jobrequest;
+
+import com.api.auto_ease.domain.jobrequest.Urgency;
+import com.api.auto_ease.dto.jobrequest.JobRequestResponse;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * In-memory copy of the OPEN job requests used to serve the garage feed.
+ * <p>
+ * Every open request occupies a slot. Category, urgency, city and state each map a value to
+ * a {@link BitSet} of slots, so any combination of those filters is a handful of bitset
+ * intersections; facet counts are intersection cardinalities. Results come out newest first
+ * from a skip list keyed by {@code createdDate}. Entries carry the prebuilt response.
+ * <p>
+ * Kept current by {@link OpenJobRequestIndexSync}. Until the first load completes
+ * {@link #isReady()} is false and callers should query the database instead. Updates can
+ * arrive out of order, so an entry is never replaced by one with an older {@code modifiedDate}.
+ */
+@Component
+public class OpenJobRequestIndex {
+
+    public record Entry(UUID id, UUID categoryId, String categoryName, Urgency urgency,
+                        String city, String state, BigDecimal budgetMin, BigDecimal budgetMax,
+                        LocalDate preferredDate, Double lat, Double lng,
+                        LocalDateTime createdDate, LocalDateTime modifiedDate,
+                        JobRequestResponse response) {
+    }
+
+    /**
+     * Null fields are not filtered on. {@code residual} covers the filters that are not
+     * bitset-indexed (budget, dates, distance); it may be null.
+     */
+    public record Query(UUID categoryId, Urgency urgency, String city, String state, Predicate<Entry> residual) {
+    }
+
+    public record Result(List<Entry> entries, Map<UUID, Long> categoryCounts,
+                         Map<UUID, String> categoryNames, Map<Urgency, Long> urgencyCounts) {
+    }
+
+    private record CreatedKey(LocalDateTime createdDate, UUID id) {
+    }
+
+    private static final Comparator<CreatedKey> NEWEST_FIRST = Comparator
+            .comparing(CreatedKey::createdDate, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(CreatedKey::id);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<UUID, Integer> slotById = new HashMap<>();
+    private final List<Entry> slots = new ArrayList<>();
+    private final ArrayDeque<Integer> freeSlots = new ArrayDeque<>();
+    private final BitSet live = new BitSet();
+    private final Map<UUID, BitSet> byCategory = new HashMap<>();
+    private final Map<Urgency, BitSet> byUrgency = new EnumMap<>(Urgency.class);
+    private final Map<String, BitSet> byCity = new HashMap<>();
+    private final Map<String, BitSet> byState = new HashMap<>();
+    private final ConcurrentSkipListMap<CreatedKey, Integer> byCreated = new ConcurrentSkipListMap<>(NEWEST_FIRST);
+
+    private volatile boolean ready;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Adds a snapshot of the open requests and marks the index ready. Requests are served while
+     * the snapshot is read, so entries {@link #put} in the meantime are kept unless the
+     * snapshot has a newer copy.
+     */
+    public void load(Collection<Entry> entries) {
+        lock.writeLock().lock();
+        try {
+            entries.forEach(this::putIfNotOlderLocked);
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Indexes the entry unless the indexed copy of the request is newer.
+     */
+    public void put(Entry entry) {
+        lock.writeLock().lock();
+        try {
+            putIfNotOlderLocked(entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(UUID id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Id to {@code modifiedDate} of every indexed request, for consistency checks.
+     */
+    public Map<UUID, LocalDateTime> versions() {
+        lock.readLock().lock();
+        try {
+            Map<UUID, LocalDateTime> versions = new HashMap<>(slotById.size() * 2);
+            slotById.forEach((id, slot) -> versions.put(id, slots.get(slot).modifiedDate()));
+            return versions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Result search(Query query, boolean withFacets) {
+        lock.readLock().lock();
+        try {
+            BitSet base = (BitSet) live.clone();
+            if (query.city() != null) {
+                intersect(base, byCity.get(key(query.city())));
+            }
+            if (query.state() != null) {
+                intersect(base, byState.get(key(query.state())));
+            }
+            if (query.residual() != null) {
+                for (int slot = base.nextSetBit(0); slot >= 0; slot = base.nextSetBit(slot + 1)) {
+                    if (!query.residual().test(slots.get(slot))) {
+                        base.clear(slot);
+                    }
+                }
+            }
+
+            BitSet category = query.categoryId() == null ? null : orEmpty(byCategory.get(query.categoryId()));
+            BitSet urgency = query.urgency() == null ? null : orEmpty(byUrgency.get(query.urgency()));
+
+            BitSet matches = (BitSet) base.clone();
+            intersectIfPresent(matches, category);
+            intersectIfPresent(matches, urgency);
+
+            int matchCount = matches.cardinality();
+            List<Entry> entries = new ArrayList<>(matchCount);
+            if (matchCount > 0) {
+                for (int slot : byCreated.values()) {
+                    if (matches.get(slot)) {
+                        entries.add(slots.get(slot));
+                        if (entries.size() == matchCount) {
+                            break;
+                        }
+                    }
+                }
+            }
+
+            if (!withFacets) {
+                return new Result(entries, Map.of(), Map.of(), Map.of());
+            }
+
+            // Each facet is counted with every filter except its own.
+            BitSet forCategories = (BitSet) base.clone();
+            intersectIfPresent(forCategories, urgency);
+            Map<UUID, Long> categoryCounts = new LinkedHashMap<>();
+            Map<UUID, String> categoryNames = new HashMap<>();
+            byCategory.forEach((categoryId, bits) -> {
+                long count = intersectionSize(forCategories, bits);
+                if (count > 0) {
+                    categoryCounts.put(categoryId, count);
+                    categoryNames.put(categoryId, slots.get(bits.nextSetBit(0)).categoryName());
+                }
+            });
+
+            BitSet forUrgencies = (BitSet) base.clone();
+            intersectIfPresent(forUrgencies, category);
+            Map<Urgency, Long> urgencyCounts = new EnumMap<>(Urgency.class);
+            byUrgency.forEach((value, bits) -> {
+                long count = intersectionSize(forUrgencies, bits);
+                if (count > 0) {
+                    urgencyCounts.put(value, count);
+                }
+            });
+
+            return new Result(entries, categoryCounts, categoryNames, urgencyCounts);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void putIfNotOlderLocked(Entry entry) {
+        Integer slot = slotById.get(entry.id());
+        if (slot != null && isOlder(entry, slots.get(slot))) {
+            return;
+        }
+        removeLocked(entry.id());
+        putLocked(entry);
+    }
+
+    private static boolean isOlder(Entry entry, Entry indexed) {
+        return entry.modifiedDate() != null && indexed.modifiedDate() != null
+                && entry.modifiedDate().isBefore(indexed.modifiedDate());
+    }
+
+    private void putLocked(Entry entry) {
+        int slot;
+        if (freeSlots.isEmpty()) {
+            slot = slots.size();
+            slots.add(entry);
+        } else {
+            slot = freeSlots.pop();
+            slots.set(slot, entry);
+        }
+
+        slotById.put(entry.id(), slot);
+        live.set(slot);
+        byCategory.computeIfAbsent(entry.categoryId(), k -> new BitSet()).set(slot);
+        byUrgency.computeIfAbsent(entry.urgency(), k -> new BitSet()).set(slot);
+        if (entry.city() != null) {
+            byCity.computeIfAbsent(key(entry.city()), k -> new BitSet()).set(slot);
+        }
+        if (entry.state() != null) {
+            byState.computeIfAbsent(key(entry.state()), k -> new BitSet()).set(slot);
+        }
+        byCreated.put(new CreatedKey(entry.createdDate(), entry.id()), slot);
+    }
+
+    private void removeLocked(UUID id) {
+        Integer slot = slotById.remove(id);
+        if (slot == null) {
+            return;
+        }
+
+        Entry entry = slots.get(slot);
+        clear(byCategory, entry.categoryId(), slot);
+        clear(byUrgency, entry.urgency(), slot);
+        if (entry.city() != null) {
+            clear(byCity, key(entry.city()), slot);
+        }
+        if (entry.state() != null) {
+            clear(byState, key(entry.state()), slot);
+        }
+        byCreated.remove(new CreatedKey(entry.createdDate(), entry.id()));
+        live.clear(slot);
+        slots.set(slot, null);
+        freeSlots.push(slot);
+    }
+
+    private static <K> void clear(Map<K, BitSet> index, K key, int slot) {
+        BitSet bits = index.get(key);
+        if (bits != null) {
+            bits.clear(slot);
+            if (bits.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+
+    private static String key(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static BitSet orEmpty(BitSet bits) {
+        return bits == null ? new BitSet() : bits;
+    }
+
+    private static void intersect(BitSet target, BitSet bits) {
+        if (bits == null) {
+            target.clear();
+        } else {
+            target.and(bits);
+        }
+    }
+
+    private static void intersectIfPresent(BitSet target, BitSet bits) {
+        if (bits != null) {
+            target.and(bits);
+        }
+    }
+
+    private static long intersectionSize(BitSet a, BitSet b) {
+        BitSet copy = (BitSet) a.clone();
+        copy.and(b);
+        return copy.cardinality();
+    }
+}
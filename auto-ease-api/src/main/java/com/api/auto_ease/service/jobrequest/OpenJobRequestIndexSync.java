@@ -0,0 +1,88 @@
+package com.api.auto_ease.service.jobrequest;
+
+import com.api.auto_ease.domain.jobrequest.JobRequestStatus;
+import com.api.auto_ease.repository.jobrequest.JobRequestRepository;
+import com.api.auto_ease.repository.jobrequest.JobRequestVersion;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Loads {@link OpenJobRequestIndex} at startup, applies {@link JobRequestChangedEvent}s after
+ * commit and periodically reconciles the index with the OPEN rows in the database.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OpenJobRequestIndexSync {
+
+    private final JobRequestRepository jobRequestRepository;
+    private final JobRequestService jobRequestService;
+    private final OpenJobRequestIndex openJobRequestIndex;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        long start = System.nanoTime();
+        List<OpenJobRequestIndex.Entry> entries = jobRequestService.toIndexEntries(
+                jobRequestRepository.findByStatusOrderByCreatedDateDesc(JobRequestStatus.OPEN));
+        openJobRequestIndex.load(entries);
+        log.info("Open job request index loaded {} requests in {} ms",
+                entries.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    // Runs in its own transaction so the request is re-read as committed. Not read-only, so it
+    // reads the primary rather than a replica that may not have the commit yet.
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onJobRequestChanged(JobRequestChangedEvent event) {
+        refresh(event.jobRequestId());
+    }
+
+    // Compared against the primary: a lagging replica would look like drift and roll entries back
+    @Scheduled(fixedDelayString = "${job-request.open-index.check-interval-ms}",
+            initialDelayString = "${job-request.open-index.check-interval-ms}")
+    @Transactional
+    public void checkConsistency() {
+        if (!openJobRequestIndex.isReady()) {
+            return;
+        }
+
+        Map<UUID, LocalDateTime> indexed = openJobRequestIndex.versions();
+        List<UUID> stale = new ArrayList<>();
+        for (JobRequestVersion version : jobRequestRepository.findVersionsByStatus(JobRequestStatus.OPEN)) {
+            LocalDateTime indexedVersion = indexed.remove(version.id());
+            if (indexedVersion == null || !indexedVersion.equals(version.modifiedDate())) {
+                stale.add(version.id());
+            }
+        }
+
+        // Whatever is left in the index is no longer open in the database.
+        indexed.keySet().forEach(openJobRequestIndex::remove);
+        stale.forEach(this::refresh);
+
+        if (!indexed.isEmpty() || !stale.isEmpty()) {
+            log.warn("Open job request index drifted from the database: {} missing or outdated, {} no longer open",
+                    stale.size(), indexed.size());
+        }
+    }
+
+    private void refresh(UUID jobRequestId) {
+        jobRequestRepository.findById(jobRequestId)
+                .filter(jobRequest -> jobRequest.getStatus() == JobRequestStatus.OPEN)
+                .map(jobRequestService::toIndexEntry)
+                .ifPresentOrElse(openJobRequestIndex::put, () -> openJobRequestIndex.remove(jobRequestId));
+    }
+}
@@ -0,0 +1,236 @@
+package com.api.auto_ease.service.quote;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Mergeable quantile sketch (a merging t-digest) for quote prices.
+ * <p>
+ * Values are summarised as weighted centroids that are small near the tails and large near
+ * the median, so p25/p75 stay within about one percent in rank while the sketch holds at most
+ * {@code compression + 1} centroids regardless of how many prices it has seen. New values go
+ * into a buffer that is sorted and merged into the centroids when it fills or a quantile is
+ * read. Two digests can be merged, and a digest round-trips through {@link #toBytes()} for
+ * snapshots.
+ * <p>
+ * Not thread safe; callers synchronise.
+ */
+public final class PriceDigest {
+
+    public static final double DEFAULT_COMPRESSION = 100;
+
+    private static final byte FORMAT_VERSION = 1;
+    private static final int BUFFER_FACTOR = 5;
+
+    private final double compression;
+
+    private double[] means;
+    private double[] weights;
+    private int centroids;
+
+    private final double[] bufferMeans;
+    private final double[] bufferWeights;
+    private int buffered;
+
+    private double totalWeight;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    public PriceDigest() {
+        this(DEFAULT_COMPRESSION);
+    }
+
+    public PriceDigest(double compression) {
+        if (compression < 10) {
+            throw new IllegalArgumentException("compression must be at least 10");
+        }
+        this.compression = compression;
+        int capacity = (int) Math.ceil(compression) + 1;
+        this.means = new double[capacity];
+        this.weights = new double[capacity];
+        this.bufferMeans = new double[capacity * BUFFER_FACTOR];
+        this.bufferWeights = new double[capacity * BUFFER_FACTOR];
+    }
+
+    public void add(double value) {
+        add(value, 1);
+    }
+
+    public void add(double value, double weight) {
+        if (Double.isNaN(value) || Double.isInfinite(value) || !(weight > 0)) {
+            throw new IllegalArgumentException("value must be finite and weight positive");
+        }
+        if (buffered == bufferMeans.length) {
+            compress();
+        }
+        bufferMeans[buffered] = value;
+        bufferWeights[buffered] = weight;
+        buffered++;
+        totalWeight += weight;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Adds everything {@code other} has seen; {@code other} is left unchanged.
+     */
+    public void merge(PriceDigest other) {
+        for (int i = 0; i < other.centroids; i++) {
+            add(other.means[i], other.weights[i]);
+        }
+        for (int i = 0; i < other.buffered; i++) {
+            add(other.bufferMeans[i], other.bufferWeights[i]);
+        }
+        if (other.totalWeight > 0) {
+            min = Math.min(min, other.min);
+            max = Math.max(max, other.max);
+        }
+    }
+
+    public long count() {
+        return Math.round(totalWeight);
+    }
+
+    int centroidCount() {
+        compress();
+        return centroids;
+    }
+
+    /**
+     * Estimated value at quantile {@code q} (0 to 1), or NaN when the digest is empty.
+     */
+    public double quantile(double q) {
+        if (q < 0 || q > 1) {
+            throw new IllegalArgumentException("q must be between 0 and 1");
+        }
+        compress();
+        if (centroids == 0) {
+            return Double.NaN;
+        }
+        if (centroids == 1) {
+            return means[0];
+        }
+
+        // Each centroid's mean sits at the middle of its weight; interpolate between neighbours
+        double index = q * totalWeight;
+        double firstHalf = weights[0] / 2;
+        if (index < firstHalf) {
+            return min + (means[0] - min) * index / firstHalf;
+        }
+        double position = firstHalf;
+        for (int i = 0; i < centroids - 1; i++) {
+            double gap = (weights[i] + weights[i + 1]) / 2;
+            if (index < position + gap) {
+                return means[i] + (means[i + 1] - means[i]) * (index - position) / gap;
+            }
+            position += gap;
+        }
+        int last = centroids - 1;
+        double lastHalf = weights[last] / 2;
+        return means[last] + (max - means[last]) * Math.min(1, (index - position) / lastHalf);
+    }
+
+    private void compress() {
+        if (buffered == 0) {
+            return;
+        }
+
+        int n = centroids + buffered;
+        double[] allMeans = Arrays.copyOf(means, n);
+        double[] allWeights = Arrays.copyOf(weights, n);
+        System.arraycopy(bufferMeans, 0, allMeans, centroids, buffered);
+        System.arraycopy(bufferWeights, 0, allWeights, centroids, buffered);
+        sortByMean(allMeans, allWeights);
+
+        // Greedy merge: a centroid may grow while it spans at most one unit of the k1 scale,
+        // which keeps centroids near q = 0 and q = 1 small
+        int count = 0;
+        double mean = allMeans[0];
+        double weight = allWeights[0];
+        double merged = 0;
+        double kLeft = scale(0);
+        for (int i = 1; i < n; i++) {
+            double proposed = weight + allWeights[i];
+            if (scale((merged + proposed) / totalWeight) - kLeft <= 1) {
+                mean += (allMeans[i] - mean) * allWeights[i] / proposed;
+                weight = proposed;
+            } else {
+                count = emit(count, mean, weight);
+                merged += weight;
+                kLeft = scale(merged / totalWeight);
+                mean = allMeans[i];
+                weight = allWeights[i];
+            }
+        }
+        centroids = emit(count, mean, weight);
+        buffered = 0;
+    }
+
+    private int emit(int count, double mean, double weight) {
+        if (count == means.length) {
+            means = Arrays.copyOf(means, count * 2);
+            weights = Arrays.copyOf(weights, count * 2);
+        }
+        means[count] = mean;
+        weights[count] = weight;
+        return count + 1;
+    }
+
+    private double scale(double q) {
+        return compression / (2 * Math.PI) * Math.asin(2 * Math.clamp(q, 0.0, 1.0) - 1);
+    }
+
+    private static void sortByMean(double[] means, double[] weights) {
+        Integer[] order = new Integer[means.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(means[a], means[b]));
+        double[] sortedMeans = new double[means.length];
+        double[] sortedWeights = new double[means.length];
+        for (int i = 0; i < order.length; i++) {
+            sortedMeans[i] = means[order[i]];
+            sortedWeights[i] = weights[order[i]];
+        }
+        System.arraycopy(sortedMeans, 0, means, 0, means.length);
+        System.arraycopy(sortedWeights, 0, weights, 0, weights.length);
+    }
+
+    public byte[] toBytes() {
+        compress();
+        ByteBuffer buffer = ByteBuffer.allocate(1 + 8 * 3 + 4 + centroids * 16);
+        buffer.put(FORMAT_VERSION);
+        buffer.putDouble(compression);
+        buffer.putDouble(min);
+        buffer.putDouble(max);
+        buffer.putInt(centroids);
+        for (int i = 0; i < centroids; i++) {
+            buffer.putDouble(means[i]);
+            buffer.putDouble(weights[i]);
+        }
+        return buffer.array();
+    }
+
+    public static PriceDigest fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        byte version = buffer.get();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported digest format " + version);
+        }
+        PriceDigest digest = new PriceDigest(buffer.getDouble());
+        double min = buffer.getDouble();
+        double max = buffer.getDouble();
+        int count = buffer.getInt();
+        for (int i = 0; i < count; i++) {
+            double mean = buffer.getDouble();
+            double weight = buffer.getDouble();
+            digest.centroids = digest.emit(digest.centroids, mean, weight);
+            digest.totalWeight += weight;
+        }
+        if (count > 0) {
+            digest.min = min;
+            digest.max = max;
+        }
+        return digest;
+    }
+}
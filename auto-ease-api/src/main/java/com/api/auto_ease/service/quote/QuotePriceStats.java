@@ -0,0 +1,229 @@
+package com.api.auto_ease.service.quote;
+
+import com.api.auto_ease.domain.quote.QuotePriceSketch;
+import com.api.auto_ease.repository.quote.QuotePriceSample;
+import com.api.auto_ease.repository.quote.QuotePriceSampleRepository;
+import com.api.auto_ease.repository.quote.QuotePriceSketchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Incremental quote price statistics behind the "typical price" range shown to owners.
+ * <p>
+ * Every quote is folded into a {@link PriceDigest} for its (category, make, model-year band)
+ * cell and for the coarser (category, make) and (category) cells, so a lookup can fall back
+ * to a wider cell when the exact one has too few quotes. A cell caches its quartiles and only
+ * recomputes them on the first read after a change, so reads are a few map lookups.
+ * <p>
+ * Quotes arrive from {@link QuoteSubmittedEvent}s after commit. Changed cells are snapshotted
+ * to {@code quote_price_sketches} periodically; at startup the snapshots are loaded and only
+ * quotes created after each cell's {@code applied_through} are replayed. Without snapshots
+ * the first start builds every cell from one pass over the quotes, archived ones included.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuotePriceStats {
+
+    static final int YEAR_BAND = 5;
+    static final int MIN_QUOTES = 5;
+
+    private final QuotePriceSampleRepository quotePriceSampleRepository;
+    private final QuotePriceSketchRepository quotePriceSketchRepository;
+
+    private final Map<String, Cell> cells = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        long start = System.nanoTime();
+        LocalDateTime replayAfter = null;
+        boolean fullRebuild = true;
+        for (QuotePriceSketch sketch : quotePriceSketchRepository.findAll()) {
+            Cell cell = new Cell(sketch.getCategoryId(), sketch.getMakeId(), sketch.getYearBand(),
+                    PriceDigest.fromBytes(sketch.getSketch()), sketch.getAppliedThrough());
+            cells.put(sketch.getCellKey(), cell);
+            if (fullRebuild || sketch.getAppliedThrough().isBefore(replayAfter)) {
+                replayAfter = sketch.getAppliedThrough();
+            }
+            fullRebuild = false;
+        }
+
+        long replayed = 0;
+        try (Stream<QuotePriceSample> samples = fullRebuild
+                ? quotePriceSampleRepository.streamPriceSamples()
+                : quotePriceSampleRepository.streamPriceSamplesCreatedAfter(replayAfter)) {
+            for (QuotePriceSample sample : (Iterable<QuotePriceSample>) samples::iterator) {
+                record(sample.categoryId(), sample.makeId(), sample.carYear(), sample.price(),
+                        sample.createdDate(), true);
+                replayed++;
+            }
+        }
+        log.info("Quote price stats loaded {} cells and replayed {} quotes ({}) in {} ms",
+                cells.size(), replayed, fullRebuild ? "full rebuild" : "after " + replayAfter,
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQuoteSubmitted(QuoteSubmittedEvent event) {
+        record(event.categoryId(), event.makeId(), event.carYear(), event.price(), event.createdDate(), false);
+    }
+
+    void record(UUID categoryId, UUID makeId, Integer carYear, BigDecimal price, LocalDateTime createdDate,
+                boolean replay) {
+        if (price == null) {
+            return;
+        }
+        Integer yearBand = yearBand(carYear);
+        double value = price.doubleValue();
+        cell(categoryId, null, null).add(value, createdDate, replay);
+        if (makeId != null) {
+            cell(categoryId, makeId, null).add(value, createdDate, replay);
+            if (yearBand != null) {
+                cell(categoryId, makeId, yearBand).add(value, createdDate, replay);
+            }
+        }
+    }
+
+    /**
+     * Quartiles of the most specific cell with at least {@value #MIN_QUOTES} quotes, or
+     * {@code null} when even the category as a whole has fewer.
+     */
+    public PriceRange typicalRange(UUID categoryId, UUID makeId, Integer carYear) {
+        Integer yearBand = yearBand(carYear);
+        if (makeId != null && yearBand != null) {
+            PriceRange range = rangeOf(key(categoryId, makeId, yearBand));
+            if (range != null) {
+                return range;
+            }
+        }
+        if (makeId != null) {
+            PriceRange range = rangeOf(key(categoryId, makeId, null));
+            if (range != null) {
+                return range;
+            }
+        }
+        return rangeOf(key(categoryId, null, null));
+    }
+
+    @Scheduled(fixedDelayString = "${quote.price-stats.snapshot-interval-ms}",
+            initialDelayString = "${quote.price-stats.snapshot-interval-ms}")
+    @Transactional
+    public void snapshot() {
+        LocalDateTime now = LocalDateTime.now();
+        List<QuotePriceSketch> changed = new ArrayList<>();
+        cells.forEach((key, cell) -> {
+            QuotePriceSketch sketch = cell.snapshotIfChanged(key, now);
+            if (sketch != null) {
+                changed.add(sketch);
+            }
+        });
+        if (!changed.isEmpty()) {
+            quotePriceSketchRepository.saveAll(changed);
+            log.info("Quote price stats snapshotted {} of {} cells", changed.size(), cells.size());
+        }
+    }
+
+    int cellCount() {
+        return cells.size();
+    }
+
+    private PriceRange rangeOf(String key) {
+        Cell cell = cells.get(key);
+        return cell == null ? null : cell.range();
+    }
+
+    private Cell cell(UUID categoryId, UUID makeId, Integer yearBand) {
+        return cells.computeIfAbsent(key(categoryId, makeId, yearBand),
+                key -> new Cell(categoryId, makeId, yearBand, new PriceDigest(), null));
+    }
+
+    private static Integer yearBand(Integer carYear) {
+        return carYear == null ? null : Math.floorDiv(carYear, YEAR_BAND) * YEAR_BAND;
+    }
+
+    private static String key(UUID categoryId, UUID makeId, Integer yearBand) {
+        return (categoryId == null ? "*" : categoryId) + "/" + (makeId == null ? "*" : makeId)
+                + "/" + (yearBand == null ? "*" : yearBand);
+    }
+
+    /**
+     * Quartiles of one cell; {@code makeId} and {@code yearFrom} are null when the cell spans
+     * every make or every year.
+     */
+    public record PriceRange(UUID categoryId, UUID makeId, Integer yearFrom, Integer yearTo, long quoteCount,
+                             double p25, double median, double p75) {
+    }
+
+    private static final class Cell {
+
+        private final UUID categoryId;
+        private final UUID makeId;
+        private final Integer yearBand;
+        private final PriceDigest digest;
+        private final LocalDateTime snapshotThrough;
+        private LocalDateTime appliedThrough;
+        private boolean snapshotPending;
+        private volatile PriceRange range;
+
+        Cell(UUID categoryId, UUID makeId, Integer yearBand, PriceDigest digest, LocalDateTime appliedThrough) {
+            this.categoryId = categoryId;
+            this.makeId = makeId;
+            this.yearBand = yearBand;
+            this.digest = digest;
+            this.snapshotThrough = appliedThrough;
+            this.appliedThrough = appliedThrough;
+        }
+
+        synchronized void add(double price, LocalDateTime createdDate, boolean replay) {
+            // Replay after a restart skips quotes the loaded snapshot already holds
+            if (replay && snapshotThrough != null && !createdDate.isAfter(snapshotThrough)) {
+                return;
+            }
+            digest.add(price);
+            if (createdDate != null && (appliedThrough == null || createdDate.isAfter(appliedThrough))) {
+                appliedThrough = createdDate;
+            }
+            snapshotPending = true;
+            range = null;
+        }
+
+        PriceRange range() {
+            PriceRange current = range;
+            if (current != null) {
+                return current.quoteCount() >= MIN_QUOTES ? current : null;
+            }
+            synchronized (this) {
+                current = new PriceRange(categoryId, makeId, yearBand,
+                        yearBand == null ? null : yearBand + YEAR_BAND - 1, digest.count(),
+                        digest.quantile(0.25), digest.quantile(0.5), digest.quantile(0.75));
+                range = current;
+            }
+            return current.quoteCount() >= MIN_QUOTES ? current : null;
+        }
+
+        synchronized QuotePriceSketch snapshotIfChanged(String key, LocalDateTime now) {
+            if (!snapshotPending || appliedThrough == null) {
+                return null;
+            }
+            snapshotPending = false;
+            return new QuotePriceSketch(key, categoryId, makeId, yearBand, digest.count(), digest.toBytes(),
+                    appliedThrough, now);
+        }
+    }
+}
@@ -1,21 +1,30 @@
 package com.api.auto_ease.service.quote;
 
+import com.api.auto_ease.domain.car.Car;
 import com.api.auto_ease.domain.garage.Garage;
 import com.api.auto_ease.domain.jobrequest.JobRequest;
 import com.api.auto_ease.domain.jobrequest.JobRequestStatus;
 import com.api.auto_ease.domain.quote.Quote;
 import com.api.auto_ease.domain.quote.QuoteStatus;
 import com.api.auto_ease.dto.quote.CreateQuoteRequest;
+import com.api.auto_ease.dto.quote.QuotePriceRangeResponse;
 import com.api.auto_ease.dto.quote.QuoteResponse;
+import com.api.auto_ease.repository.car.CarRepository;
 import com.api.auto_ease.repository.garage.GarageRepository;
 import com.api.auto_ease.repository.jobrequest.JobRequestRepository;
 import com.api.auto_ease.repository.quote.QuoteRepository;
+import com.api.auto_ease.security.AuthenticatedUser;
+import com.api.auto_ease.service.garage.GarageStatsService;
+import com.api.auto_ease.service.jobrequest.JobRequestChangedEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.util.List;
 import java.util.UUID;
 
@@ -26,10 +35,14 @@ public class QuoteService {
     private final QuoteRepository quoteRepository;
     private final JobRequestRepository jobRequestRepository;
     private final GarageRepository garageRepository;
+    private final CarRepository carRepository;
+    private final QuotePriceStats quotePriceStats;
+    private final GarageStatsService garageStatsService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
-    public QuoteResponse submitQuote(String garageUserId, UUID jobRequestId, CreateQuoteRequest request) {
-        Garage garage = garageRepository.findByUserId(garageUserId)
+    public QuoteResponse submitQuote(AuthenticatedUser garageUser, UUID jobRequestId, CreateQuoteRequest request) {
+        Garage garage = garageRepository.findOwnGarage(garageUser.garageId(), garageUser.uuid())
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "You must create a garage profile first"));
 
         JobRequest jobRequest = jobRequestRepository.findById(jobRequestId)
@@ -49,27 +62,77 @@ public class QuoteService {
                 QuoteStatus.PENDING, null, null, null);
 
         quote = quoteRepository.save(quote);
+        jobRequestRepository.incrementQuoteCount(jobRequestId);
+        garageStatsService.recordQuoteSubmitted(quote);
+        eventPublisher.publishEvent(new JobRequestChangedEvent(jobRequestId));
+        Car car = carRepository.findById(jobRequest.getCarId()).orElse(null);
+        eventPublisher.publishEvent(new QuoteSubmittedEvent(jobRequest.getCategoryId(),
+                car != null ? car.getMakeId() : null, car != null ? car.getYear() : null,
+                quote.getPrice(), quote.getCreatedDate()));
         return toResponse(quote, garage);
     }
 
+    /**
+     * Typical price (p25 to p75) quoted for work in the category on this make and model year.
+     */
+    public QuotePriceRangeResponse getTypicalPriceRange(UUID categoryId, UUID makeId, Integer year) {
+        QuotePriceStats.PriceRange range = quotePriceStats.typicalRange(categoryId, makeId, year);
+        if (range == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Not enough quotes to estimate a price range");
+        }
+        return QuotePriceRangeResponse.builder()
+                .categoryId(range.categoryId())
+                .makeId(range.makeId())
+                .yearFrom(range.yearFrom())
+                .yearTo(range.yearTo())
+                .quoteCount(range.quoteCount())
+                .low(price(range.p25()))
+                .median(price(range.median()))
+                .high(price(range.p75()))
+                .build();
+    }
+
+    /**
+     * Typical price range for the owner's own job request.
+     */
+    @Transactional(readOnly = true)
+    public QuotePriceRangeResponse getTypicalPriceRangeForRequest(String ownerUserId, UUID jobRequestId) {
+        JobRequest jobRequest = jobRequestRepository.findHistoryById(jobRequestId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Job request not found"));
+
+        if (!jobRequest.getUserId().equals(ownerUserId)) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "You do not own this job request");
+        }
+
+        Car car = carRepository.findById(jobRequest.getCarId()).orElse(null);
+        return getTypicalPriceRange(jobRequest.getCategoryId(),
+                car != null ? car.getMakeId() : null, car != null ? car.getYear() : null);
+    }
+
+    private static BigDecimal price(double value) {
+        return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    @Transactional(readOnly = true)
     public List<QuoteResponse> getQuotesForRequest(String ownerUserId, UUID jobRequestId) {
-        JobRequest jobRequest = jobRequestRepository.findById(jobRequestId)
+        JobRequest jobRequest = jobRequestRepository.findHistoryById(jobRequestId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Job request not found"));
 
         if (!jobRequest.getUserId().equals(ownerUserId)) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "You do not own this job request");
         }
 
-        return quoteRepository.findByJobRequestIdOrderByCreatedDateDesc(jobRequestId).stream()
+        return quoteRepository.findHistoryByJobRequestId(jobRequestId).stream()
                 .map(this::toResponse)
                 .toList();
     }
 
-    public List<QuoteResponse> getMyQuotes(String garageUserId) {
-        Garage garage = garageRepository.findByUserId(garageUserId)
+    @Transactional(readOnly = true)
+    public List<QuoteResponse> getMyQuotes(AuthenticatedUser garageUser) {
+        Garage garage = garageRepository.findOwnGarage(garageUser.garageId(), garageUser.uuid())
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Garage not found"));
 
-        return quoteRepository.findByGarageIdOrderByCreatedDateDesc(garage.getId()).stream()
+        return quoteRepository.findHistoryByGarageId(garage.getId()).stream()
                 .map(quote -> toResponse(quote, garage))
                 .toList();
     }
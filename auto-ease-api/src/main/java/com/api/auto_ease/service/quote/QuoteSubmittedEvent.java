@@ -0,0 +1,13 @@
+package com.api.auto_ease.service.quote;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Published when a garage submits a quote, carrying what the price statistics need so they
+ * can be updated after commit without reading the quote back.
+ */
+public record QuoteSubmittedEvent(UUID categoryId, UUID makeId, Integer carYear, BigDecimal price,
+                                  LocalDateTime createdDate) {
+}
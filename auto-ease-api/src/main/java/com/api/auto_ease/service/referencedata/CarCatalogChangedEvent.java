@@ -0,0 +1,7 @@
+package com.api.auto_ease.service.referencedata;
+
+/**
+ * Published when car_makes/car_models were changed in bulk, so in-memory catalog views can reload.
+ */
+public record CarCatalogChangedEvent() {
+}
@@ -0,0 +1,76 @@
+package com.api.auto_ease.service.referencedata;
+
+import com.api.auto_ease.dto.referencedata.CarCatalogImportResponse;
+import com.api.auto_ease.repository.carCatalog.CarCatalogCopyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+
+/**
+ * Loads a car catalog CSV ({@code make,model,year} with a header row) in one transaction.
+ * <p>
+ * The body is streamed straight into {@code COPY}, so nothing is buffered in the application
+ * and an input of any size costs one round trip. Makes and models are then merged with
+ * set-based statements: names are matched case-insensitively, missing rows are inserted
+ * and existing models only have their year range widened. A malformed file rolls the whole
+ * import back.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CarCatalogImportService {
+
+    private final CarCatalogCopyRepository carCatalogCopyRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public CarCatalogImportResponse importCatalog(InputStream body) throws IOException {
+        long start = System.nanoTime();
+        carCatalogCopyRepository.lockCatalog();
+        carCatalogCopyRepository.createStagingTable();
+
+        long rowsRead;
+        Reader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        try {
+            rowsRead = carCatalogCopyRepository.copyIntoStaging(reader);
+        } catch (SQLException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid catalog CSV: " + e.getMessage());
+        }
+
+        int rowsSkipped = carCatalogCopyRepository.prepareMerge();
+        int makesInserted = carCatalogCopyRepository.insertMissingMakes();
+        int modelsUpdated = carCatalogCopyRepository.widenExistingModelYears();
+        int modelsInserted = carCatalogCopyRepository.insertMissingModels();
+
+        if (makesInserted > 0 || modelsInserted > 0 || modelsUpdated > 0) {
+            eventPublisher.publishEvent(new CarCatalogChangedEvent());
+        }
+
+        long elapsedNanos = System.nanoTime() - start;
+        long rowsPerSecond = elapsedNanos == 0 ? rowsRead : rowsRead * 1_000_000_000L / elapsedNanos;
+        log.info("Car catalog import: {} rows ({} skipped) in {} ms, {} rows/s; {} makes and {} models added, {} models updated",
+                rowsRead, rowsSkipped, elapsedNanos / 1_000_000, rowsPerSecond, makesInserted, modelsInserted, modelsUpdated);
+
+        return CarCatalogImportResponse.builder()
+                .rowsRead(rowsRead)
+                .rowsSkipped(rowsSkipped)
+                .makesInserted(makesInserted)
+                .modelsInserted(modelsInserted)
+                .modelsUpdated(modelsUpdated)
+                .durationMs(elapsedNanos / 1_000_000)
+                .rowsPerSecond(rowsPerSecond)
+                .build();
+    }
+}
@@ -0,0 +1,172 @@
+package com.api.auto_ease.service.referencedata;
+
+import com.api.auto_ease.domain.carMake.CarMake;
+import com.api.auto_ease.domain.carModel.CarModel;
+import com.api.auto_ease.dto.referencedata.CarCatalogTypeaheadResponse;
+import com.api.auto_ease.dto.referencedata.CarMakeResponse;
+import com.api.auto_ease.dto.referencedata.CarModelResponse;
+import com.api.auto_ease.repository.carMake.CarMakeRepository;
+import com.api.auto_ease.repository.carModel.CarModelRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Prefix lookups over the car catalog for the vehicle form's typeahead.
+ * <p>
+ * Makes and models are held in immutable {@link PrefixTrie}s built from
+ * {@code car_makes}/{@code car_models} when the application is ready. Every name is indexed
+ * from each word start, so "rover" finds "Land Rover". Models are also indexed under
+ * "make model", and each make has its own model trie for a form that already has a make.
+ * <p>
+ * The trie is rebuilt after a {@link CarCatalogChangedEvent}, and the catalog is also
+ * checksummed periodically to catch changes made outside the application. A rebuild swaps in
+ * a complete new snapshot, so a lookup always sees one consistent catalog.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CarCatalogTypeahead {
+
+    public static final int MAX_LIMIT = 50;
+
+    private final CarMakeRepository carMakeRepository;
+    private final CarModelRepository carModelRepository;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(Snapshot.EMPTY);
+    private final ThreadLocal<int[]> buffers = ThreadLocal.withInitial(() -> new int[MAX_LIMIT]);
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        rebuild(checksum());
+    }
+
+    @Scheduled(fixedDelayString = "${car-catalog.typeahead.check-interval-ms}",
+            initialDelayString = "${car-catalog.typeahead.check-interval-ms}")
+    @Transactional(readOnly = true)
+    public void refreshIfChanged() {
+        String checksum = checksum();
+        if (!checksum.equals(snapshot.get().checksum())) {
+            rebuild(checksum);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CarCatalogChangedEvent event) {
+        refreshIfChanged();
+    }
+
+    public CarCatalogTypeaheadResponse lookup(String prefix, UUID makeId, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit must be between 1 and " + MAX_LIMIT);
+        }
+
+        Snapshot current = snapshot.get();
+        int[] buffer = buffers.get();
+
+        List<CarMakeResponse> makes = List.of();
+        PrefixTrie models = current.models();
+        if (makeId == null) {
+            int count = current.makes().lookup(prefix, buffer, limit);
+            makes = collect(current.makeItems(), buffer, count);
+        } else {
+            models = current.modelsByMake().get(makeId);
+        }
+
+        List<CarModelResponse> modelMatches = List.of();
+        if (models != null) {
+            int count = models.lookup(prefix, buffer, limit);
+            modelMatches = collect(current.modelItems(), buffer, count);
+        }
+
+        return CarCatalogTypeaheadResponse.builder()
+                .makes(makes)
+                .models(modelMatches)
+                .build();
+    }
+
+    private String checksum() {
+        return carMakeRepository.catalogChecksum() + "/" + carModelRepository.catalogChecksum();
+    }
+
+    private void rebuild(String checksum) {
+        long start = System.nanoTime();
+        List<CarMake> makes = carMakeRepository.findAllByOrderByNameAsc();
+        List<CarModel> models = carModelRepository.findAll();
+
+        CarMakeResponse[] makeItems = new CarMakeResponse[makes.size()];
+        Map<UUID, String> makeNames = new HashMap<>();
+        PrefixTrie.Builder makeTrie = PrefixTrie.builder();
+        for (int i = 0; i < makes.size(); i++) {
+            CarMake make = makes.get(i);
+            makeItems[i] = new CarMakeResponse(make.getId(), make.getName());
+            makeNames.put(make.getId(), make.getName());
+            addWordStarts(makeTrie, make.getName(), i);
+        }
+
+        CarModelResponse[] modelItems = new CarModelResponse[models.size()];
+        PrefixTrie.Builder modelTrie = PrefixTrie.builder();
+        Map<UUID, PrefixTrie.Builder> makeModelTries = new HashMap<>();
+        for (int i = 0; i < models.size(); i++) {
+            CarModel model = models.get(i);
+            modelItems[i] = new CarModelResponse(model.getId(), model.getMakeId(), model.getName(),
+                    model.getYearFrom(), model.getYearTo());
+            addWordStarts(modelTrie, model.getName(), i);
+            modelTrie.add(makeNames.get(model.getMakeId()) + " " + model.getName(), i);
+            addWordStarts(makeModelTries.computeIfAbsent(model.getMakeId(), id -> PrefixTrie.builder()),
+                    model.getName(), i);
+        }
+
+        Map<UUID, PrefixTrie> modelsByMake = new HashMap<>();
+        makeModelTries.forEach((id, builder) -> modelsByMake.put(id, builder.build()));
+
+        Snapshot next = new Snapshot(checksum, makeTrie.build(), makeItems, modelTrie.build(), modelItems,
+                Map.copyOf(modelsByMake));
+        snapshot.set(next);
+        log.info("Car catalog typeahead built from {} makes and {} models ({} trie nodes) in {} ms",
+                makeItems.length, modelItems.length, next.makes().nodeCount() + next.models().nodeCount(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private static void addWordStarts(PrefixTrie.Builder trie, String name, int ordinal) {
+        if (name == null) {
+            return;
+        }
+        String key = PrefixTrie.foldKey(name);
+        trie.add(key, ordinal);
+        for (int i = key.indexOf(' '); i >= 0; i = key.indexOf(' ', i + 1)) {
+            trie.add(key.substring(i + 1), ordinal);
+        }
+    }
+
+    private static <T> List<T> collect(T[] items, int[] ordinals, int count) {
+        List<T> results = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            results.add(items[ordinals[i]]);
+        }
+        return results;
+    }
+
+    private record Snapshot(String checksum, PrefixTrie makes, CarMakeResponse[] makeItems,
+                            PrefixTrie models, CarModelResponse[] modelItems,
+                            Map<UUID, PrefixTrie> modelsByMake) {
+
+        static final Snapshot EMPTY = new Snapshot("", PrefixTrie.builder().build(), new CarMakeResponse[0],
+                PrefixTrie.builder().build(), new CarModelResponse[0], Map.of());
+    }
+}
@@ -0,0 +1,298 @@
+package com.api.auto_ease.service.referencedata;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Immutable, array-backed radix trie mapping folded keys to entry ordinals.
+ * <p>
+ * Keys are sorted before the trie is built, so the keys under any node form one contiguous
+ * range of the sorted array and a node only stores that range. Edge labels are slices of
+ * the sorted keys rather than copies, and nodes are laid out breadth first so the children
+ * of a node are adjacent and can be binary searched by their first character.
+ * <p>
+ * {@link #lookup} folds the query one character at a time while walking the trie and writes
+ * ordinals into a caller-supplied buffer, so a lookup does not allocate.
+ */
+public final class PrefixTrie {
+
+    private static final char SEPARATOR = ' ';
+    private static final char[] FOLD_TABLE = buildFoldTable();
+
+    private final String[] keys;
+    private final int[] ordinals;
+
+    // Per node: edge label as keys[labelKey].substring(labelStart, labelEnd), children, key range
+    private final int[] labelKey;
+    private final int[] labelStart;
+    private final int[] labelEnd;
+    private final char[] firstChar;
+    private final int[] firstChild;
+    private final int[] childCount;
+    private final int[] rangeStart;
+    private final int[] rangeEnd;
+
+    private PrefixTrie(String[] keys, int[] ordinals, Nodes nodes) {
+        this.keys = keys;
+        this.ordinals = ordinals;
+        this.labelKey = Arrays.copyOf(nodes.labelKey, nodes.size);
+        this.labelStart = Arrays.copyOf(nodes.labelStart, nodes.size);
+        this.labelEnd = Arrays.copyOf(nodes.labelEnd, nodes.size);
+        this.firstChar = Arrays.copyOf(nodes.firstChar, nodes.size);
+        this.firstChild = Arrays.copyOf(nodes.firstChild, nodes.size);
+        this.childCount = Arrays.copyOf(nodes.childCount, nodes.size);
+        this.rangeStart = Arrays.copyOf(nodes.rangeStart, nodes.size);
+        this.rangeEnd = Arrays.copyOf(nodes.rangeEnd, nodes.size);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int keyCount() {
+        return keys.length;
+    }
+
+    public int nodeCount() {
+        return labelKey.length;
+    }
+
+    /**
+     * Writes the ordinals of up to {@code limit} distinct entries with a key starting with
+     * {@code prefix} into {@code out}, in key order, and returns how many were written.
+     */
+    public int lookup(CharSequence prefix, int[] out, int limit) {
+        int node = 0;
+        int position = 0;
+        boolean pendingSeparator = false;
+
+        for (int i = 0; i < prefix.length(); i++) {
+            char c = fold(prefix.charAt(i));
+            if (c == SEPARATOR) {
+                // Leading separators are dropped and runs of them match a single one
+                pendingSeparator = node != 0;
+                continue;
+            }
+            for (int pass = pendingSeparator ? 0 : 1; pass < 2; pass++) {
+                char expected = pass == 0 ? SEPARATOR : c;
+                if (position < labelEnd[node]) {
+                    if (keys[labelKey[node]].charAt(position) != expected) {
+                        return 0;
+                    }
+                    position++;
+                } else {
+                    int child = findChild(node, expected);
+                    if (child < 0) {
+                        return 0;
+                    }
+                    node = child;
+                    position = labelStart[child] + 1;
+                }
+            }
+            pendingSeparator = false;
+        }
+        return collect(node, out, Math.min(limit, out.length));
+    }
+
+    private int collect(int node, int[] out, int limit) {
+        int count = 0;
+        for (int i = rangeStart[node]; i < rangeEnd[node] && count < limit; i++) {
+            int ordinal = ordinals[i];
+            boolean duplicate = false;
+            for (int j = 0; j < count; j++) {
+                if (out[j] == ordinal) {
+                    duplicate = true;
+                    break;
+                }
+            }
+            if (!duplicate) {
+                out[count++] = ordinal;
+            }
+        }
+        return count;
+    }
+
+    private int findChild(int node, char c) {
+        int low = firstChild[node];
+        int high = low + childCount[node] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char midChar = firstChar[mid];
+            if (midChar < c) {
+                low = mid + 1;
+            } else if (midChar > c) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Lower-case, diacritic-free form of a character; anything that is not a letter or digit
+     * becomes a separator. "Škoda" and "skoda" fold to the same key, as do "Land-Rover" and "land rover".
+     */
+    static char fold(char c) {
+        if (c < FOLD_TABLE.length) {
+            return FOLD_TABLE[c];
+        }
+        return Character.isLetterOrDigit(c) ? Character.toLowerCase(c) : SEPARATOR;
+    }
+
+    /**
+     * Folds every character and collapses separators, the form keys are stored in.
+     */
+    static String foldKey(String text) {
+        StringBuilder key = new StringBuilder(text.length());
+        boolean pendingSeparator = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = fold(text.charAt(i));
+            if (c == SEPARATOR) {
+                pendingSeparator = !key.isEmpty();
+                continue;
+            }
+            if (pendingSeparator) {
+                key.append(SEPARATOR);
+                pendingSeparator = false;
+            }
+            key.append(c);
+        }
+        return key.toString();
+    }
+
+    private static char[] buildFoldTable() {
+        // Covers Latin-1 and Latin Extended-A/B, which is where catalog names live
+        char[] table = new char[0x250];
+        for (char c = 0; c < table.length; c++) {
+            String decomposed = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD);
+            char base = decomposed.charAt(0);
+            table[c] = Character.isLetterOrDigit(base) ? Character.toLowerCase(base) : SEPARATOR;
+        }
+        return table;
+    }
+
+    public static final class Builder {
+
+        private final List<String> keys = new ArrayList<>();
+        private final List<Integer> ordinals = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Adds {@code text} for the entry; the text is folded, and blank keys are ignored.
+         */
+        public Builder add(String text, int ordinal) {
+            if (text == null) {
+                return this;
+            }
+            String key = foldKey(text);
+            if (!key.isEmpty()) {
+                keys.add(key);
+                ordinals.add(ordinal);
+            }
+            return this;
+        }
+
+        public PrefixTrie build() {
+            Integer[] order = new Integer[keys.size()];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, Comparator.<Integer, String>comparing(keys::get).thenComparing(ordinals::get));
+
+            String[] sortedKeys = new String[order.length];
+            int[] sortedOrdinals = new int[order.length];
+            for (int i = 0; i < order.length; i++) {
+                sortedKeys[i] = keys.get(order[i]);
+                sortedOrdinals[i] = ordinals.get(order[i]);
+            }
+            return new PrefixTrie(sortedKeys, sortedOrdinals, Nodes.build(sortedKeys));
+        }
+    }
+
+    /**
+     * Growable node arrays used while building; trimmed into the trie once complete.
+     */
+    private static final class Nodes {
+
+        private int size;
+        private int[] labelKey = new int[16];
+        private int[] labelStart = new int[16];
+        private int[] labelEnd = new int[16];
+        private char[] firstChar = new char[16];
+        private int[] firstChild = new int[16];
+        private int[] childCount = new int[16];
+        private int[] rangeStart = new int[16];
+        private int[] rangeEnd = new int[16];
+
+        private final String[] keys;
+
+        private Nodes(String[] keys) {
+            this.keys = keys;
+        }
+
+        static Nodes build(String[] keys) {
+            Nodes nodes = new Nodes(keys);
+            nodes.add(0, 0, 0, 0, keys.length);
+
+            // Breadth first: the children of each node are appended together, so they stay adjacent
+            for (int node = 0; node < nodes.size; node++) {
+                int depth = nodes.labelEnd[node];
+                int low = nodes.rangeStart[node];
+                int high = nodes.rangeEnd[node];
+                // Keys ending here sort first
+                while (low < high && keys[low].length() == depth) {
+                    low++;
+                }
+                nodes.firstChild[node] = nodes.size;
+                while (low < high) {
+                    char c = keys[low].charAt(depth);
+                    int groupEnd = low + 1;
+                    while (groupEnd < high && keys[groupEnd].charAt(depth) == c) {
+                        groupEnd++;
+                    }
+                    int shared = commonPrefix(keys[low], keys[groupEnd - 1]);
+                    nodes.add(low, depth, shared, low, groupEnd);
+                    nodes.childCount[node]++;
+                    low = groupEnd;
+                }
+            }
+            return nodes;
+        }
+
+        private void add(int key, int start, int end, int from, int to) {
+            if (size == labelKey.length) {
+                int capacity = size * 2;
+                labelKey = Arrays.copyOf(labelKey, capacity);
+                labelStart = Arrays.copyOf(labelStart, capacity);
+                labelEnd = Arrays.copyOf(labelEnd, capacity);
+                firstChar = Arrays.copyOf(firstChar, capacity);
+                firstChild = Arrays.copyOf(firstChild, capacity);
+                childCount = Arrays.copyOf(childCount, capacity);
+                rangeStart = Arrays.copyOf(rangeStart, capacity);
+                rangeEnd = Arrays.copyOf(rangeEnd, capacity);
+            }
+            labelKey[size] = key;
+            labelStart[size] = start;
+            labelEnd[size] = end;
+            firstChar[size] = end > start ? keys[key].charAt(start) : 0;
+            rangeStart[size] = from;
+            rangeEnd[size] = to;
+            size++;
+        }
+
+        private static int commonPrefix(String a, String b) {
+            int max = Math.min(a.length(), b.length());
+            int i = 0;
+            while (i < max && a.charAt(i) == b.charAt(i)) {
+                i++;
+            }
+            return i;
+        }
+    }
+}
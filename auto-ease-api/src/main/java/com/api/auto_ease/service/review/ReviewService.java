@@ -13,7 +13,10 @@ import com.api.auto_ease.repository.garage.GarageRepository;
 import com.api.auto_ease.repository.jobrequest.JobRequestRepository;
 import com.api.auto_ease.repository.quote.QuoteRepository;
 import com.api.auto_ease.repository.review.ReviewRepository;
+import com.api.auto_ease.service.garage.GarageChangedEvent;
+import com.api.auto_ease.service.garage.GarageStatsService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -33,16 +36,18 @@ public class ReviewService {
     private final QuoteRepository quoteRepository;
     private final JobRequestRepository jobRequestRepository;
     private final GarageRepository garageRepository;
+    private final GarageStatsService garageStatsService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public ReviewResponse createReview(String userId, UUID bookingId, CreateReviewRequest request) {
         Booking booking = bookingRepository.findById(bookingId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Booking not found"));
 
-        Quote quote = quoteRepository.findById(booking.getQuoteId())
+        Quote quote = quoteRepository.findHistoryById(booking.getQuoteId())
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Quote not found"));
 
-        JobRequest jobRequest = jobRequestRepository.findById(quote.getJobRequestId())
+        JobRequest jobRequest = jobRequestRepository.findHistoryById(quote.getJobRequestId())
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Job request not found"));
 
         if (!jobRequest.getUserId().equals(userId)) {
@@ -60,12 +65,14 @@ public class ReviewService {
         Review review = new Review(null, bookingId, quote.getGarageId(), userId,
                 request.getRating(), request.getComment(), null, null);
         review = reviewRepository.save(review);
+        garageStatsService.recordReview(review);
 
         updateGarageRating(quote.getGarageId());
 
         return toResponse(review);
     }
 
+    @Transactional(readOnly = true)
     public List<ReviewResponse> getReviewsForGarage(UUID garageId) {
         return reviewRepository.findByGarageIdOrderByCreatedDateDesc(garageId).stream()
                 .map(this::toResponse)
@@ -86,6 +93,7 @@ public class ReviewService {
         garage.setTotalReviews(totalReviews);
         garage.setAverageRating(avgRating);
         garageRepository.save(garage);
+        eventPublisher.publishEvent(new GarageChangedEvent(garage));
     }
 
     private ReviewResponse toResponse(Review review) {
@@ -0,0 +1,101 @@
+package com.api.auto_ease.service.serviceEntry;
+
+import com.api.auto_ease.domain.serviceEntry.ServiceEntry;
+import com.api.auto_ease.repository.serviceEntry.ServiceEntryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Priority work queue over SERVICE_ENTRY for mechanics.
+ * <p>
+ * A claim locks the next unassigned row with {@code FOR UPDATE SKIP LOCKED} and assigns it in
+ * the same transaction, so concurrent mechanics never receive the same entry and never block
+ * each other. Each claim carries a lease; entries whose lease runs out before completion are
+ * put back in the queue by {@link #requeueExpiredLeases()}.
+ */
+@Slf4j
+@Service
+public class ServiceEntryQueueService {
+
+    private final ServiceEntryRepository serviceEntryRepository;
+    private final long leaseMs;
+
+    public ServiceEntryQueueService(
+            ServiceEntryRepository serviceEntryRepository,
+            @Value("${service-entry.lease-ms}") long leaseMs) {
+        this.serviceEntryRepository = serviceEntryRepository;
+        this.leaseMs = leaseMs;
+    }
+
+    @Transactional
+    public Optional<ServiceEntry> claimNext(String serviceUuid, String carMake) {
+        Optional<ServiceEntry> next = carMake == null || carMake.isBlank()
+                ? serviceEntryRepository.lockNextUnassigned()
+                : serviceEntryRepository.lockNextUnassignedByMake(carMake);
+        next.ifPresent(entry -> assign(entry, serviceUuid));
+        return next;
+    }
+
+    @Transactional
+    public Optional<ServiceEntry> claim(String serviceUuid, Integer entryId) {
+        Optional<ServiceEntry> entry = serviceEntryRepository.lockUnassignedById(entryId);
+        entry.ifPresent(found -> assign(found, serviceUuid));
+        return entry;
+    }
+
+    @Transactional
+    public ServiceEntry renewLease(String serviceUuid, Integer entryId) {
+        ServiceEntry entry = findClaimedBy(serviceUuid, entryId);
+        entry.setLeaseExpiresAt(LocalDateTime.now().plusNanos(leaseMs * 1_000_000));
+        return entry;
+    }
+
+    @Transactional
+    public ServiceEntry complete(String serviceUuid, Integer entryId) {
+        ServiceEntry entry = findClaimedBy(serviceUuid, entryId);
+        entry.setCompletedAt(LocalDateTime.now());
+        entry.setLeaseExpiresAt(null);
+        return entry;
+    }
+
+    @Scheduled(fixedDelayString = "${service-entry.requeue-interval-ms}")
+    @Transactional
+    public void requeueExpiredLeases() {
+        int requeued = serviceEntryRepository.requeueExpiredLeases(LocalDateTime.now());
+        if (requeued > 0) {
+            log.info("Re-queued {} service entries with expired leases", requeued);
+        }
+    }
+
+    private void assign(ServiceEntry entry, String serviceUuid) {
+        LocalDateTime now = LocalDateTime.now();
+        entry.setServiceUuid(serviceUuid);
+        entry.setClaimedAt(now);
+        entry.setLeaseExpiresAt(now.plusNanos(leaseMs * 1_000_000));
+    }
+
+    private ServiceEntry findClaimedBy(String serviceUuid, Integer entryId) {
+        ServiceEntry entry = serviceEntryRepository.lockById(entryId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Service entry not found"));
+
+        if (!serviceUuid.equals(entry.getServiceUuid())) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Service entry is not claimed by you");
+        }
+        if (entry.getCompletedAt() != null) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Service entry is already completed");
+        }
+        // Past its lease the entry may be requeued at any moment; the holder has to claim it again
+        if (entry.getLeaseExpiresAt() == null || !entry.getLeaseExpiresAt().isAfter(LocalDateTime.now())) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Service entry lease has expired");
+        }
+        return entry;
+    }
+}
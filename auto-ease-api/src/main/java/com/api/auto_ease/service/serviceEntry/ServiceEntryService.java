@@ -1,67 +1,64 @@
 package com.api.auto_ease.service.serviceEntry;
 
-import com.api.auto_ease.domain.appUser.AppUser;
 import com.api.auto_ease.domain.appUser.AppUserType;
 import com.api.auto_ease.domain.serviceEntry.ServiceEntry;
-import com.api.auto_ease.repository.appUser.AppUserRepository;
-import com.api.auto_ease.service.serviceEntry.dto.ClientServiceEntryRequest;
-import com.api.auto_ease.service.serviceEntry.dto.ServiceLookupRequest;
-import com.api.auto_ease.service.serviceEntry.strategy.ClientServiceEntryStrategy;
 import com.api.auto_ease.service.serviceEntry.strategy.ServiceEntryStrategy;
-import com.api.auto_ease.service.serviceEntry.strategy.ServiceServiceEntryStrategy;
-import lombok.RequiredArgsConstructor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
 
-import java.util.HashMap;
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
 
+/**
+ * Dispatches service entry requests to the strategy registered for the caller's role.
+ * The role comes from the authenticated token, so no user lookup happens per request, and the
+ * caller's uuid is handed to the strategy rather than trusted from the body.
+ * Each strategy is paired once with a reader for its payload type and the raw body is
+ * bound straight to that type.
+ */
 @Service
-@RequiredArgsConstructor
 public class ServiceEntryService {
 
-    private final AppUserRepository appUserRepository;
-    private final ClientServiceEntryStrategy clientStrategy;
-    private final ServiceServiceEntryStrategy serviceStrategy;
-    
-    private Map<AppUserType, ServiceEntryStrategy> strategyMap;
+    private final Map<AppUserType, StrategyBinding<?>> strategies = new EnumMap<>(AppUserType.class);
 
-    /**
-     * Initialize strategy map after construction.
-     * This method will be called by Spring after dependency injection.
-     */
-    @jakarta.annotation.PostConstruct
-    public void init() {
-        strategyMap = new HashMap<>();
-        strategyMap.put(AppUserType.CAR_OWNER, clientStrategy);
-        strategyMap.put(AppUserType.GARAGE, serviceStrategy);
+    public ServiceEntryService(List<ServiceEntryStrategy<?>> strategies, ObjectMapper objectMapper) {
+        for (ServiceEntryStrategy<?> strategy : strategies) {
+            StrategyBinding<?> previous = this.strategies.put(strategy.getUserType(), StrategyBinding.of(strategy, objectMapper));
+            if (previous != null) {
+                throw new IllegalStateException("Duplicate service entry strategy for user type: " + strategy.getUserType());
+            }
+        }
     }
 
-    public ServiceEntry processServiceEntry(String userUuid, Object payload) {
-        // Look up the user to determine their type
-        AppUser user = appUserRepository.findById(userUuid)
-            .orElseThrow(() -> new IllegalArgumentException("User not found: " + userUuid));
-        
-        // Get the appropriate strategy based on user type
-        ServiceEntryStrategy strategy = strategyMap.get(user.getType());
-        
-        if (strategy == null) {
-            throw new IllegalArgumentException("No strategy found for user type: " + user.getType());
-        }
+    public ServiceEntry processServiceEntry(AppUserType userType, String callerUuid, byte[] payload) {
+        StrategyBinding<?> binding = strategies.get(userType);
 
-        if (user.getType() == AppUserType.CAR_OWNER) {
-            return clientStrategy.processServiceEntry((ClientServiceEntryRequest) payload);
-        } else if (user.getType() == AppUserType.GARAGE) {
-            return serviceStrategy.processServiceEntry((ServiceLookupRequest) payload);
+        if (binding == null) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "No service entry strategy for user type: " + userType);
         }
 
-        throw new IllegalArgumentException("Unsupported user type: " + user.getType());
+        return binding.process(callerUuid, payload);
     }
 
-    public ServiceEntry createServiceEntryForClient(ClientServiceEntryRequest request) {
-        return clientStrategy.processServiceEntry(request);
-    }
+    private record StrategyBinding<P>(ServiceEntryStrategy<P> strategy, ObjectReader reader) {
 
-    public ServiceEntry lookupServiceEntryForService(ServiceLookupRequest lookupRequest) {
-        return serviceStrategy.processServiceEntry(lookupRequest);
+        static <P> StrategyBinding<P> of(ServiceEntryStrategy<P> strategy, ObjectMapper objectMapper) {
+            return new StrategyBinding<>(strategy, objectMapper.readerFor(strategy.getPayloadType()));
+        }
+
+        ServiceEntry process(String callerUuid, byte[] payload) {
+            P request;
+            try {
+                request = reader.readValue(payload);
+            } catch (IOException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid service entry payload", e);
+            }
+            return strategy.processServiceEntry(callerUuid, request);
+        }
     }
 }
@@ -1,5 +1,10 @@
 package com.api.auto_ease.service.serviceEntry.dto;
 
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -14,19 +19,39 @@ import java.time.LocalDate;
 @AllArgsConstructor
 public class ClientServiceEntryRequest {
 
+    @Size(max = 50)
     private String clientUuid;
+
+    @Size(max = 50)
     private String serviceUuid;
+
+    @NotBlank
+    @Size(max = 100)
     private String entryType;
+
+    @Size(max = 100)
     private String carMake;
+
+    @Size(max = 100)
     private String carModel;
+
+    @Min(1886)
+    @Max(2100)
     private Integer carYear;
+
+    @Size(max = 100)
     private String carVin;
+
     private String description;
     private LocalDate serviceDate;
+
+    @Size(max = 500)
     private String location;
+
     private Integer priority;
+
+    @PositiveOrZero
     private BigDecimal cost;
+
     private String note;
 }
-
-
@@ -0,0 +1,14 @@
+package com.api.auto_ease.service.serviceEntry.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ServiceEntryImportError {
+
+    private int line;
+    private String message;
+}
@@ -0,0 +1,22 @@
+package com.api.auto_ease.service.serviceEntry.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ServiceEntryImportResponse {
+
+    private int linesRead;
+    private int imported;
+    private int failed;
+    private List<ServiceEntryImportError> errors;
+    private boolean errorsTruncated;
+    private long durationMs;
+}
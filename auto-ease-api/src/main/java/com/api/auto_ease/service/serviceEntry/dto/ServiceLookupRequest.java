@@ -11,8 +11,8 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class ServiceLookupRequest {
 
-    private String serviceUuid;
-    private Long entryId;
+    private Integer entryId;
+    private String carMake;
 }
 
 
@@ -0,0 +1,184 @@
+package com.api.auto_ease.service.serviceEntry.importer;
+
+import com.api.auto_ease.domain.serviceEntry.ServiceEntry;
+import com.api.auto_ease.repository.bulk.BulkSaveRepository;
+import com.api.auto_ease.service.serviceEntry.dto.ClientServiceEntryRequest;
+import com.api.auto_ease.service.serviceEntry.dto.ServiceEntryImportError;
+import com.api.auto_ease.service.serviceEntry.dto.ServiceEntryImportResponse;
+import com.api.auto_ease.service.serviceEntry.strategy.ClientServiceEntryStrategy;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Streams NDJSON service history into SERVICE_ENTRY.
+ * <p>
+ * The body is read one line at a time into a fixed buffer, so memory use is bounded by the
+ * line limit plus one insert chunk regardless of payload size. Each chunk is written in its
+ * own transaction through {@link BulkSaveRepository}; a chunk rejected by the database fails
+ * only its own lines.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ServiceEntryImportService {
+
+    static final int MAX_LINE_LENGTH = 64 * 1024;
+    private static final int MAX_REPORTED_ERRORS = 1000;
+    private static final int END_OF_STREAM = -1;
+    private static final int LINE_TOO_LONG = -2;
+
+    private final ServiceEntryLineParser lineParser;
+    private final ClientServiceEntryStrategy clientStrategy;
+    private final BulkSaveRepository bulkSaveRepository;
+    private final Validator validator;
+
+    public ServiceEntryImportResponse importEntries(String clientUuid, InputStream body) throws IOException {
+        long start = System.nanoTime();
+        Report report = new Report();
+
+        int batchSize = bulkSaveRepository.getBatchSize();
+        List<ServiceEntry> chunk = new ArrayList<>(batchSize);
+        int[] chunkLines = new int[batchSize];
+        char[] line = new char[MAX_LINE_LENGTH];
+        LocalDateTime importedAt = LocalDateTime.now();
+
+        Reader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        int lineNumber = 0;
+        int length;
+        while ((length = readLine(reader, line)) != END_OF_STREAM) {
+            lineNumber++;
+            if (length == LINE_TOO_LONG) {
+                report.fail(lineNumber, "Line exceeds " + MAX_LINE_LENGTH + " characters");
+                continue;
+            }
+            if (isBlank(line, length)) {
+                continue;
+            }
+
+            ClientServiceEntryRequest request;
+            try {
+                request = lineParser.parse(line, length);
+            } catch (JsonProcessingException e) {
+                report.fail(lineNumber, "Malformed JSON: " + e.getOriginalMessage());
+                continue;
+            }
+
+            Set<ConstraintViolation<ClientServiceEntryRequest>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                report.fail(lineNumber, violations.stream()
+                        .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining("; ")));
+                continue;
+            }
+
+            ServiceEntry entry = clientStrategy.toServiceEntry(request);
+            entry.setClientUuid(clientUuid);
+            // History rows describe work already done; keep them out of the mechanics' queue.
+            entry.setCompletedAt(importedAt);
+            chunkLines[chunk.size()] = lineNumber;
+            chunk.add(entry);
+
+            if (chunk.size() == batchSize) {
+                flush(chunk, chunkLines, report);
+            }
+        }
+        flush(chunk, chunkLines, report);
+
+        long durationMs = (System.nanoTime() - start) / 1_000_000;
+        log.info("Imported {} service entries for {} ({} failed, {} lines) in {}ms",
+                report.imported, clientUuid, report.failed, lineNumber, durationMs);
+
+        return ServiceEntryImportResponse.builder()
+                .linesRead(lineNumber)
+                .imported(report.imported)
+                .failed(report.failed)
+                .errors(report.errors)
+                .errorsTruncated(report.failed > report.errors.size())
+                .durationMs(durationMs)
+                .build();
+    }
+
+    private void flush(List<ServiceEntry> chunk, int[] chunkLines, Report report) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            report.imported += bulkSaveRepository.saveAll(chunk);
+        } catch (DataAccessException e) {
+            log.warn("Service entry import chunk of {} rows rejected", chunk.size(), e);
+            String message = "Rejected by database: " + e.getMostSpecificCause().getMessage();
+            for (int i = 0; i < chunk.size(); i++) {
+                report.fail(chunkLines[i], message);
+            }
+        }
+        chunk.clear();
+    }
+
+    /**
+     * Reads the next line into {@code buffer} and returns its length, {@link #LINE_TOO_LONG}
+     * when the line did not fit (the rest of it is skipped) or {@link #END_OF_STREAM}.
+     */
+    private static int readLine(Reader reader, char[] buffer) throws IOException {
+        int length = 0;
+        boolean overflow = false;
+        int c;
+        while ((c = reader.read()) != -1) {
+            if (c == '\n') {
+                return overflow ? LINE_TOO_LONG : stripCarriageReturn(buffer, length);
+            }
+            if (length < buffer.length) {
+                buffer[length++] = (char) c;
+            } else {
+                overflow = true;
+            }
+        }
+        if (length == 0 && !overflow) {
+            return END_OF_STREAM;
+        }
+        return overflow ? LINE_TOO_LONG : stripCarriageReturn(buffer, length);
+    }
+
+    private static int stripCarriageReturn(char[] buffer, int length) {
+        return length > 0 && buffer[length - 1] == '\r' ? length - 1 : length;
+    }
+
+    private static boolean isBlank(char[] buffer, int length) {
+        for (int i = 0; i < length; i++) {
+            if (!Character.isWhitespace(buffer[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class Report {
+        private final List<ServiceEntryImportError> errors = new ArrayList<>();
+        private int imported;
+        private int failed;
+
+        private void fail(int line, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new ServiceEntryImportError(line, message));
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.api.auto_ease.service.serviceEntry.importer;
+
+import com.api.auto_ease.service.serviceEntry.dto.ClientServiceEntryRequest;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Parses a single NDJSON line into a {@link ClientServiceEntryRequest} with the Jackson
+ * streaming API, without building an intermediate tree. Unknown fields are skipped, in line
+ * with the application {@link ObjectMapper}.
+ */
+@Component
+@RequiredArgsConstructor
+public class ServiceEntryLineParser {
+
+    private final ObjectMapper objectMapper;
+
+    public ClientServiceEntryRequest parse(char[] buffer, int length) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(buffer, 0, length)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a JSON object");
+            }
+
+            ClientServiceEntryRequest entry = new ClientServiceEntryRequest();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "clientUuid" -> entry.setClientUuid(text(parser, field));
+                    case "serviceUuid" -> entry.setServiceUuid(text(parser, field));
+                    case "entryType" -> entry.setEntryType(text(parser, field));
+                    case "carMake" -> entry.setCarMake(text(parser, field));
+                    case "carModel" -> entry.setCarModel(text(parser, field));
+                    case "carYear" -> entry.setCarYear(integer(parser, field));
+                    case "carVin" -> entry.setCarVin(text(parser, field));
+                    case "description" -> entry.setDescription(text(parser, field));
+                    case "serviceDate" -> entry.setServiceDate(date(parser, field));
+                    case "location" -> entry.setLocation(text(parser, field));
+                    case "priority" -> entry.setPriority(integer(parser, field));
+                    case "cost" -> entry.setCost(decimal(parser, field));
+                    case "note" -> entry.setNote(text(parser, field));
+                    default -> parser.skipChildren();
+                }
+            }
+
+            if (parser.nextToken() != null) {
+                throw new JsonParseException(parser, "Unexpected content after JSON object");
+            }
+            return entry;
+        }
+    }
+
+    private static String text(JsonParser parser, String field) throws IOException {
+        return switch (parser.currentToken()) {
+            case VALUE_NULL -> null;
+            case VALUE_STRING -> parser.getText();
+            default -> throw new JsonParseException(parser, "Expected a string for '" + field + "'");
+        };
+    }
+
+    private static Integer integer(JsonParser parser, String field) throws IOException {
+        return switch (parser.currentToken()) {
+            case VALUE_NULL -> null;
+            case VALUE_NUMBER_INT -> parser.getIntValue();
+            default -> throw new JsonParseException(parser, "Expected an integer for '" + field + "'");
+        };
+    }
+
+    private static BigDecimal decimal(JsonParser parser, String field) throws IOException {
+        return switch (parser.currentToken()) {
+            case VALUE_NULL -> null;
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> parser.getDecimalValue();
+            default -> throw new JsonParseException(parser, "Expected a number for '" + field + "'");
+        };
+    }
+
+    private static LocalDate date(JsonParser parser, String field) throws IOException {
+        String value = text(parser, field);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new JsonParseException(parser, "Expected an ISO date (yyyy-MM-dd) for '" + field + "'");
+        }
+    }
+}
@@ -14,7 +14,13 @@ public class ClientServiceEntryStrategy implements ServiceEntryStrategy<ClientSe
     private final ServiceEntryRepository serviceEntryRepository;
 
     @Override
-    public ServiceEntry processServiceEntry(ClientServiceEntryRequest payload) {
+    public ServiceEntry processServiceEntry(String callerUuid, ClientServiceEntryRequest payload) {
+        ServiceEntry serviceEntry = toServiceEntry(payload);
+        serviceEntry.setClientUuid(callerUuid);
+        return serviceEntryRepository.save(serviceEntry);
+    }
+
+    public ServiceEntry toServiceEntry(ClientServiceEntryRequest payload) {
         ServiceEntry serviceEntry = new ServiceEntry();
 
         if (payload != null) {
@@ -23,7 +29,6 @@ public class ClientServiceEntryStrategy implements ServiceEntryStrategy<ClientSe
             serviceEntry.setEntryType(payload.getEntryType());
             serviceEntry.setCarMake(payload.getCarMake());
             serviceEntry.setCarModel(payload.getCarModel());
-            serviceEntry.setPriority(payload.getPriority());
             if (payload.getCarYear() != null) {
                 serviceEntry.setCarYear(payload.getCarYear());
             }
@@ -38,12 +43,16 @@ public class ClientServiceEntryStrategy implements ServiceEntryStrategy<ClientSe
             serviceEntry.setNote(payload.getNote());
         }
 
-        return serviceEntryRepository.save(serviceEntry);
+        return serviceEntry;
     }
 
     @Override
     public AppUserType getUserType() {
         return AppUserType.CAR_OWNER;
     }
-}
 
+    @Override
+    public Class<ClientServiceEntryRequest> getPayloadType() {
+        return ClientServiceEntryRequest.class;
+    }
+}
@@ -5,8 +5,14 @@ import com.api.auto_ease.domain.serviceEntry.ServiceEntry;
 
 public interface ServiceEntryStrategy<P> {
 
-    ServiceEntry processServiceEntry(P payload);
+    /**
+     * @param callerUuid uuid of the authenticated caller; it replaces whatever identity the
+     *                   payload claims for them
+     */
+    ServiceEntry processServiceEntry(String callerUuid, P payload);
 
     AppUserType getUserType();
+
+    Class<P> getPayloadType();
 }
 
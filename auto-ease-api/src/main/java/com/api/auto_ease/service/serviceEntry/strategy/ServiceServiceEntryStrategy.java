@@ -3,50 +3,45 @@ package com.api.auto_ease.service.serviceEntry.strategy;
 import com.api.auto_ease.domain.appUser.AppUserType;
 import com.api.auto_ease.domain.serviceEntry.ServiceEntry;
 import com.api.auto_ease.exception.MessageException;
-import com.api.auto_ease.repository.serviceEntry.ServiceEntryRepository;
+import com.api.auto_ease.service.serviceEntry.ServiceEntryQueueService;
 import com.api.auto_ease.service.serviceEntry.dto.ServiceLookupRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
 import java.util.Optional;
 
 /**
  * Strategy for SERVICE users.
- * Looks up existing service entries that match the service provider.
+ * Claims a service entry from the work queue: the requested entry when an id is given,
+ * otherwise the highest-priority unassigned entry (optionally for one car make). The entry is
+ * always claimed for the authenticated caller.
  */
 @Component
 @RequiredArgsConstructor
 public class ServiceServiceEntryStrategy implements ServiceEntryStrategy<ServiceLookupRequest> {
 
-    private final ServiceEntryRepository serviceEntryRepository;
+    private final ServiceEntryQueueService serviceEntryQueueService;
 
     @Override
-    public ServiceEntry processServiceEntry(ServiceLookupRequest payload) {
-        // For service providers, we look up existing service entries
-        ServiceEntry foundEntry = null;
-
-        if (payload != null && payload.getEntryId() != null) {
-            Optional<ServiceEntry> entry = serviceEntryRepository.findById(payload.getEntryId());
-            if (entry.isPresent() && payload.getServiceUuid() != null 
-                && entry.get().getServiceUuid() == null) {
-                foundEntry = entry.get();
-            }
+    public ServiceEntry processServiceEntry(String callerUuid, ServiceLookupRequest payload) {
+        if (payload == null) {
+            throw new MessageException("Service entry lookup is required");
         }
 
-        // If no specific entry found, get the first available entry for this service
-        if (foundEntry == null) {
-            throw new MessageException("Something went wrong");
-        }
-
-        foundEntry.setServiceUuid(payload.getServiceUuid());
+        Optional<ServiceEntry> claimed = payload.getEntryId() != null
+                ? serviceEntryQueueService.claim(callerUuid, payload.getEntryId())
+                : serviceEntryQueueService.claimNext(callerUuid, payload.getCarMake());
 
-        return foundEntry;
+        return claimed.orElseThrow(() -> new MessageException("No service entry available to claim"));
     }
 
     @Override
     public AppUserType getUserType() {
         return AppUserType.GARAGE;
     }
-}
 
+    @Override
+    public Class<ServiceLookupRequest> getPayloadType() {
+        return ServiceLookupRequest.class;
+    }
+}
@@ -0,0 +1,100 @@
+package com.api.auto_ease.service.vin;
+
+import com.api.auto_ease.domain.carMake.CarMake;
+import com.api.auto_ease.domain.carModel.CarModel;
+import com.api.auto_ease.dto.car.VinDecodeResponse;
+import com.api.auto_ease.dto.referencedata.CarModelResponse;
+import com.api.auto_ease.repository.carMake.CarMakeRepository;
+import com.api.auto_ease.repository.carModel.CarModelRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.Year;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Decodes VINs with the bundled {@code vin/wmi.csv} and {@code vin/vds.csv} tables and links the
+ * result to the car catalog.
+ */
+@Slf4j
+@Service
+public class VinDecodeService {
+
+    private final VinDecoder decoder;
+    private final CarMakeRepository carMakeRepository;
+    private final CarModelRepository carModelRepository;
+
+    public VinDecodeService(CarMakeRepository carMakeRepository, CarModelRepository carModelRepository) throws IOException {
+        this.carMakeRepository = carMakeRepository;
+        this.carModelRepository = carModelRepository;
+        try (Reader wmi = classpathReader("vin/wmi.csv"); Reader vds = classpathReader("vin/vds.csv")) {
+            this.decoder = VinDecoder.load(wmi, vds);
+        }
+        log.info("VIN decoder loaded {} manufacturers and {} model lines",
+                decoder.manufacturerCount(), decoder.modelLineCount());
+    }
+
+    /**
+     * Decodes the VIN; a VIN that is not 17 legal characters is rejected with 400.
+     */
+    public VinDecodeResponse decode(String vin) {
+        String normalized = vin == null ? null : vin.trim().toUpperCase(Locale.ROOT);
+        long decoded = decoder.decode(normalized, Year.now().getValue());
+        if (VinDecoder.status(decoded) == VinDecoder.MALFORMED) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "VIN must be " + VinDecoder.VIN_LENGTH + " characters without I, O or Q");
+        }
+
+        int modelYear = VinDecoder.modelYear(decoded);
+        VinDecodeResponse.VinDecodeResponseBuilder response = VinDecodeResponse.builder()
+                .vin(normalized)
+                .valid(VinDecoder.status(decoded) == VinDecoder.VALID)
+                .checkDigitMatches(VinDecoder.checkDigitMatches(decoded))
+                .manufacturer(decoder.manufacturer(decoded))
+                .modelYear(modelYear == 0 ? null : modelYear)
+                .candidateModels(List.of());
+
+        String makeName = decoder.make(decoded);
+        Optional<CarMake> make = makeName == null ? Optional.empty() : carMakeRepository.findByNameIgnoreCase(makeName);
+        if (make.isEmpty()) {
+            return response.makeName(makeName).build();
+        }
+
+        String modelName = decoder.model(decoded);
+        List<CarModel> candidates = modelName != null
+                ? carModelRepository.findByMakeIdAndNameIgnoreCase(make.get().getId(), modelName).stream().toList()
+                : carModelRepository.findByMakeIdOrderByNameAsc(make.get().getId()).stream()
+                        .filter(model -> coversYear(model, modelYear))
+                        .toList();
+
+        return response
+                .makeId(make.get().getId())
+                .makeName(make.get().getName())
+                .candidateModels(candidates.stream()
+                        .map(model -> new CarModelResponse(model.getId(), model.getMakeId(), model.getName(),
+                                model.getYearFrom(), model.getYearTo()))
+                        .toList())
+                .build();
+    }
+
+    private static boolean coversYear(CarModel model, int year) {
+        if (year == 0) {
+            return true;
+        }
+        return (model.getYearFrom() == null || model.getYearFrom() <= year)
+                && (model.getYearTo() == null || model.getYearTo() >= year);
+    }
+
+    private static Reader classpathReader(String path) throws IOException {
+        return new InputStreamReader(new ClassPathResource(path).getInputStream(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,279 @@
+package com.api.auto_ease.service.vin;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Offline VIN decoder: structure and check digit validation, model year, and manufacturer and
+ * model line lookup from the bundled WMI/VDS tables.
+ * <p>
+ * {@link #decode} does not allocate. The WMI is mapped to a dense index over the 33 legal VIN
+ * characters, so the manufacturer is a single array read. Model lines are found by binary
+ * searching VDS prefixes packed into sorted {@code long} keys, longest prefix first. The
+ * result is returned packed into a {@code long} and read back with the static accessors, so a
+ * caller can decode in a tight loop and only build objects for what it keeps.
+ */
+public final class VinDecoder {
+
+    public static final int VIN_LENGTH = 17;
+
+    public static final int VALID = 0;
+    public static final int MALFORMED = 1;
+    public static final int CHECK_DIGIT_MISMATCH = 2;
+
+    // Legal VIN characters: digits and letters except I, O and Q
+    private static final String ALPHABET = "0123456789ABCDEFGHJKLMNPRSTUVWXYZ";
+    private static final int RADIX = ALPHABET.length();
+    private static final int MAX_VDS_PREFIX = 5;
+    private static final int CHECK_DIGIT_INDEX = 8;
+    private static final int MODEL_YEAR_INDEX = 9;
+    private static final int[] WEIGHTS = {8, 7, 6, 5, 4, 3, 2, 10, 0, 9, 8, 7, 6, 5, 4, 3, 2};
+    // Model year codes in order; the cycle repeats every 30 years from 1980
+    private static final String YEAR_CODES = "ABCDEFGHJKLMNPRSTVWXY123456789";
+    private static final int FIRST_CYCLE_YEAR = 1980;
+
+    private static final byte[] CODE = new byte[128];
+    private static final byte[] VALUE = new byte[128];
+    private static final byte[] YEAR_OFFSET = new byte[128];
+
+    // Packed result layout
+    private static final int STATUS_BITS = 2;
+    private static final int YEAR_SHIFT = STATUS_BITS;
+    private static final int WMI_SHIFT = YEAR_SHIFT + 12;
+    private static final int MODEL_SHIFT = WMI_SHIFT + 16;
+    private static final int CHECK_DIGIT_SHIFT = MODEL_SHIFT + 20;
+
+    static {
+        Arrays.fill(CODE, (byte) -1);
+        Arrays.fill(YEAR_OFFSET, (byte) -1);
+        for (int i = 0; i < RADIX; i++) {
+            char c = ALPHABET.charAt(i);
+            CODE[c] = (byte) i;
+            VALUE[c] = (byte) transliterate(c);
+        }
+        for (int i = 0; i < YEAR_CODES.length(); i++) {
+            YEAR_OFFSET[YEAR_CODES.charAt(i)] = (byte) i;
+        }
+    }
+
+    private final String[] manufacturers;
+    private final String[] makes;
+    // WMI index -> manufacturer entry + 1, 0 when unknown
+    private final short[] wmiEntries;
+    private final long[] vdsKeys;
+    private final String[] vdsModels;
+
+    private VinDecoder(String[] manufacturers, String[] makes, short[] wmiEntries, long[] vdsKeys, String[] vdsModels) {
+        this.manufacturers = manufacturers;
+        this.makes = makes;
+        this.wmiEntries = wmiEntries;
+        this.vdsKeys = vdsKeys;
+        this.vdsModels = vdsModels;
+    }
+
+    /**
+     * Decodes a VIN, case-insensitively. Model years are resolved to the latest cycle that is
+     * not after {@code currentYear + 1} unless the VIN says otherwise.
+     */
+    public long decode(CharSequence vin, int currentYear) {
+        if (vin == null || vin.length() != VIN_LENGTH) {
+            return MALFORMED;
+        }
+
+        int sum = 0;
+        for (int i = 0; i < VIN_LENGTH; i++) {
+            char c = upper(vin.charAt(i));
+            if (c >= 128 || CODE[c] < 0) {
+                return MALFORMED;
+            }
+            sum += VALUE[c] * WEIGHTS[i];
+        }
+        int remainder = sum % 11;
+        char expected = remainder == 10 ? 'X' : (char) ('0' + remainder);
+        boolean checkDigitMatches = upper(vin.charAt(CHECK_DIGIT_INDEX)) == expected;
+
+        // The check digit is mandatory for vehicles built for North America (WMI 1-5)
+        char region = vin.charAt(0);
+        boolean northAmerica = region >= '1' && region <= '5';
+        int status = checkDigitMatches || !northAmerica ? VALID : CHECK_DIGIT_MISMATCH;
+
+        int year = modelYear(vin, northAmerica, currentYear);
+        int wmi = code(vin, 0, 3);
+        int entry = wmiEntries[wmi];
+        int model = entry == 0 ? 0 : findModel(vin, wmi) + 1;
+
+        return status
+                | (long) year << YEAR_SHIFT
+                | (long) entry << WMI_SHIFT
+                | (long) model << MODEL_SHIFT
+                | (checkDigitMatches ? 1L : 0L) << CHECK_DIGIT_SHIFT;
+    }
+
+    public static int status(long decoded) {
+        return (int) (decoded & ((1 << STATUS_BITS) - 1));
+    }
+
+    public static boolean checkDigitMatches(long decoded) {
+        return (decoded >>> CHECK_DIGIT_SHIFT & 1) == 1;
+    }
+
+    /**
+     * Model year, or 0 when the year code is not a legal one.
+     */
+    public static int modelYear(long decoded) {
+        return (int) (decoded >>> YEAR_SHIFT & 0xFFF);
+    }
+
+    public String manufacturer(long decoded) {
+        int entry = (int) (decoded >>> WMI_SHIFT & 0xFFFF);
+        return entry == 0 ? null : manufacturers[entry - 1];
+    }
+
+    public String make(long decoded) {
+        int entry = (int) (decoded >>> WMI_SHIFT & 0xFFFF);
+        return entry == 0 ? null : makes[entry - 1];
+    }
+
+    public String model(long decoded) {
+        int model = (int) (decoded >>> MODEL_SHIFT & 0xFFFFF);
+        return model == 0 ? null : vdsModels[model - 1];
+    }
+
+    public int manufacturerCount() {
+        return manufacturers.length;
+    }
+
+    public int modelLineCount() {
+        return vdsKeys.length;
+    }
+
+    private int findModel(CharSequence vin, int wmi) {
+        for (int length = MAX_VDS_PREFIX; length > 0; length--) {
+            int found = Arrays.binarySearch(vdsKeys, vdsKey(wmi, length, code(vin, 3, length)));
+            if (found >= 0) {
+                return found;
+            }
+        }
+        return -1;
+    }
+
+    private static int modelYear(CharSequence vin, boolean northAmerica, int currentYear) {
+        char c = upper(vin.charAt(MODEL_YEAR_INDEX));
+        int offset = c < 128 ? YEAR_OFFSET[c] : -1;
+        if (offset < 0) {
+            return 0;
+        }
+        int earlier = FIRST_CYCLE_YEAR + offset;
+        int later = earlier + YEAR_CODES.length();
+        if (northAmerica) {
+            // From 2010 position 7 is a letter for North American passenger vehicles
+            return Character.isLetter(vin.charAt(6)) ? later : earlier;
+        }
+        return later <= currentYear + 1 ? later : earlier;
+    }
+
+    private static int code(CharSequence text, int start, int length) {
+        int code = 0;
+        for (int i = start; i < start + length; i++) {
+            code = code * RADIX + CODE[upper(text.charAt(i))];
+        }
+        return code;
+    }
+
+    private static long vdsKey(int wmi, int length, int prefix) {
+        return (long) wmi << 32 | (long) length << 28 | prefix;
+    }
+
+    private static char upper(char c) {
+        return c >= 'a' && c <= 'z' ? (char) (c - ('a' - 'A')) : c;
+    }
+
+    private static int transliterate(char c) {
+        if (c <= '9') {
+            return c - '0';
+        }
+        // A-H = 1-8, J-R = 1-9 (skipping O and Q), S-Z = 2-9
+        if (c <= 'H') {
+            return c - 'A' + 1;
+        }
+        if (c <= 'R') {
+            return c - 'J' + 1;
+        }
+        return c - 'S' + 2;
+    }
+
+    /**
+     * Builds a decoder from {@code wmi,manufacturer,make} and {@code wmi,vds_prefix,model} CSV
+     * tables. Blank lines and lines starting with {@code #} are ignored.
+     */
+    public static VinDecoder load(Reader wmiTable, Reader vdsTable) throws IOException {
+        List<String> manufacturers = new ArrayList<>();
+        List<String> makes = new ArrayList<>();
+        short[] wmiEntries = new short[RADIX * RADIX * RADIX];
+        for (String[] row : rows(wmiTable, 3)) {
+            int wmi = parseCode(row[0], 3, "WMI");
+            manufacturers.add(row[1]);
+            makes.add(row[2]);
+            wmiEntries[wmi] = (short) manufacturers.size();
+        }
+
+        Map<Long, String> models = new HashMap<>();
+        for (String[] row : rows(vdsTable, 3)) {
+            int wmi = parseCode(row[0], 3, "WMI");
+            String prefix = row[1];
+            if (prefix.isEmpty() || prefix.length() > MAX_VDS_PREFIX) {
+                throw new IllegalArgumentException("VDS prefix must be 1 to " + MAX_VDS_PREFIX + " characters: " + prefix);
+            }
+            models.put(vdsKey(wmi, prefix.length(), parseCode(prefix, prefix.length(), "VDS prefix")), row[2]);
+        }
+
+        long[] vdsKeys = models.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+        String[] vdsModels = new String[vdsKeys.length];
+        for (int i = 0; i < vdsKeys.length; i++) {
+            vdsModels[i] = models.get(vdsKeys[i]);
+        }
+        return new VinDecoder(manufacturers.toArray(String[]::new), makes.toArray(String[]::new),
+                wmiEntries, vdsKeys, vdsModels);
+    }
+
+    private static int parseCode(String text, int length, String what) {
+        if (text.length() != length) {
+            throw new IllegalArgumentException(what + " must be " + length + " characters: " + text);
+        }
+        for (int i = 0; i < length; i++) {
+            char c = upper(text.charAt(i));
+            if (c >= 128 || CODE[c] < 0) {
+                throw new IllegalArgumentException(what + " has an illegal VIN character: " + text);
+            }
+        }
+        return code(text, 0, length);
+    }
+
+    private static List<String[]> rows(Reader table, int columns) throws IOException {
+        List<String[]> rows = new ArrayList<>();
+        BufferedReader reader = new BufferedReader(table);
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank() || line.startsWith("#")) {
+                continue;
+            }
+            String[] row = line.split(",", -1);
+            if (row.length != columns) {
+                throw new IllegalArgumentException("Line " + lineNumber + ": expected " + columns + " columns");
+            }
+            for (int i = 0; i < row.length; i++) {
+                row[i] = row[i].trim();
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,20 @@
+-- V10: Lease-based work queue over SERVICE_ENTRY.
+-- An entry is queued while service_uuid and completed_at are NULL. Claiming sets service_uuid
+-- and a lease; entries whose lease expires before completion are released back to the queue.
+
+ALTER TABLE SERVICE_ENTRY ADD COLUMN claimed_at TIMESTAMP;
+ALTER TABLE SERVICE_ENTRY ADD COLUMN lease_expires_at TIMESTAMP;
+ALTER TABLE SERVICE_ENTRY ADD COLUMN completed_at TIMESTAMP;
+
+-- Only the queued rows are indexed, so the dispatch index stays small as history grows.
+CREATE INDEX idx_service_entry_queue
+    ON SERVICE_ENTRY (priority DESC NULLS LAST, id)
+    WHERE service_uuid IS NULL AND completed_at IS NULL;
+
+CREATE INDEX idx_service_entry_queue_make
+    ON SERVICE_ENTRY (car_make, priority DESC NULLS LAST, id)
+    WHERE service_uuid IS NULL AND completed_at IS NULL;
+
+CREATE INDEX idx_service_entry_open_leases
+    ON SERVICE_ENTRY (lease_expires_at)
+    WHERE completed_at IS NULL AND lease_expires_at IS NOT NULL;
@@ -0,0 +1,7 @@
+-- V11: Index open job requests by location for the garage radius feed.
+-- Only OPEN rows with coordinates are indexed; the feed does a latitude range scan and
+-- filters longitude from the index before checking the exact distance in the service.
+
+CREATE INDEX idx_job_requests_open_location
+    ON job_requests (location_lat, location_lng)
+    WHERE status = 'OPEN' AND location_lat IS NOT NULL AND location_lng IS NOT NULL;
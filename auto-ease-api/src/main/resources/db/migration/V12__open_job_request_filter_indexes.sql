@@ -0,0 +1,15 @@
+-- V12: Partial indexes for filtering the open job feed.
+-- Only OPEN rows are indexed, so the indexes stay small while history keeps growing.
+
+CREATE INDEX idx_job_requests_open_created
+    ON job_requests (created_date DESC)
+    WHERE status = 'OPEN';
+
+CREATE INDEX idx_job_requests_open_category
+    ON job_requests (category_id, created_date DESC)
+    WHERE status = 'OPEN';
+
+-- City filters are case-insensitive, so the index is on lower(location_city).
+CREATE INDEX idx_job_requests_open_city
+    ON job_requests (lower(location_city), created_date DESC)
+    WHERE status = 'OPEN';
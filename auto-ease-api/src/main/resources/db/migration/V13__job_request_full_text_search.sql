@@ -0,0 +1,15 @@
+-- V13: Full-text search over job request titles and descriptions.
+-- The 'simple' configuration is used because requests are written in both Romanian and
+-- English; it lower-cases and tokenizes without language specific stemming or stop words.
+-- Title matches weigh more than description matches in ts_rank.
+
+ALTER TABLE job_requests ADD COLUMN search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(description, '')), 'B')
+    ) STORED;
+
+-- Keyword search is offered on the open feed, so only OPEN rows are indexed.
+CREATE INDEX idx_job_requests_open_search
+    ON job_requests USING GIN (search_vector)
+    WHERE status = 'OPEN';
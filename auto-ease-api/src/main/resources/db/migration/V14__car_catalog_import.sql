@@ -0,0 +1,9 @@
+-- V14: Model years and lookup indexes for the bulk car catalog import.
+-- The importer matches makes and models case-insensitively, so both sides of the
+-- merge join need an index on lower(name).
+
+ALTER TABLE car_models ADD COLUMN year_from INTEGER;
+ALTER TABLE car_models ADD COLUMN year_to INTEGER;
+
+CREATE INDEX idx_car_makes_lower_name ON car_makes (lower(name));
+CREATE INDEX idx_car_models_make_lower_name ON car_models (make_id, lower(name));
@@ -0,0 +1,20 @@
+-- V15: Garages matched to each job request.
+-- Written when a request is created or updated; each request keeps only its best garages,
+-- so a garage's feed reads a few dozen rows from its own index range instead of scanning
+-- every open request. Rows go with the request or the garage.
+
+CREATE TABLE job_request_matches (
+    job_request_id  UUID NOT NULL,
+    garage_id       UUID NOT NULL,
+    score           DOUBLE PRECISION NOT NULL,
+    distance_km     DOUBLE PRECISION,
+    created_date    TIMESTAMP NOT NULL,
+    PRIMARY KEY (job_request_id, garage_id),
+    CONSTRAINT fk_job_request_matches_job_request FOREIGN KEY (job_request_id)
+        REFERENCES job_requests(id) ON DELETE CASCADE,
+    CONSTRAINT fk_job_request_matches_garage FOREIGN KEY (garage_id)
+        REFERENCES garages(id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_job_request_matches_garage
+    ON job_request_matches (garage_id, created_date DESC);
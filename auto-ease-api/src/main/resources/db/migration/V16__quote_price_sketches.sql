@@ -0,0 +1,19 @@
+-- V16: Snapshots of the quote price sketches behind the typical price range.
+-- One row per (category, make, model-year band) cell and its coarser roll-ups; a NULL
+-- make_id or year_band means the cell covers every make or every year.
+-- applied_through is the newest quote folded into the sketch, so a restart only replays
+-- quotes created after it.
+
+CREATE TABLE quote_price_sketches (
+    cell_key         VARCHAR(120) PRIMARY KEY,
+    category_id      UUID,
+    make_id          UUID,
+    year_band        INTEGER,
+    quote_count      BIGINT NOT NULL,
+    sketch           BYTEA NOT NULL,
+    applied_through  TIMESTAMP NOT NULL,
+    snapshot_date    TIMESTAMP NOT NULL
+);
+
+-- Replay after a restart reads quotes newer than the oldest snapshot.
+CREATE INDEX idx_quotes_created_date ON quotes (created_date);
@@ -0,0 +1,21 @@
+-- V17: Daily per-garage rollups behind the garage dashboard.
+-- Rows are bumped in the same transaction as the quote, booking or review they count, and
+-- can be rebuilt for any date range from the source tables. stat_date is the day in the
+-- application's time zone. revenue is the accepted quote price, counted on the booking day.
+
+CREATE TABLE garage_daily_stats (
+    garage_id         UUID NOT NULL,
+    stat_date         DATE NOT NULL,
+    quotes_submitted  INTEGER NOT NULL DEFAULT 0,
+    bookings          INTEGER NOT NULL DEFAULT 0,
+    revenue           NUMERIC(12,2) NOT NULL DEFAULT 0,
+    reviews           INTEGER NOT NULL DEFAULT 0,
+    rating_sum        INTEGER NOT NULL DEFAULT 0,
+
+    CONSTRAINT pk_garage_daily_stats PRIMARY KEY (garage_id, stat_date),
+    CONSTRAINT fk_garage_daily_stats_garage FOREIGN KEY (garage_id) REFERENCES garages(id) ON DELETE CASCADE
+);
+
+-- The rebuild job reads bookings and reviews one date range at a time.
+CREATE INDEX idx_bookings_created_date ON bookings (created_date);
+CREATE INDEX idx_reviews_created_date ON reviews (created_date);
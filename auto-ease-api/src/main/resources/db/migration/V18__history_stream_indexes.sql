@@ -0,0 +1,7 @@
+-- V18: Newest-first indexes for a garage's quotes and an owner's job requests.
+-- The streamed history endpoints walk these in order, so the first rows are sent without
+-- sorting the whole history.
+
+CREATE INDEX idx_quotes_garage_created ON quotes (garage_id, created_date DESC);
+
+CREATE INDEX idx_job_requests_user_created ON job_requests (user_id, created_date DESC);
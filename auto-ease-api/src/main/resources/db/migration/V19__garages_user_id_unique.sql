@@ -0,0 +1,4 @@
+-- V19: A user owns at most one garage; user_id is the Garage natural id.
+-- Also backs natural-id lookups on a second-level cache miss.
+
+CREATE UNIQUE INDEX uq_garages_user_id ON garages (user_id);
@@ -0,0 +1,77 @@
+-- V20: Monthly partitioned archive for closed job requests and their quotes.
+-- job_requests and quotes stay plain tables: their ids are referenced by foreign keys and must
+-- stay unique, which a table partitioned on created_date cannot enforce. Closed requests past
+-- the retention window are moved here with their quotes by HistoryArchiveJob, which also
+-- creates each month's partition the first time it needs it. The live tables and their
+-- indexes then only hold recent and active rows; the *_history views read both.
+-- Columns added to job_requests or quotes later must be added here and to the views as well.
+
+CREATE TABLE job_requests_archive (
+    id               UUID NOT NULL,
+    user_id          VARCHAR(50) NOT NULL,
+    car_id           INTEGER NOT NULL,
+    category_id      UUID,
+    title            VARCHAR(200) NOT NULL,
+    description      TEXT,
+    urgency          VARCHAR(20) NOT NULL,
+    preferred_date   DATE,
+    budget_min       NUMERIC(10,2),
+    budget_max       NUMERIC(10,2),
+    status           VARCHAR(20) NOT NULL,
+    location_address VARCHAR(500),
+    location_city    VARCHAR(100),
+    location_state   VARCHAR(100),
+    location_lat     DOUBLE PRECISION,
+    location_lng     DOUBLE PRECISION,
+    created_date     TIMESTAMPTZ NOT NULL,
+    modified_date    TIMESTAMPTZ NOT NULL,
+    PRIMARY KEY (id, created_date)
+) PARTITION BY RANGE (created_date);
+
+CREATE INDEX idx_job_requests_archive_user_created ON job_requests_archive (user_id, created_date DESC);
+
+CREATE TABLE quotes_archive (
+    id                 UUID NOT NULL,
+    job_request_id     UUID NOT NULL,
+    garage_id          UUID NOT NULL,
+    price              NUMERIC(10,2) NOT NULL,
+    estimated_duration VARCHAR(100),
+    description        TEXT,
+    warranty_info      TEXT,
+    status             VARCHAR(20) NOT NULL,
+    expires_at         TIMESTAMPTZ,
+    created_date       TIMESTAMPTZ NOT NULL,
+    modified_date      TIMESTAMPTZ NOT NULL,
+    PRIMARY KEY (id, created_date)
+) PARTITION BY RANGE (created_date);
+
+CREATE INDEX idx_quotes_archive_garage_created ON quotes_archive (garage_id, created_date DESC);
+CREATE INDEX idx_quotes_archive_job_request ON quotes_archive (job_request_id);
+
+-- Bookings stay live and keep pointing at their quote after it is archived.
+ALTER TABLE bookings DROP CONSTRAINT fk_bookings_quote;
+
+-- Archive candidates, oldest change first. Shrinks back as rows are moved out.
+CREATE INDEX idx_job_requests_closed_modified
+    ON job_requests (modified_date)
+    WHERE status IN ('BOOKED', 'COMPLETED', 'CANCELLED');
+
+CREATE VIEW job_request_history AS
+    SELECT id, user_id, car_id, category_id, title, description, urgency, preferred_date,
+           budget_min, budget_max, status, location_address, location_city, location_state,
+           location_lat, location_lng, created_date, modified_date
+    FROM job_requests
+    UNION ALL
+    SELECT id, user_id, car_id, category_id, title, description, urgency, preferred_date,
+           budget_min, budget_max, status, location_address, location_city, location_state,
+           location_lat, location_lng, created_date, modified_date
+    FROM job_requests_archive;
+
+CREATE VIEW quote_history AS
+    SELECT id, job_request_id, garage_id, price, estimated_duration, description, warranty_info,
+           status, expires_at, created_date, modified_date
+    FROM quotes
+    UNION ALL
+    SELECT id, job_request_id, garage_id, price, estimated_duration, description, warranty_info,
+           status, expires_at, created_date, modified_date
+    FROM quotes_archive;
@@ -0,0 +1,27 @@
+-- V21: Quotes received per job request, kept on the row so listings do not count per request.
+-- QuoteService increments it in the transaction that inserts the quote; JobRequestQuoteCountVerifier
+-- recounts any row that drifts. Archived requests keep the count they had when moved.
+
+ALTER TABLE job_requests ADD COLUMN quote_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE job_requests_archive ADD COLUMN quote_count INTEGER NOT NULL DEFAULT 0;
+
+UPDATE job_requests j
+SET quote_count = c.quotes
+FROM (SELECT job_request_id, count(*) AS quotes FROM quotes GROUP BY job_request_id) c
+WHERE c.job_request_id = j.id;
+
+UPDATE job_requests_archive j
+SET quote_count = c.quotes
+FROM (SELECT job_request_id, count(*) AS quotes FROM quotes_archive GROUP BY job_request_id) c
+WHERE c.job_request_id = j.id;
+
+CREATE OR REPLACE VIEW job_request_history AS
+    SELECT id, user_id, car_id, category_id, title, description, urgency, preferred_date,
+           budget_min, budget_max, status, location_address, location_city, location_state,
+           location_lat, location_lng, created_date, modified_date, quote_count
+    FROM job_requests
+    UNION ALL
+    SELECT id, user_id, car_id, category_id, title, description, urgency, preferred_date,
+           budget_min, budget_max, status, location_address, location_city, location_state,
+           location_lat, location_lng, created_date, modified_date, quote_count
+    FROM job_requests_archive;
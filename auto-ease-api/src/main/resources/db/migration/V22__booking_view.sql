@@ -0,0 +1,34 @@
+-- V22: Denormalized read model behind "my bookings".
+-- One row per booking with what the booking list shows, so a user's bookings are one range
+-- scan on the owner or garage index instead of rebuilding booking, quote, job request and
+-- garage per call. BookingService writes the row when a quote is accepted and on status
+-- changes; GarageService renames the garage on its rows.
+
+CREATE TABLE booking_view (
+    booking_id      UUID PRIMARY KEY,
+    quote_id        UUID NOT NULL,
+    owner_user_id   VARCHAR(50) NOT NULL,
+    garage_id       UUID NOT NULL,
+    garage_name     VARCHAR(200),
+    job_title       VARCHAR(200),
+    price           NUMERIC(10,2),
+    scheduled_date  DATE,
+    scheduled_time  TIME,
+    status          VARCHAR(20) NOT NULL,
+    notes           TEXT,
+    created_date    TIMESTAMPTZ NOT NULL,
+
+    CONSTRAINT fk_booking_view_booking FOREIGN KEY (booking_id) REFERENCES bookings(id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_booking_view_owner_created ON booking_view (owner_user_id, created_date DESC, booking_id DESC);
+CREATE INDEX idx_booking_view_garage_created ON booking_view (garage_id, created_date DESC, booking_id DESC);
+
+INSERT INTO booking_view (booking_id, quote_id, owner_user_id, garage_id, garage_name, job_title, price,
+                          scheduled_date, scheduled_time, status, notes, created_date)
+SELECT b.id, b.quote_id, j.user_id, q.garage_id, g.business_name, j.title, q.price,
+       b.scheduled_date, b.scheduled_time, b.status, b.notes, b.created_date
+FROM bookings b
+JOIN quote_history q ON q.id = b.quote_id
+JOIN job_request_history j ON j.id = q.job_request_id
+LEFT JOIN garages g ON g.id = q.garage_id;
@@ -0,0 +1,4 @@
+-- V23: job_request_matches.created_date as TIMESTAMPTZ, like every other timestamp in the schema.
+-- Existing values are read in the session time zone, the same one the application wrote them in.
+
+ALTER TABLE job_request_matches ALTER COLUMN created_date TYPE TIMESTAMPTZ;
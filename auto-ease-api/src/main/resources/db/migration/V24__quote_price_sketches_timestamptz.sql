@@ -0,0 +1,6 @@
+-- V24: quote_price_sketches timestamps as TIMESTAMPTZ, like every other timestamp in the schema.
+-- Existing values are read in the session time zone, the same one the application wrote them in.
+
+ALTER TABLE quote_price_sketches
+    ALTER COLUMN applied_through TYPE TIMESTAMPTZ,
+    ALTER COLUMN snapshot_date TYPE TIMESTAMPTZ;
@@ -0,0 +1,23 @@
+-- V8: Replace SERIAL (IDENTITY) keys on the BaseEntity tables with pooled sequences.
+-- IDENTITY forces Hibernate to execute every insert immediately to read back the key,
+-- which disables JDBC batching. Hibernate's implicit naming expects <EntityName>_SEQ with
+-- an increment of 50 (pooled optimizer: one nextval reserves 50 ids).
+-- Each sequence starts 50 above the current max id so the first reserved block begins
+-- right after existing rows. Column defaults point at the new sequences for raw SQL inserts;
+-- a nextval taken outside Hibernate never overlaps a block Hibernate has reserved.
+
+CREATE SEQUENCE car_seq INCREMENT BY 50;
+SELECT setval('car_seq', COALESCE((SELECT MAX(id) FROM CAR), 0) + 50, false);
+ALTER TABLE CAR ALTER COLUMN id SET DEFAULT nextval('car_seq');
+
+CREATE SEQUENCE serviceentry_seq INCREMENT BY 50;
+SELECT setval('serviceentry_seq', COALESCE((SELECT MAX(id) FROM SERVICE_ENTRY), 0) + 50, false);
+ALTER TABLE SERVICE_ENTRY ALTER COLUMN id SET DEFAULT nextval('serviceentry_seq');
+
+CREATE SEQUENCE rating_seq INCREMENT BY 50;
+SELECT setval('rating_seq', COALESCE((SELECT MAX(id) FROM RATING), 0) + 50, false);
+ALTER TABLE RATING ALTER COLUMN id SET DEFAULT nextval('rating_seq');
+
+CREATE SEQUENCE document_seq INCREMENT BY 50;
+SELECT setval('document_seq', COALESCE((SELECT MAX(id) FROM DOCUMENT), 0) + 50, false);
+ALTER TABLE DOCUMENT ALTER COLUMN id SET DEFAULT nextval('document_seq');
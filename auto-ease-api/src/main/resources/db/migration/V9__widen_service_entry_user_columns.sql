@@ -0,0 +1,5 @@
+-- V9: SERVICE_ENTRY.client_uuid/service_uuid were VARCHAR(30), too short for the
+-- 36-character APP_USER.uuid values they store.
+
+ALTER TABLE SERVICE_ENTRY ALTER COLUMN client_uuid TYPE VARCHAR(50);
+ALTER TABLE SERVICE_ENTRY ALTER COLUMN service_uuid TYPE VARCHAR(50);
@@ -0,0 +1,96 @@
+package com.api.auto_ease.config.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadWriteRoutingDataSourceTest {
+
+    private final StubDataSource primary = new StubDataSource("primary");
+    private final StubDataSource replica = new StubDataSource("replica");
+
+    private ReadWriteRoutingDataSource router(StubDataSource replica) {
+        ReadWriteRoutingDataSource router = new ReadWriteRoutingDataSource(primary, replica);
+        router.afterPropertiesSet();
+        return router;
+    }
+
+    @AfterEach
+    void clearReadOnly() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void writesAndNonTransactionalCallsUsePrimary() throws SQLException {
+        assertEquals("primary", router(replica).getConnection().toString());
+    }
+
+    @Test
+    void readOnlyTransactionsUseReplica() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals("replica", router(replica).getConnection().toString());
+    }
+
+    @Test
+    void readsUsePrimaryWithoutReplica() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        ReadWriteRoutingDataSource router = router(null);
+        assertFalse(router.isReplicaUsable());
+        assertEquals("primary", router.getConnection().toString());
+    }
+
+    @Test
+    void lagTakesReplicaOutUntilItCatchesUp() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        ReadWriteRoutingDataSource router = router(replica);
+
+        router.setReplicaUsable(false, "lag 9000 ms");
+        assertEquals("primary", router.getConnection().toString());
+
+        router.setReplicaUsable(true, "lag 0 ms");
+        assertEquals("replica", router.getConnection().toString());
+    }
+
+    @Test
+    void failedReplicaConnectionFallsBackToPrimary() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        ReadWriteRoutingDataSource router = router(replica);
+        replica.down = true;
+
+        assertEquals("primary", router.getConnection().toString());
+        assertFalse(router.isReplicaUsable());
+    }
+
+    private static final class StubDataSource extends AbstractDataSource {
+
+        private final String name;
+        private boolean down;
+
+        StubDataSource(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (down) {
+                throw new SQLException(name + " unreachable");
+            }
+            return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> method.getName().equals("toString") ? name : null);
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return getConnection();
+        }
+    }
+}
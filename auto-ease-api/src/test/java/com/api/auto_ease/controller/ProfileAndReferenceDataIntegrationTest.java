@@ -167,4 +167,91 @@ class ProfileAndReferenceDataIntegrationTest {
         assertEquals("Test User", body.get("fullName"));
         assertEquals("CAR_OWNER", body.get("userType"));
     }
+
+    // --- Test 9: Car catalog typeahead (folded prefix, make + model) ---
+    @Test
+    void carCatalogTypeahead() {
+        var resp = rest.getForEntity("/api/car-makes/typeahead?q=MERC", Map.class);
+        assertEquals(HttpStatus.OK, resp.getStatusCode());
+        List<Map<String, Object>> makes = (List<Map<String, Object>>) resp.getBody().get("makes");
+        assertEquals(1, makes.size());
+        assertEquals("Mercedes-Benz", makes.get(0).get("name"));
+
+        var modelsResp = rest.getForEntity("/api/car-makes/typeahead?q=toyota+cor", Map.class);
+        assertEquals(HttpStatus.OK, modelsResp.getStatusCode());
+        List<Map<String, Object>> models = (List<Map<String, Object>>) modelsResp.getBody().get("models");
+        assertEquals(1, models.size());
+        assertEquals("Corolla", models.get(0).get("name"));
+    }
+
+    // --- Test 10: Car catalog typeahead rejects an oversized limit ---
+    @Test
+    void carCatalogTypeaheadLimitTooLarge() {
+        var resp = rest.getForEntity("/api/car-makes/typeahead?q=a&limit=500", String.class);
+        assertEquals(HttpStatus.BAD_REQUEST, resp.getStatusCode());
+    }
+
+    // --- Test 11: Car catalog CSV import merges models into an existing make ---
+    @Test
+    void importCarCatalogCsv() {
+        String adminToken = (String) registerAndGetBody(uniqueEmail(), "Catalog Admin", "ADMIN").get("token");
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        String csv = "make,model,year\n"
+                + "acura,TLX-" + suffix + ",2019\n"
+                + " Acura ,tlx-" + suffix + ",2023\n"
+                + "Acura,MDX-" + suffix + ",\n"
+                + "Acura,,2020\n";
+
+        HttpHeaders headers = bearerHeaders(adminToken);
+        headers.setContentType(MediaType.parseMediaType("text/csv"));
+        var resp = rest.exchange("/api/car-makes/import", HttpMethod.POST,
+                new HttpEntity<>(csv, headers), Map.class);
+
+        assertEquals(HttpStatus.OK, resp.getStatusCode());
+        Map<String, Object> body = resp.getBody();
+        assertEquals(4, ((Number) body.get("rowsRead")).intValue());
+        assertEquals(1, ((Number) body.get("rowsSkipped")).intValue());
+        assertEquals(0, ((Number) body.get("makesInserted")).intValue());
+        assertEquals(2, ((Number) body.get("modelsInserted")).intValue());
+
+        // A second import only widens the year range of the existing model
+        var again = rest.exchange("/api/car-makes/import", HttpMethod.POST,
+                new HttpEntity<>("make,model,year\nAcura,TLX-" + suffix + ",2025\n", headers), Map.class);
+        assertEquals(HttpStatus.OK, again.getStatusCode());
+        assertEquals(0, ((Number) again.getBody().get("modelsInserted")).intValue());
+        assertEquals(1, ((Number) again.getBody().get("modelsUpdated")).intValue());
+
+        var makes = rest.getForEntity("/api/car-makes", List.class).getBody();
+        String acuraId = ((List<Map<String, Object>>) makes).stream()
+                .filter(make -> "Acura".equals(make.get("name")))
+                .map(make -> make.get("id").toString())
+                .findFirst()
+                .orElseThrow();
+        List<Map<String, Object>> models = rest.getForEntity("/api/car-makes/" + acuraId + "/models", List.class).getBody();
+        Map<String, Object> tlx = models.stream()
+                .filter(model -> ("TLX-" + suffix).equalsIgnoreCase((String) model.get("name")))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(2019, ((Number) tlx.get("yearFrom")).intValue());
+        assertEquals(2025, ((Number) tlx.get("yearTo")).intValue());
+    }
+
+    // --- Test 12: Car catalog import — wrong header rejected, non-admin forbidden ---
+    @Test
+    void importCarCatalogRejectsBadInput() {
+        String adminToken = (String) registerAndGetBody(uniqueEmail(), "Catalog Admin", "ADMIN").get("token");
+        HttpHeaders headers = bearerHeaders(adminToken);
+        headers.setContentType(MediaType.parseMediaType("text/csv"));
+
+        var badHeader = rest.exchange("/api/car-makes/import", HttpMethod.POST,
+                new HttpEntity<>("brand,name,year\nAcura,ZDX,2024\n", headers), String.class);
+        assertEquals(HttpStatus.BAD_REQUEST, badHeader.getStatusCode());
+
+        String ownerToken = (String) registerAndGetBody(uniqueEmail(), "Car Owner", "CAR_OWNER").get("token");
+        HttpHeaders ownerHeaders = bearerHeaders(ownerToken);
+        ownerHeaders.setContentType(MediaType.parseMediaType("text/csv"));
+        var forbidden = rest.exchange("/api/car-makes/import", HttpMethod.POST,
+                new HttpEntity<>("make,model,year\n", ownerHeaders), String.class);
+        assertEquals(HttpStatus.FORBIDDEN, forbidden.getStatusCode());
+    }
 }
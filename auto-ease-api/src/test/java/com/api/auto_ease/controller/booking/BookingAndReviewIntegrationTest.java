@@ -3,6 +3,9 @@ package com.api.auto_ease.controller.booking;
 import com.api.auto_ease.domain.booking.Booking;
 import com.api.auto_ease.domain.booking.BookingStatus;
 import com.api.auto_ease.repository.booking.BookingRepository;
+import com.api.auto_ease.repository.jobrequest.JobRequestRepository;
+import com.api.auto_ease.repository.quote.QuoteRepository;
+import com.api.auto_ease.service.archive.HistoryArchiveJob;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -12,7 +15,12 @@ import org.springframework.boot.resttestclient.autoconfigure.AutoConfigureTestRe
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.*;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
 import java.util.*;
+import java.util.zip.GZIPInputStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -26,6 +34,15 @@ class BookingAndReviewIntegrationTest {
     @Autowired
     private BookingRepository bookingRepository;
 
+    @Autowired
+    private JobRequestRepository jobRequestRepository;
+
+    @Autowired
+    private QuoteRepository quoteRepository;
+
+    @Autowired
+    private HistoryArchiveJob historyArchiveJob;
+
     private String toyotaMakeId;
     private String corollaModelId;
     private String oilChangeCategoryId;
@@ -374,4 +391,228 @@ class BookingAndReviewIntegrationTest {
                 .findFirst().orElseThrow();
         assertEquals("BOOKED", thisJob.get("status"));
     }
+
+    private Map<String, Object> dashboard(String garageToken) {
+        var resp = rest.exchange("/api/garages/me/dashboard?days=7", HttpMethod.GET,
+                new HttpEntity<>(bearerHeaders(garageToken)), Map.class);
+        assertEquals(HttpStatus.OK, resp.getStatusCode());
+        return resp.getBody();
+    }
+
+    // Test 12: Garage dashboard — quotes, bookings, revenue and ratings from the daily rollups
+    @Test
+    @SuppressWarnings("unchecked")
+    void garageDashboardCountsActivity() {
+        TestSetup s = fullSetup();
+
+        String otherOwner = registerAndGetToken(uniqueEmail(), "CAR_OWNER");
+        Map<String, Object> otherCar = addCar(otherOwner);
+        Map<String, Object> otherJob = createJobRequest(otherOwner, otherCar.get("id"));
+        submitQuote(s.garageToken, otherJob.get("id").toString(), 120.00);
+
+        var acceptResp = rest.exchange("/api/quotes/" + s.quoteId + "/accept", HttpMethod.POST,
+                new HttpEntity<>(Map.of("scheduledDate", "2025-03-20"), bearerHeaders(s.ownerToken)), Map.class);
+        String bookingId = acceptResp.getBody().get("id").toString();
+
+        Booking booking = bookingRepository.findById(UUID.fromString(bookingId)).orElseThrow();
+        booking.setStatus(BookingStatus.COMPLETED);
+        bookingRepository.save(booking);
+        rest.exchange("/api/bookings/" + bookingId + "/reviews", HttpMethod.POST,
+                new HttpEntity<>(Map.of("rating", 5, "comment", "Excelent"), bearerHeaders(s.ownerToken)), Map.class);
+
+        Map<String, Object> dashboard = dashboard(s.garageToken);
+        assertEquals(s.garageId, dashboard.get("garageId"));
+        assertEquals(2, dashboard.get("quotesSubmitted"));
+        assertEquals(1, dashboard.get("bookings"));
+        assertEquals(0.5, ((Number) dashboard.get("acceptanceRate")).doubleValue(), 1e-9);
+        assertEquals(250.0, ((Number) dashboard.get("revenue")).doubleValue(), 1e-9);
+        assertEquals(1, dashboard.get("reviews"));
+        assertEquals(5.0, ((Number) dashboard.get("averageRating")).doubleValue(), 1e-9);
+
+        List<Map<String, Object>> days = (List<Map<String, Object>>) dashboard.get("days");
+        assertEquals(7, days.size());
+        assertEquals(2, days.get(6).get("quotesSubmitted"));
+        assertEquals(0, days.get(0).get("quotesSubmitted"));
+
+        var badResp = rest.exchange("/api/garages/me/dashboard?days=0", HttpMethod.GET,
+                new HttpEntity<>(bearerHeaders(s.garageToken)), Map.class);
+        assertEquals(HttpStatus.BAD_REQUEST, badResp.getStatusCode());
+    }
+
+    // Test 13: Garage stats rebuild — admin recount matches the incremental rollups
+    @Test
+    void garageStatsRebuildMatchesIncrementalRollups() {
+        TestSetup s = fullSetup();
+        rest.exchange("/api/quotes/" + s.quoteId + "/accept", HttpMethod.POST,
+                new HttpEntity<>(Map.of("scheduledDate", "2025-03-20"), bearerHeaders(s.ownerToken)), Map.class);
+        Map<String, Object> before = dashboard(s.garageToken);
+
+        String today = LocalDate.now().toString();
+        var forbidden = rest.exchange("/api/garages/stats/rebuild?from=" + today, HttpMethod.POST,
+                new HttpEntity<>(bearerHeaders(s.garageToken)), Map.class);
+        assertEquals(HttpStatus.FORBIDDEN, forbidden.getStatusCode());
+
+        String adminToken = registerAndGetToken(uniqueEmail(), "ADMIN");
+        var rebuildResp = rest.exchange("/api/garages/stats/rebuild?from=" + today + "&to=" + today,
+                HttpMethod.POST, new HttpEntity<>(bearerHeaders(adminToken)), Map.class);
+        assertEquals(HttpStatus.OK, rebuildResp.getStatusCode());
+        assertEquals(1, rebuildResp.getBody().get("chunks"));
+        assertTrue(((Number) rebuildResp.getBody().get("rowsWritten")).intValue() >= 1);
+
+        assertEquals(before, dashboard(s.garageToken));
+    }
+
+    // Test 14: Marketplace export — admin streams CSV and gzip, others forbidden
+    @Test
+    void adminExportsQuotesAsCsv() throws Exception {
+        TestSetup s = fullSetup();
+        String today = LocalDate.now().toString();
+        String adminToken = registerAndGetToken(uniqueEmail(), "ADMIN");
+
+        var csvResp = rest.exchange("/api/exports/quotes?from=" + today + "&to=" + today, HttpMethod.GET,
+                new HttpEntity<>(bearerHeaders(adminToken)), String.class);
+        assertEquals(HttpStatus.OK, csvResp.getStatusCode());
+        assertTrue(csvResp.getHeaders().getContentType().isCompatibleWith(MediaType.parseMediaType("text/csv")));
+        String csv = csvResp.getBody();
+        assertTrue(csv.startsWith("id,job_request_id,garage_id,price,"));
+        assertTrue(csv.contains(s.quoteId + "," + s.jobId + "," + s.garageId + ",250.00,"));
+
+        var gzipResp = rest.exchange("/api/exports/quotes?from=" + today + "&gzip=true", HttpMethod.GET,
+                new HttpEntity<>(bearerHeaders(adminToken)), byte[].class);
+        assertEquals(HttpStatus.OK, gzipResp.getStatusCode());
+        try (var in = new GZIPInputStream(new ByteArrayInputStream(gzipResp.getBody()))) {
+            String unzipped = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            assertTrue(unzipped.contains(s.quoteId));
+        }
+
+        var emptyResp = rest.exchange("/api/exports/bookings?to=2000-01-01", HttpMethod.GET,
+                new HttpEntity<>(bearerHeaders(adminToken)), String.class);
+        assertEquals(HttpStatus.OK, emptyResp.getStatusCode());
+        assertEquals(1, emptyResp.getBody().split("\r\n").length);
+
+        var unknownResp = rest.exchange("/api/exports/garages", HttpMethod.GET,
+                new HttpEntity<>(bearerHeaders(adminToken)), String.class);
+        assertEquals(HttpStatus.NOT_FOUND, unknownResp.getStatusCode());
+
+        var forbidden = rest.exchange("/api/exports/quotes", HttpMethod.GET,
+                new HttpEntity<>(bearerHeaders(s.ownerToken)), String.class);
+        assertEquals(HttpStatus.FORBIDDEN, forbidden.getStatusCode());
+    }
+
+    private List<Map<String, Object>> getList(String url, String token) {
+        var resp = rest.exchange(url, HttpMethod.GET, new HttpEntity<>(bearerHeaders(token)),
+                new ParameterizedTypeReference<List<Map<String, Object>>>() {});
+        assertEquals(HttpStatus.OK, resp.getStatusCode());
+        return resp.getBody();
+    }
+
+    // Test 15: Streamed histories — same JSON as the list endpoints
+    @Test
+    void streamedHistoriesMatchListEndpoints() {
+        TestSetup s = fullSetup();
+        rest.exchange("/api/quotes/" + s.quoteId + "/accept", HttpMethod.POST,
+                new HttpEntity<>(Map.of("scheduledDate", "2025-03-20", "scheduledTime", "10:00"),
+                        bearerHeaders(s.ownerToken)), Map.class);
+
+        List<Map<String, Object>> quotes = getList("/api/quotes/mine", s.garageToken);
+        assertEquals(1, quotes.size());
+        assertEquals(quotes, getList("/api/quotes/mine?stream=true", s.garageToken));
+
+        List<Map<String, Object>> ownerBookings = getList("/api/bookings", s.ownerToken);
+        assertEquals(1, ownerBookings.size());
+        assertEquals(ownerBookings, getList("/api/bookings?stream=true", s.ownerToken));
+        assertEquals(getList("/api/bookings", s.garageToken), getList("/api/bookings?stream=true", s.garageToken));
+
+        List<Map<String, Object>> jobs = getList("/api/job-requests", s.ownerToken);
+        assertEquals(1, jobs.size());
+        assertEquals(jobs, getList("/api/job-requests?stream=true", s.ownerToken));
+
+        String otherGarage = registerAndGetToken(uniqueEmail(), "GARAGE");
+        var noGarage = rest.exchange("/api/quotes/mine?stream=true", HttpMethod.GET,
+                new HttpEntity<>(bearerHeaders(otherGarage)), String.class);
+        assertEquals(HttpStatus.NOT_FOUND, noGarage.getStatusCode());
+    }
+
+    // Test 16: Archived job requests and quotes — histories, streams and reviews read across
+    @Test
+    void archivedHistoryStaysReadable() {
+        TestSetup s = fullSetup();
+        var acceptResp = rest.exchange("/api/quotes/" + s.quoteId + "/accept", HttpMethod.POST,
+                new HttpEntity<>(Map.of("scheduledDate", "2025-03-20", "scheduledTime", "10:00"),
+                        bearerHeaders(s.ownerToken)), Map.class);
+        String bookingId = acceptResp.getBody().get("id").toString();
+
+        List<Map<String, Object>> jobs = getList("/api/job-requests", s.ownerToken);
+        List<Map<String, Object>> quotes = getList("/api/quotes/mine", s.garageToken);
+        List<Map<String, Object>> ownerBookings = getList("/api/bookings", s.ownerToken);
+        List<Map<String, Object>> garageBookings = getList("/api/bookings", s.garageToken);
+
+        historyArchiveJob.archiveClosedBefore(OffsetDateTime.now().plusMinutes(1));
+        assertTrue(jobRequestRepository.findById(UUID.fromString(s.jobId)).isEmpty());
+        assertTrue(quoteRepository.findById(UUID.fromString(s.quoteId)).isEmpty());
+
+        assertEquals(jobs, getList("/api/job-requests", s.ownerToken));
+        assertEquals(jobs, getList("/api/job-requests?stream=true", s.ownerToken));
+        assertEquals(jobs.get(0), rest.exchange("/api/job-requests/" + s.jobId, HttpMethod.GET,
+                new HttpEntity<>(bearerHeaders(s.ownerToken)), Map.class).getBody());
+        assertEquals(quotes, getList("/api/quotes/mine", s.garageToken));
+        assertEquals(quotes, getList("/api/quotes/mine?stream=true", s.garageToken));
+        assertEquals(quotes, getList("/api/job-requests/" + s.jobId + "/quotes", s.ownerToken));
+        assertEquals(ownerBookings, getList("/api/bookings", s.ownerToken));
+        assertEquals(ownerBookings, getList("/api/bookings?stream=true", s.ownerToken));
+        assertEquals(garageBookings, getList("/api/bookings", s.garageToken));
+
+        Booking booking = bookingRepository.findById(UUID.fromString(bookingId)).orElseThrow();
+        booking.setStatus(BookingStatus.COMPLETED);
+        bookingRepository.save(booking);
+        var review = rest.exchange("/api/bookings/" + bookingId + "/reviews", HttpMethod.POST,
+                new HttpEntity<>(Map.of("rating", 4, "comment", "Still on file"), bearerHeaders(s.ownerToken)),
+                Map.class);
+        assertEquals(HttpStatus.CREATED, review.getStatusCode());
+    }
+
+    private ResponseEntity<Map> updateStatus(String token, String bookingId, String status) {
+        return rest.exchange("/api/bookings/" + bookingId + "/status", HttpMethod.PATCH,
+                new HttpEntity<>(Map.of("status", status), bearerHeaders(token)), Map.class);
+    }
+
+    // Test 17: Booking read model follows status changes and garage renames
+    @Test
+    void bookingViewFollowsStatusAndGarageRename() {
+        TestSetup s = fullSetup();
+        var acceptResp = rest.exchange("/api/quotes/" + s.quoteId + "/accept", HttpMethod.POST,
+                new HttpEntity<>(Map.of("scheduledDate", "2025-03-20", "scheduledTime", "10:00", "notes", "Side door"),
+                        bearerHeaders(s.ownerToken)), Map.class);
+        String bookingId = acceptResp.getBody().get("id").toString();
+
+        List<Map<String, Object>> ownerBookings = getList("/api/bookings", s.ownerToken);
+        assertEquals(1, ownerBookings.size());
+        assertEquals(acceptResp.getBody(), ownerBookings.get(0));
+        assertEquals("Side door", ownerBookings.get(0).get("notes"));
+
+        String otherGarage = registerAndGetToken(uniqueEmail(), "GARAGE");
+        createGarageAndGetProfile(otherGarage);
+        assertEquals(HttpStatus.FORBIDDEN, updateStatus(otherGarage, bookingId, "IN_PROGRESS").getStatusCode());
+        assertEquals(HttpStatus.FORBIDDEN, updateStatus(s.ownerToken, bookingId, "IN_PROGRESS").getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, updateStatus(s.garageToken, bookingId, "COMPLETED").getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, updateStatus(s.garageToken, bookingId, "DONE").getStatusCode());
+        // No cancellation through status changes: the job request and quote would stay booked
+        assertEquals(HttpStatus.BAD_REQUEST, updateStatus(s.garageToken, bookingId, "CANCELLED").getStatusCode());
+
+        assertEquals("IN_PROGRESS", updateStatus(s.garageToken, bookingId, "IN_PROGRESS").getBody().get("status"));
+        assertEquals("COMPLETED", updateStatus(s.garageToken, bookingId, "COMPLETED").getBody().get("status"));
+        assertEquals(HttpStatus.BAD_REQUEST, updateStatus(s.garageToken, bookingId, "CANCELLED").getStatusCode());
+        assertEquals("COMPLETED", getList("/api/bookings", s.ownerToken).get(0).get("status"));
+        assertEquals(BookingStatus.COMPLETED,
+                bookingRepository.findById(UUID.fromString(bookingId)).orElseThrow().getStatus());
+
+        var rename = rest.exchange("/api/garages/me", HttpMethod.PUT,
+                new HttpEntity<>(Map.of("businessName", "AutoService Renamed"), bearerHeaders(s.garageToken)), Map.class);
+        assertEquals(HttpStatus.OK, rename.getStatusCode());
+
+        List<Map<String, Object>> renamed = getList("/api/bookings", s.ownerToken);
+        assertEquals("AutoService Renamed", renamed.get(0).get("garageName"));
+        assertEquals(renamed, getList("/api/bookings?stream=true", s.ownerToken));
+        assertEquals(getList("/api/bookings", s.garageToken), getList("/api/bookings?stream=true", s.garageToken));
+    }
 }
@@ -256,4 +256,57 @@ class CarIntegrationTest {
         assertEquals(2024, cars.get(0).get("year"));
         assertEquals("Silver", cars.get(0).get("color"));
     }
+
+    // Test 9: Decode VIN — make, model line and year resolved against the catalog
+    @Test
+    void decodeVin() {
+        String token = registerAndGetToken(uniqueEmail(), "CAR_OWNER");
+
+        var resp = rest.exchange("/api/vin/1hgcm82633a004352", HttpMethod.GET,
+                new HttpEntity<>(bearerHeaders(token)), Map.class);
+
+        assertEquals(HttpStatus.OK, resp.getStatusCode());
+        Map<String, Object> body = resp.getBody();
+        assertEquals("1HGCM82633A004352", body.get("vin"));
+        assertEquals(true, body.get("valid"));
+        assertEquals("Honda", body.get("makeName"));
+        assertEquals(2003, body.get("modelYear"));
+        List<Map<String, Object>> candidates = (List<Map<String, Object>>) body.get("candidateModels");
+        assertEquals(1, candidates.size());
+        assertEquals("Accord", candidates.get(0).get("name"));
+    }
+
+    // Test 10: Add car with decodeVin — make, model and year filled from the VIN
+    @Test
+    void addCarDecodingVin() {
+        String token = registerAndGetToken(uniqueEmail(), "CAR_OWNER");
+
+        var body = Map.of(
+                "vin", "1HGCM82633A004352",
+                "decodeVin", true,
+                "color", "Grey"
+        );
+        var resp = rest.exchange("/api/cars", HttpMethod.POST,
+                new HttpEntity<>(body, bearerHeaders(token)), Map.class);
+
+        assertEquals(HttpStatus.CREATED, resp.getStatusCode());
+        assertEquals("Honda", resp.getBody().get("makeName"));
+        assertEquals("Accord", resp.getBody().get("modelName"));
+        assertEquals(2003, resp.getBody().get("year"));
+    }
+
+    // Test 11: Decode VIN — malformed VIN and failed check digit rejected
+    @Test
+    void decodeVinRejectsBadInput() {
+        String token = registerAndGetToken(uniqueEmail(), "CAR_OWNER");
+
+        var malformed = rest.exchange("/api/vin/1HGCM82633A00435O", HttpMethod.GET,
+                new HttpEntity<>(bearerHeaders(token)), String.class);
+        assertEquals(HttpStatus.BAD_REQUEST, malformed.getStatusCode());
+
+        var body = Map.of("vin", "1HGCM82634A004352", "decodeVin", true);
+        var resp = rest.exchange("/api/cars", HttpMethod.POST,
+                new HttpEntity<>(body, bearerHeaders(token)), String.class);
+        assertEquals(HttpStatus.BAD_REQUEST, resp.getStatusCode());
+    }
 }
@@ -1,5 +1,6 @@
 package com.api.auto_ease.controller.garage;
 
+import com.api.auto_ease.security.JwtService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -21,6 +22,9 @@ class GarageIntegrationTest {
     @Autowired
     private TestRestTemplate rest;
 
+    @Autowired
+    private JwtService jwtService;
+
     private String uniqueEmail() {
         return "garage-test-" + UUID.randomUUID().toString().substring(0, 8) + "@test.com";
     }
@@ -196,4 +200,166 @@ class GarageIntegrationTest {
         assertEquals("My Garage", getResp.getBody().get("businessName"));
         assertEquals(false, getResp.getBody().get("isApproved"));
     }
+
+    // Test 9: Nearby search — approved garage with coordinates is found, closest first
+    @Test
+    void nearbyGaragesFindsApprovedGarage() {
+        String garageToken = registerAndGetToken(uniqueEmail(), "GARAGE");
+        String adminToken = registerAndGetToken(uniqueEmail(), "ADMIN");
+
+        // A random point so garages created by other runs do not interfere
+        double lat = 46 + Math.random();
+        double lng = 23 + Math.random();
+        var createBody = new java.util.HashMap<>(garageBody());
+        createBody.put("latitude", lat);
+        createBody.put("longitude", lng);
+
+        var createResp = rest.exchange("/api/garages", HttpMethod.POST,
+                new HttpEntity<>(createBody, bearerHeaders(garageToken)), Map.class);
+        assertEquals(HttpStatus.CREATED, createResp.getStatusCode());
+        String garageId = (String) createResp.getBody().get("id");
+
+        var approveResp = rest.exchange("/api/garages/" + garageId + "/approve", HttpMethod.PATCH,
+                new HttpEntity<>(bearerHeaders(adminToken)), Map.class);
+        assertEquals(HttpStatus.OK, approveResp.getStatusCode());
+
+        var resp = rest.exchange("/api/garages/nearby?lat=" + lat + "&lng=" + (lng + 0.001) + "&radiusKm=1&limit=5",
+                HttpMethod.GET, null, new ParameterizedTypeReference<List<Map<String, Object>>>() {});
+
+        assertEquals(HttpStatus.OK, resp.getStatusCode());
+        List<Map<String, Object>> results = resp.getBody();
+        assertNotNull(results);
+        Map<String, Object> match = results.stream()
+                .filter(r -> garageId.equals(((Map<?, ?>) r.get("garage")).get("id")))
+                .findFirst()
+                .orElseThrow();
+        assertTrue(((Number) match.get("distanceKm")).doubleValue() < 1);
+    }
+
+    // Test 10: Nearby search — radius above the maximum rejected
+    @Test
+    void nearbyGaragesRejectsHugeRadius() {
+        var resp = rest.exchange("/api/garages/nearby?lat=46.77&lng=23.59&radiusKm=5000",
+                HttpMethod.GET, null, String.class);
+
+        assertEquals(HttpStatus.BAD_REQUEST, resp.getStatusCode());
+    }
+
+    // Test 11: Keyword search — approved garage found by name prefix and service
+    @Test
+    void searchGaragesFindsApprovedGarage() {
+        String garageToken = registerAndGetToken(uniqueEmail(), "GARAGE");
+        String adminToken = registerAndGetToken(uniqueEmail(), "ADMIN");
+
+        // A made-up word so garages created by other runs do not interfere
+        String name = "Motorvest" + UUID.randomUUID().toString().replaceAll("[^a-f]", "");
+        var createBody = new java.util.HashMap<>(garageBody());
+        createBody.put("businessName", name + " Service");
+
+        var createResp = rest.exchange("/api/garages", HttpMethod.POST,
+                new HttpEntity<>(createBody, bearerHeaders(garageToken)), Map.class);
+        assertEquals(HttpStatus.CREATED, createResp.getStatusCode());
+        String garageId = (String) createResp.getBody().get("id");
+
+        // Not searchable until approved
+        var beforeApproval = rest.exchange("/api/garages/search?q=" + name, HttpMethod.GET, null,
+                new ParameterizedTypeReference<List<Map<String, Object>>>() {});
+        assertEquals(HttpStatus.OK, beforeApproval.getStatusCode());
+        assertTrue(beforeApproval.getBody().isEmpty());
+
+        rest.exchange("/api/garages/" + garageId + "/approve", HttpMethod.PATCH,
+                new HttpEntity<>(bearerHeaders(adminToken)), Map.class);
+
+        String prefix = name.substring(0, name.length() - 2).toUpperCase();
+        var resp = rest.exchange("/api/garages/search?q=" + prefix + " brake&limit=5", HttpMethod.GET, null,
+                new ParameterizedTypeReference<List<Map<String, Object>>>() {});
+
+        assertEquals(HttpStatus.OK, resp.getStatusCode());
+        List<Map<String, Object>> results = resp.getBody();
+        assertEquals(1, results.size());
+        assertEquals(garageId, ((Map<?, ?>) results.get(0).get("garage")).get("id"));
+        assertTrue(((Number) results.get(0).get("score")).doubleValue() > 0);
+    }
+
+    // Test 12: Keyword search — blank query rejected
+    @Test
+    void searchGaragesRejectsBlankQuery() {
+        var resp = rest.exchange("/api/garages/search?q=+", HttpMethod.GET, null, String.class);
+
+        assertEquals(HttpStatus.BAD_REQUEST, resp.getStatusCode());
+    }
+
+    // Test 13: Cached garage lookups — updates and approval visible, hit counts exposed to admins
+    @Test
+    void cachedGarageReflectsUpdatesAndExposesStats() {
+        String token = registerAndGetToken(uniqueEmail(), "GARAGE");
+        String adminToken = registerAndGetToken(uniqueEmail(), "ADMIN");
+
+        var createResp = rest.exchange("/api/garages", HttpMethod.POST,
+                new HttpEntity<>(garageBody(), bearerHeaders(token)), Map.class);
+        String garageId = (String) createResp.getBody().get("id");
+
+        for (int i = 0; i < 2; i++) {
+            var getResp = rest.exchange("/api/garages/me", HttpMethod.GET,
+                    new HttpEntity<>(bearerHeaders(token)), Map.class);
+            assertEquals("Full service auto repair", getResp.getBody().get("description"));
+        }
+
+        rest.exchange("/api/garages/me", HttpMethod.PUT,
+                new HttpEntity<>(Map.of("description", "Cached then updated"), bearerHeaders(token)), Map.class);
+        rest.exchange("/api/garages/" + garageId + "/approve", HttpMethod.PATCH,
+                new HttpEntity<>(bearerHeaders(adminToken)), Map.class);
+
+        var afterResp = rest.exchange("/api/garages/me", HttpMethod.GET,
+                new HttpEntity<>(bearerHeaders(token)), Map.class);
+        assertEquals("Cached then updated", afterResp.getBody().get("description"));
+        assertEquals(true, afterResp.getBody().get("isApproved"));
+
+        var statsResp = rest.exchange("/api/garages/cache-stats", HttpMethod.GET,
+                new HttpEntity<>(bearerHeaders(adminToken)),
+                new ParameterizedTypeReference<List<Map<String, Object>>>() {});
+        assertEquals(HttpStatus.OK, statsResp.getStatusCode());
+        Map<String, Object> entityRegion = statsResp.getBody().stream()
+                .filter(r -> "garage".equals(r.get("region")))
+                .findFirst()
+                .orElseThrow();
+        assertTrue(((Number) entityRegion.get("hits")).longValue() >= 1);
+
+        var forbidden = rest.exchange("/api/garages/cache-stats", HttpMethod.GET,
+                new HttpEntity<>(bearerHeaders(token)), String.class);
+        assertEquals(HttpStatus.FORBIDDEN, forbidden.getStatusCode());
+    }
+
+    // Test 14: Create garage — re-issued token carries the garage id, old and new tokens both work
+    @Test
+    void createGarageReissuesTokenWithGarageId() {
+        String email = uniqueEmail();
+        String oldToken = registerAndGetToken(email, "GARAGE");
+
+        var createResp = rest.exchange("/api/garages", HttpMethod.POST,
+                new HttpEntity<>(garageBody(), bearerHeaders(oldToken)), Map.class);
+        assertEquals(HttpStatus.CREATED, createResp.getStatusCode());
+        String garageId = (String) createResp.getBody().get("id");
+        String newToken = (String) createResp.getBody().get("token");
+        assertNotNull(newToken);
+        assertEquals(garageId, garageIdClaim(newToken));
+
+        var listResp = rest.exchange("/api/garages/me", HttpMethod.GET,
+                new HttpEntity<>(bearerHeaders(oldToken)), Map.class);
+        assertFalse(listResp.getBody().containsKey("token"));
+
+        for (String token : List.of(oldToken, newToken)) {
+            var quotesResp = rest.exchange("/api/quotes/mine", HttpMethod.GET,
+                    new HttpEntity<>(bearerHeaders(token)), List.class);
+            assertEquals(HttpStatus.OK, quotesResp.getStatusCode());
+        }
+
+        var loginResp = rest.postForEntity("/api/auth/login",
+                Map.of("email", email, "password", "pass123"), Map.class);
+        assertEquals(garageId, garageIdClaim((String) loginResp.getBody().get("token")));
+    }
+
+    private Object garageIdClaim(String token) {
+        return jwtService.validateToken(token).get("garageId");
+    }
 }
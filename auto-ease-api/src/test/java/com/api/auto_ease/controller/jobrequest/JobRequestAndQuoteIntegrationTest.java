@@ -1,5 +1,6 @@
 package com.api.auto_ease.controller.jobrequest;
 
+import com.api.auto_ease.service.jobrequest.JobRequestQuoteCountVerifier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -8,6 +9,7 @@ import org.springframework.boot.resttestclient.TestRestTemplate;
 import org.springframework.boot.resttestclient.autoconfigure.AutoConfigureTestRestTemplate;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.*;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.util.HashMap;
 import java.util.List;
@@ -23,6 +25,12 @@ class JobRequestAndQuoteIntegrationTest {
     @Autowired
     private TestRestTemplate rest;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JobRequestQuoteCountVerifier quoteCountVerifier;
+
     private String toyotaMakeId;
     private String corollaModelId;
     private String oilChangeCategoryId;
@@ -357,4 +365,316 @@ class JobRequestAndQuoteIntegrationTest {
         assertEquals(HttpStatus.OK, myQuotesResp.getStatusCode());
         assertFalse(myQuotesResp.getBody().isEmpty());
     }
+
+    // Test 12: Open feed filtered by distance from the garage
+    @Test
+    void listOpenJobRequestsWithinRadius() {
+        String ownerToken = registerAndGetToken(uniqueEmail(), "CAR_OWNER");
+        Map<String, Object> car = addCar(ownerToken);
+
+        // A random point so requests created by other tests do not interfere
+        double lat = 44 + Math.random();
+        double lng = 26 + Math.random();
+
+        var nearBody = jobRequestBody(car.get("id"));
+        nearBody.put("locationLat", lat + 0.05);
+        nearBody.put("locationLng", lng);
+        var nearResp = rest.exchange("/api/job-requests", HttpMethod.POST,
+                new HttpEntity<>(nearBody, bearerHeaders(ownerToken)), Map.class);
+        assertEquals(HttpStatus.CREATED, nearResp.getStatusCode());
+        String nearId = nearResp.getBody().get("id").toString();
+
+        var farBody = jobRequestBody(car.get("id"));
+        farBody.put("locationLat", lat + 1.5);
+        farBody.put("locationLng", lng);
+        var farResp = rest.exchange("/api/job-requests", HttpMethod.POST,
+                new HttpEntity<>(farBody, bearerHeaders(ownerToken)), Map.class);
+        String farId = farResp.getBody().get("id").toString();
+
+        String garageToken = registerAndGetToken(uniqueEmail(), "GARAGE");
+        var garageBody = Map.of(
+                "businessName", "AutoService Pro",
+                "city", "București",
+                "latitude", lat,
+                "longitude", lng
+        );
+        rest.exchange("/api/garages", HttpMethod.POST,
+                new HttpEntity<>(garageBody, bearerHeaders(garageToken)), Map.class);
+
+        var resp = rest.exchange("/api/job-requests/open?radiusKm=25", HttpMethod.GET,
+                new HttpEntity<>(bearerHeaders(garageToken)),
+                new ParameterizedTypeReference<List<Map<String, Object>>>() {});
+
+        assertEquals(HttpStatus.OK, resp.getStatusCode());
+        List<Map<String, Object>> jobs = resp.getBody();
+        assertTrue(jobs.stream().anyMatch(job -> nearId.equals(job.get("id"))));
+        assertTrue(jobs.stream().noneMatch(job -> farId.equals(job.get("id"))));
+        for (Map<String, Object> job : jobs) {
+            assertTrue(((Number) job.get("distanceKm")).doubleValue() <= 25);
+        }
+    }
+
+    // Test 13: Radius feed needs the garage location
+    @Test
+    void listOpenJobRequestsWithinRadiusRequiresGarageLocation() {
+        String garageToken = registerAndGetToken(uniqueEmail(), "GARAGE");
+        createGarageProfile(garageToken);
+
+        var resp = rest.exchange("/api/job-requests/open?radiusKm=25", HttpMethod.GET,
+                new HttpEntity<>(bearerHeaders(garageToken)), String.class);
+
+        assertEquals(HttpStatus.BAD_REQUEST, resp.getStatusCode());
+    }
+
+    // Test 14: Open feed filters and facet counts
+    @Test
+    void filterOpenJobRequestsWithFacets() {
+        String ownerToken = registerAndGetToken(uniqueEmail(), "CAR_OWNER");
+        Map<String, Object> car = addCar(ownerToken);
+        String city = "Oras-" + UUID.randomUUID().toString().substring(0, 8);
+
+        var normalBody = jobRequestBody(car.get("id"));
+        normalBody.put("locationCity", city);
+        rest.exchange("/api/job-requests", HttpMethod.POST,
+                new HttpEntity<>(normalBody, bearerHeaders(ownerToken)), Map.class);
+
+        var urgentBody = jobRequestBody(car.get("id"));
+        urgentBody.put("locationCity", city);
+        urgentBody.put("urgency", "HIGH");
+        rest.exchange("/api/job-requests", HttpMethod.POST,
+                new HttpEntity<>(urgentBody, bearerHeaders(ownerToken)), Map.class);
+
+        String garageToken = registerAndGetToken(uniqueEmail(), "GARAGE");
+
+        var listResp = rest.exchange("/api/job-requests/open?city=" + city.toUpperCase() + "&urgency=HIGH",
+                HttpMethod.GET, new HttpEntity<>(bearerHeaders(garageToken)),
+                new ParameterizedTypeReference<List<Map<String, Object>>>() {});
+        assertEquals(HttpStatus.OK, listResp.getStatusCode());
+        assertEquals(1, listResp.getBody().size());
+        assertEquals("HIGH", listResp.getBody().get(0).get("urgency"));
+
+        var facetResp = rest.exchange("/api/job-requests/open/faceted?city=" + city + "&urgency=HIGH",
+                HttpMethod.GET, new HttpEntity<>(bearerHeaders(garageToken)), Map.class);
+        assertEquals(HttpStatus.OK, facetResp.getStatusCode());
+        Map<String, Object> body = facetResp.getBody();
+        assertEquals(1, ((List<?>) body.get("jobRequests")).size());
+
+        // The urgency facet ignores the urgency filter itself, so both values are counted
+        List<Map<String, Object>> urgencies = (List<Map<String, Object>>) body.get("urgencies");
+        assertEquals(2, urgencies.size());
+        List<Map<String, Object>> categories = (List<Map<String, Object>>) body.get("categories");
+        assertEquals("Oil Change", categories.get(0).get("label"));
+        assertEquals(1, ((Number) categories.get(0).get("count")).intValue());
+    }
+
+    // Test 15: Invalid filter values rejected
+    @Test
+    void filterOpenJobRequestsInvalidUrgency() {
+        String garageToken = registerAndGetToken(uniqueEmail(), "GARAGE");
+
+        var resp = rest.exchange("/api/job-requests/open?urgency=WHENEVER", HttpMethod.GET,
+                new HttpEntity<>(bearerHeaders(garageToken)), String.class);
+
+        assertEquals(HttpStatus.BAD_REQUEST, resp.getStatusCode());
+    }
+
+    // Test 16: Keyword search ranks title matches first and pages with a cursor
+    @Test
+    void searchOpenJobRequestsByKeyword() {
+        String ownerToken = registerAndGetToken(uniqueEmail(), "CAR_OWNER");
+        Map<String, Object> car = addCar(ownerToken);
+        String keyword = "zgomot" + UUID.randomUUID().toString().replaceAll("[^a-f]", "");
+
+        var titleMatch = jobRequestBody(car.get("id"));
+        titleMatch.put("title", "Verificare " + keyword + " la frana");
+        var descriptionMatch = jobRequestBody(car.get("id"));
+        descriptionMatch.put("description", "Se aude un " + keyword + " din spate la viteza mare");
+        var bothMatch = jobRequestBody(car.get("id"));
+        bothMatch.put("title", keyword + " la pornire");
+        bothMatch.put("description", "Apare " + keyword + " metalic doar la rece");
+        for (var body : List.of(titleMatch, descriptionMatch, bothMatch)) {
+            rest.exchange("/api/job-requests", HttpMethod.POST,
+                    new HttpEntity<>(body, bearerHeaders(ownerToken)), Map.class);
+        }
+
+        String garageToken = registerAndGetToken(uniqueEmail(), "GARAGE");
+
+        var firstPage = rest.exchange("/api/job-requests/search?limit=2&q=" + keyword, HttpMethod.GET,
+                new HttpEntity<>(bearerHeaders(garageToken)), Map.class);
+        assertEquals(HttpStatus.OK, firstPage.getStatusCode());
+        List<Map<String, Object>> hits = (List<Map<String, Object>>) firstPage.getBody().get("results");
+        assertEquals(2, hits.size());
+        Map<String, Object> top = (Map<String, Object>) hits.get(0).get("jobRequest");
+        assertEquals(keyword + " la pornire", top.get("title"));
+        assertTrue(((String) hits.get(0).get("snippet")).contains("<mark>" + keyword + "</mark>"));
+
+        String cursor = (String) firstPage.getBody().get("nextCursor");
+        assertNotNull(cursor);
+        var secondPage = rest.exchange("/api/job-requests/search?limit=2&q=" + keyword + "&cursor=" + cursor,
+                HttpMethod.GET, new HttpEntity<>(bearerHeaders(garageToken)), Map.class);
+        assertEquals(HttpStatus.OK, secondPage.getStatusCode());
+        List<Map<String, Object>> nextHits = (List<Map<String, Object>>) secondPage.getBody().get("results");
+        assertEquals(1, nextHits.size());
+        Map<String, Object> last = (Map<String, Object>) nextHits.get(0).get("jobRequest");
+        assertTrue(((String) last.get("description")).contains(keyword));
+        assertNull(secondPage.getBody().get("nextCursor"));
+    }
+
+    // Test 17: Keyword search rejects a blank query and a tampered cursor
+    @Test
+    void searchOpenJobRequestsInvalidInput() {
+        String garageToken = registerAndGetToken(uniqueEmail(), "GARAGE");
+
+        var blank = rest.exchange("/api/job-requests/search?q=+", HttpMethod.GET,
+                new HttpEntity<>(bearerHeaders(garageToken)), String.class);
+        assertEquals(HttpStatus.BAD_REQUEST, blank.getStatusCode());
+
+        var badCursor = rest.exchange("/api/job-requests/search?q=frana&cursor=not-a-cursor", HttpMethod.GET,
+                new HttpEntity<>(bearerHeaders(garageToken)), String.class);
+        assertEquals(HttpStatus.BAD_REQUEST, badCursor.getStatusCode());
+    }
+
+    // Test 18: Matched feed — a request reaches nearby garages offering its category
+    @Test
+    void matchedFeedListsRequestsForGarageCategories() {
+        String adminToken = registerAndGetToken(uniqueEmail(), "ADMIN");
+        String garageToken = registerAndGetToken(uniqueEmail(), "GARAGE");
+
+        // A random point so garages created by other tests do not interfere
+        double lat = -30 - Math.random();
+        double lng = -60 - Math.random();
+
+        var garageBody = Map.of(
+                "businessName", "Schimb Ulei Rapid",
+                "city", "Cluj-Napoca",
+                "services", List.of("oil change"),
+                "latitude", lat,
+                "longitude", lng
+        );
+        var garageResp = rest.exchange("/api/garages", HttpMethod.POST,
+                new HttpEntity<>(garageBody, bearerHeaders(garageToken)), Map.class);
+        assertEquals(HttpStatus.CREATED, garageResp.getStatusCode());
+        rest.exchange("/api/garages/" + garageResp.getBody().get("id") + "/approve", HttpMethod.PATCH,
+                new HttpEntity<>(bearerHeaders(adminToken)), Map.class);
+
+        var categoriesResp = rest.exchange("/api/service-categories", HttpMethod.GET, null,
+                new ParameterizedTypeReference<List<Map<String, Object>>>() {});
+        String towingCategoryId = categoriesResp.getBody().stream()
+                .filter(category -> "Towing".equals(category.get("name")))
+                .map(category -> category.get("id").toString())
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("Towing category not found"));
+
+        String ownerToken = registerAndGetToken(uniqueEmail(), "CAR_OWNER");
+        Map<String, Object> car = addCar(ownerToken);
+
+        var oilBody = jobRequestBody(car.get("id"));
+        oilBody.put("locationLat", lat + 0.02);
+        oilBody.put("locationLng", lng);
+        var oilResp = rest.exchange("/api/job-requests", HttpMethod.POST,
+                new HttpEntity<>(oilBody, bearerHeaders(ownerToken)), Map.class);
+        assertEquals(HttpStatus.CREATED, oilResp.getStatusCode());
+        String oilId = oilResp.getBody().get("id").toString();
+
+        var towingBody = jobRequestBody(car.get("id"));
+        towingBody.put("categoryId", towingCategoryId);
+        towingBody.put("locationLat", lat + 0.02);
+        towingBody.put("locationLng", lng);
+        var towingResp = rest.exchange("/api/job-requests", HttpMethod.POST,
+                new HttpEntity<>(towingBody, bearerHeaders(ownerToken)), Map.class);
+        String towingId = towingResp.getBody().get("id").toString();
+
+        var resp = rest.exchange("/api/job-requests/matched", HttpMethod.GET,
+                new HttpEntity<>(bearerHeaders(garageToken)),
+                new ParameterizedTypeReference<List<Map<String, Object>>>() {});
+
+        assertEquals(HttpStatus.OK, resp.getStatusCode());
+        List<Map<String, Object>> matches = resp.getBody();
+        assertEquals(1, matches.size());
+        Map<String, Object> jobRequest = (Map<String, Object>) matches.get(0).get("jobRequest");
+        assertEquals(oilId, jobRequest.get("id"));
+        assertTrue(((Number) jobRequest.get("distanceKm")).doubleValue() < 5);
+        assertTrue(((Number) matches.get(0).get("score")).doubleValue() > 0);
+        assertTrue(matches.stream().noneMatch(match -> towingId.equals(((Map<?, ?>) match.get("jobRequest")).get("id"))));
+
+        // Once the request is withdrawn it leaves the feed
+        rest.exchange("/api/job-requests/" + oilId, HttpMethod.DELETE,
+                new HttpEntity<>(bearerHeaders(ownerToken)), Void.class);
+        var afterDelete = rest.exchange("/api/job-requests/matched", HttpMethod.GET,
+                new HttpEntity<>(bearerHeaders(garageToken)),
+                new ParameterizedTypeReference<List<Map<String, Object>>>() {});
+        assertTrue(afterDelete.getBody().isEmpty());
+    }
+
+    // Test 19: Typical price range from submitted quotes
+    @Test
+    void typicalPriceRangeFromQuotes() {
+        String ownerToken = registerAndGetToken(uniqueEmail(), "CAR_OWNER");
+        Map<String, Object> car = addCar(ownerToken);
+
+        var jobResp = rest.exchange("/api/job-requests", HttpMethod.POST,
+                new HttpEntity<>(jobRequestBody(car.get("id")), bearerHeaders(ownerToken)), Map.class);
+        String jobId = jobResp.getBody().get("id").toString();
+
+        for (int price : new int[]{180, 200, 220, 240, 900}) {
+            String garageToken = registerAndGetToken(uniqueEmail(), "GARAGE");
+            createGarageProfile(garageToken);
+            var quoteResp = rest.exchange("/api/job-requests/" + jobId + "/quotes", HttpMethod.POST,
+                    new HttpEntity<>(Map.of("price", price), bearerHeaders(garageToken)), Map.class);
+            assertEquals(HttpStatus.CREATED, quoteResp.getStatusCode());
+        }
+
+        var resp = rest.exchange("/api/job-requests/" + jobId + "/price-range", HttpMethod.GET,
+                new HttpEntity<>(bearerHeaders(ownerToken)), Map.class);
+
+        assertEquals(HttpStatus.OK, resp.getStatusCode());
+        Map<String, Object> range = resp.getBody();
+        assertEquals(oilChangeCategoryId, range.get("categoryId"));
+        assertTrue(((Number) range.get("quoteCount")).longValue() >= 5);
+        double low = ((Number) range.get("low")).doubleValue();
+        double median = ((Number) range.get("median")).doubleValue();
+        double high = ((Number) range.get("high")).doubleValue();
+        assertTrue(low <= median && median <= high);
+
+        // The same cell is reachable without a request, and an unknown category has no range
+        var byCell = rest.exchange("/api/quotes/price-range?categoryId=" + oilChangeCategoryId
+                        + "&makeId=" + toyotaMakeId + "&year=2022", HttpMethod.GET,
+                new HttpEntity<>(bearerHeaders(ownerToken)), Map.class);
+        assertEquals(HttpStatus.OK, byCell.getStatusCode());
+        var unknown = rest.exchange("/api/quotes/price-range?categoryId=" + UUID.randomUUID(), HttpMethod.GET,
+                new HttpEntity<>(bearerHeaders(ownerToken)), String.class);
+        assertEquals(HttpStatus.NOT_FOUND, unknown.getStatusCode());
+    }
+
+    // Test 20: Quote count kept on the request and recounted when it drifts
+    @Test
+    void quoteCountMaintainedAndVerified() {
+        String ownerToken = registerAndGetToken(uniqueEmail(), "CAR_OWNER");
+        Map<String, Object> car = addCar(ownerToken);
+
+        var jobResp = rest.exchange("/api/job-requests", HttpMethod.POST,
+                new HttpEntity<>(jobRequestBody(car.get("id")), bearerHeaders(ownerToken)), Map.class);
+        String jobId = jobResp.getBody().get("id").toString();
+        assertEquals(0, jobResp.getBody().get("quoteCount"));
+
+        for (int price : new int[]{200, 260}) {
+            String garageToken = registerAndGetToken(uniqueEmail(), "GARAGE");
+            createGarageProfile(garageToken);
+            rest.exchange("/api/job-requests/" + jobId + "/quotes", HttpMethod.POST,
+                    new HttpEntity<>(Map.of("price", price), bearerHeaders(garageToken)), Map.class);
+        }
+        assertEquals(2, quoteCount(ownerToken, jobId));
+
+        jdbcTemplate.update("UPDATE job_requests SET quote_count = 7 WHERE id = ?", UUID.fromString(jobId));
+        assertEquals(7, quoteCount(ownerToken, jobId));
+        quoteCountVerifier.verify();
+        assertEquals(2, quoteCount(ownerToken, jobId));
+    }
+
+    private int quoteCount(String ownerToken, String jobId) {
+        var resp = rest.exchange("/api/job-requests/" + jobId, HttpMethod.GET,
+                new HttpEntity<>(bearerHeaders(ownerToken)), Map.class);
+        assertEquals(HttpStatus.OK, resp.getStatusCode());
+        return ((Number) resp.getBody().get("quoteCount")).intValue();
+    }
 }
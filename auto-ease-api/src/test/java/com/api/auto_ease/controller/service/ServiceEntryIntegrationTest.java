@@ -0,0 +1,377 @@
+package com.api.auto_ease.controller.service;
+
+import com.api.auto_ease.domain.serviceEntry.ServiceEntry;
+import com.api.auto_ease.repository.serviceEntry.ServiceEntryRepository;
+import com.api.auto_ease.service.serviceEntry.ServiceEntryQueueService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.resttestclient.TestRestTemplate;
+import org.springframework.boot.resttestclient.autoconfigure.AutoConfigureTestRestTemplate;
+import org.springframework.http.*;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureTestRestTemplate
+class ServiceEntryIntegrationTest {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    @Autowired
+    private TestRestTemplate rest;
+
+    @Autowired
+    private ServiceEntryRepository serviceEntryRepository;
+
+    @Autowired
+    private ServiceEntryQueueService serviceEntryQueueService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size}")
+    private int batchSize;
+
+    // Entries queued by a test; whatever is left open is completed afterwards so the queue is
+    // empty of test entries for the next unfiltered claim
+    private final List<Integer> queuedIds = new ArrayList<>();
+
+    private record TestUser(String token, String userId) {
+    }
+
+    @AfterEach
+    void completeLeftoverEntries() {
+        for (ServiceEntry entry : serviceEntryRepository.findAllById(queuedIds)) {
+            if (entry.getCompletedAt() == null) {
+                entry.setCompletedAt(LocalDateTime.now());
+                serviceEntryRepository.save(entry);
+            }
+        }
+    }
+
+    private static String uniqueMake() {
+        return "QueueMake-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    private ServiceEntry queued(String carMake, int priority) {
+        ServiceEntry entry = new ServiceEntry();
+        entry.setClientUuid("queue-test-owner");
+        entry.setEntryType("Repair");
+        entry.setCarMake(carMake);
+        entry.setPriority(priority);
+        entry = serviceEntryRepository.save(entry);
+        queuedIds.add(entry.getId());
+        return entry;
+    }
+
+    private ResponseEntity<Map> post(String path, String token) {
+        return rest.exchange(path, HttpMethod.POST,
+                new HttpEntity<>(bearerHeaders(token, MediaType.APPLICATION_JSON)), Map.class);
+    }
+
+    private ResponseEntity<Map> claim(String token, String carMake) {
+        return post("/api/v1/service-entries/claim" + (carMake != null ? "?carMake=" + carMake : ""), token);
+    }
+
+    private Integer claimedId(String token, String carMake) {
+        var resp = claim(token, carMake);
+        assertEquals(HttpStatus.OK, resp.getStatusCode());
+        return (Integer) resp.getBody().get("id");
+    }
+
+    private String uniqueEmail() {
+        return "se-test-" + UUID.randomUUID().toString().substring(0, 8) + "@test.com";
+    }
+
+    private TestUser register(String userType) {
+        var req = Map.of(
+                "email", uniqueEmail(),
+                "password", "pass123",
+                "fullName", "Test User",
+                "userType", userType
+        );
+        var resp = rest.postForEntity("/api/auth/register", req, Map.class);
+        assertEquals(HttpStatus.OK, resp.getStatusCode());
+        return new TestUser((String) resp.getBody().get("token"), (String) resp.getBody().get("userId"));
+    }
+
+    private HttpHeaders bearerHeaders(String token, MediaType contentType) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+        headers.setContentType(contentType);
+        return headers;
+    }
+
+    private ResponseEntity<Map> importNdjson(String token, String body) {
+        return rest.exchange("/api/v1/service-entries/import", HttpMethod.POST,
+                new HttpEntity<>(body, bearerHeaders(token, NDJSON)), Map.class);
+    }
+
+    // Test 1: NDJSON import — good lines saved across several chunks, bad lines reported by number
+    @Test
+    @SuppressWarnings("unchecked")
+    void importReportsBadLinesAcrossChunks() {
+        TestUser owner = register("CAR_OWNER");
+
+        int lines = batchSize * 2 + batchSize / 2;
+        int malformed = 2;
+        int missingType = batchSize + 1;
+        int blank = batchSize + batchSize / 2;
+        int invalidYear = lines;
+        Set<String> expectedTypes = new HashSet<>();
+        StringBuilder body = new StringBuilder();
+        for (int line = 1; line <= lines; line++) {
+            if (line == malformed) {
+                body.append("{\"entryType\":\"Line ").append(line).append('"');
+            } else if (line == missingType) {
+                body.append("{\"carMake\":\"Toyota\"}");
+            } else if (line == blank) {
+                body.append("  ");
+            } else if (line == invalidYear) {
+                body.append("{\"entryType\":\"Line ").append(line).append("\",\"carYear\":1700}");
+            } else {
+                body.append("{\"entryType\":\"Line ").append(line).append("\",\"carMake\":\"Toyota\",\"priority\":1}");
+                expectedTypes.add("Line " + line);
+            }
+            // The last line has no trailing newline
+            if (line < lines) {
+                body.append('\n');
+            }
+        }
+
+        var resp = importNdjson(owner.token(), body.toString());
+
+        assertEquals(HttpStatus.OK, resp.getStatusCode());
+        Map<String, Object> report = resp.getBody();
+        assertEquals(lines, report.get("linesRead"));
+        assertEquals(expectedTypes.size(), report.get("imported"));
+        assertEquals(3, report.get("failed"));
+        assertEquals(false, report.get("errorsTruncated"));
+
+        List<Map<String, Object>> errors = (List<Map<String, Object>>) report.get("errors");
+        assertEquals(List.of(malformed, missingType, invalidYear),
+                errors.stream().map(error -> error.get("line")).toList());
+        assertTrue(((String) errors.get(0).get("message")).startsWith("Malformed JSON: "));
+        assertTrue(((String) errors.get(1).get("message")).startsWith("entryType "));
+        assertTrue(((String) errors.get(2).get("message")).startsWith("carYear "));
+
+        List<ServiceEntry> saved = serviceEntryRepository.findByClientUuid(owner.userId());
+        assertEquals(expectedTypes, saved.stream().map(ServiceEntry::getEntryType).collect(Collectors.toSet()));
+        assertEquals(expectedTypes.size(), saved.size());
+        assertTrue(saved.stream().allMatch(entry -> entry.getCompletedAt() != null && entry.getServiceUuid() == null));
+    }
+
+    // Test 2: NDJSON import — garages cannot import service history
+    @Test
+    void importGarageRejected() {
+        TestUser garage = register("GARAGE");
+
+        var resp = rest.exchange("/api/v1/service-entries/import", HttpMethod.POST,
+                new HttpEntity<>("{\"entryType\":\"Oil change\"}\n", bearerHeaders(garage.token(), NDJSON)),
+                String.class);
+
+        assertEquals(HttpStatus.FORBIDDEN, resp.getStatusCode());
+    }
+
+    // Test 3: Work queue — a claimer skips the row another claimer holds instead of waiting for it
+    @Test
+    void concurrentClaimersGetDifferentEntries() throws Exception {
+        String make = uniqueMake();
+        ServiceEntry first = queued(make, 5);
+        ServiceEntry second = queued(make, 5);
+
+        ExecutorService otherMechanic = Executors.newSingleThreadExecutor();
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                ServiceEntry held = serviceEntryQueueService.claimNext("mechanic-a", make).orElseThrow();
+                assertEquals(first.getId(), held.getId());
+
+                // Runs in its own transaction while the first claim still holds its row lock
+                Future<Optional<ServiceEntry>> other =
+                        otherMechanic.submit(() -> serviceEntryQueueService.claimNext("mechanic-b", make));
+                try {
+                    assertEquals(second.getId(), other.get(10, TimeUnit.SECONDS).orElseThrow().getId());
+                } catch (Exception e) {
+                    throw new AssertionError("Second claim did not skip the locked entry", e);
+                }
+            });
+        } finally {
+            otherMechanic.shutdownNow();
+        }
+
+        assertEquals("mechanic-a", serviceEntryRepository.findById(first.getId()).orElseThrow().getServiceUuid());
+        assertEquals("mechanic-b", serviceEntryRepository.findById(second.getId()).orElseThrow().getServiceUuid());
+        assertTrue(serviceEntryQueueService.claimNext("mechanic-c", make).isEmpty());
+    }
+
+    // Test 4: Work queue — highest priority first within a car make, then 204 when drained
+    @Test
+    void claimByMakeHighestPriorityFirst() {
+        TestUser garage = register("GARAGE");
+        String make = uniqueMake();
+        ServiceEntry low = queued(make, 1);
+        ServiceEntry high = queued(make, 9);
+        ServiceEntry mid = queued(make, 5);
+        queued(uniqueMake(), 100);
+
+        assertEquals(high.getId(), claimedId(garage.token(), make));
+        assertEquals(mid.getId(), claimedId(garage.token(), make));
+        assertEquals(low.getId(), claimedId(garage.token(), make));
+        assertEquals(HttpStatus.NO_CONTENT, claim(garage.token(), make).getStatusCode());
+    }
+
+    // Test 5: Work queue — without a make filter the highest priority across all makes comes first
+    @Test
+    void claimWithoutMakeHighestPriorityFirst() {
+        TestUser garage = register("GARAGE");
+        ServiceEntry second = queued(uniqueMake(), Integer.MAX_VALUE - 1);
+        ServiceEntry first = queued(uniqueMake(), Integer.MAX_VALUE);
+
+        var resp = claim(garage.token(), null);
+        assertEquals(HttpStatus.OK, resp.getStatusCode());
+        assertEquals(first.getId(), resp.getBody().get("id"));
+        assertEquals(garage.userId(), resp.getBody().get("serviceUuid"));
+        assertNotNull(resp.getBody().get("leaseExpiresAt"));
+        assertEquals(second.getId(), claimedId(garage.token(), null));
+    }
+
+    // Test 6: Work queue — only the mechanic holding the lease can renew or complete it
+    @Test
+    void nonOwnerCannotRenewOrComplete() {
+        TestUser holder = register("GARAGE");
+        TestUser other = register("GARAGE");
+        String make = uniqueMake();
+        ServiceEntry entry = queued(make, 1);
+        assertEquals(entry.getId(), claimedId(holder.token(), make));
+        String base = "/api/v1/service-entries/" + entry.getId();
+        LocalDateTime leaseBefore = serviceEntryRepository.findById(entry.getId()).orElseThrow().getLeaseExpiresAt();
+
+        assertEquals(HttpStatus.CONFLICT, post(base + "/renew", other.token()).getStatusCode());
+        assertEquals(HttpStatus.CONFLICT, post(base + "/complete", other.token()).getStatusCode());
+        ServiceEntry untouched = serviceEntryRepository.findById(entry.getId()).orElseThrow();
+        assertEquals(holder.userId(), untouched.getServiceUuid());
+        assertNull(untouched.getCompletedAt());
+
+        assertEquals(HttpStatus.OK, post(base + "/renew", holder.token()).getStatusCode());
+        assertTrue(serviceEntryRepository.findById(entry.getId()).orElseThrow().getLeaseExpiresAt().isAfter(leaseBefore));
+
+        var completed = post(base + "/complete", holder.token());
+        assertEquals(HttpStatus.OK, completed.getStatusCode());
+        assertNotNull(completed.getBody().get("completedAt"));
+        assertEquals(HttpStatus.CONFLICT, post(base + "/complete", holder.token()).getStatusCode());
+        assertEquals(HttpStatus.NOT_FOUND, post("/api/v1/service-entries/" + Integer.MAX_VALUE + "/renew",
+                holder.token()).getStatusCode());
+    }
+
+    // Test 7: Work queue — an expired lease cannot be renewed and goes back on the queue
+    @Test
+    void expiredLeaseIsRequeued() {
+        TestUser holder = register("GARAGE");
+        TestUser next = register("GARAGE");
+        String make = uniqueMake();
+        ServiceEntry entry = queued(make, 1);
+        assertEquals(entry.getId(), claimedId(holder.token(), make));
+        assertEquals(HttpStatus.NO_CONTENT, claim(next.token(), make).getStatusCode());
+
+        ServiceEntry claimed = serviceEntryRepository.findById(entry.getId()).orElseThrow();
+        claimed.setLeaseExpiresAt(LocalDateTime.now().minusMinutes(1));
+        serviceEntryRepository.save(claimed);
+
+        assertEquals(HttpStatus.CONFLICT,
+                post("/api/v1/service-entries/" + entry.getId() + "/renew", holder.token()).getStatusCode());
+
+        serviceEntryQueueService.requeueExpiredLeases();
+        ServiceEntry requeued = serviceEntryRepository.findById(entry.getId()).orElseThrow();
+        assertNull(requeued.getServiceUuid());
+        assertNull(requeued.getLeaseExpiresAt());
+
+        var resp = claim(next.token(), make);
+        assertEquals(HttpStatus.OK, resp.getStatusCode());
+        assertEquals(entry.getId(), resp.getBody().get("id"));
+        assertEquals(next.userId(), resp.getBody().get("serviceUuid"));
+        assertEquals(HttpStatus.CONFLICT,
+                post("/api/v1/service-entries/" + entry.getId() + "/complete", holder.token()).getStatusCode());
+    }
+
+    // Test 8: Work queue — imported history is never offered, entries submitted by owners are
+    @Test
+    void importedEntriesAreNeverClaimable() {
+        TestUser owner = register("CAR_OWNER");
+        TestUser garage = register("GARAGE");
+        String make = uniqueMake();
+
+        var imported = importNdjson(owner.token(),
+                "{\"entryType\":\"Old repair\",\"carMake\":\"" + make + "\",\"priority\":1000}\n");
+        assertEquals(1, imported.getBody().get("imported"));
+        assertEquals(HttpStatus.NO_CONTENT, claim(garage.token(), make).getStatusCode());
+
+        var submitted = rest.exchange("/api/v1/processServiceEntry", HttpMethod.POST,
+                new HttpEntity<>(Map.of("entryType", "New repair", "carMake", make, "priority", 1),
+                        bearerHeaders(owner.token(), MediaType.APPLICATION_JSON)), Map.class);
+        assertEquals(HttpStatus.OK, submitted.getStatusCode());
+        Integer submittedId = (Integer) submitted.getBody().get("id");
+        queuedIds.add(submittedId);
+
+        assertEquals(submittedId, claimedId(garage.token(), make));
+        assertEquals(HttpStatus.NO_CONTENT, claim(garage.token(), make).getStatusCode());
+    }
+
+    // Test 9: Dispatch — a body that does not bind to the caller's payload type is a 400
+    @Test
+    void processServiceEntryMalformedBodyReturns400() {
+        TestUser owner = register("CAR_OWNER");
+        TestUser garage = register("GARAGE");
+
+        for (var call : List.of(
+                Map.entry(owner, "{\"entryType\":"),
+                Map.entry(owner, "{\"entryType\":\"Oil change\",\"carYear\":\"twenty\"}"),
+                Map.entry(garage, "{\"entryId\":\"first\"}"),
+                Map.entry(garage, "not json"))) {
+            var resp = rest.exchange("/api/v1/processServiceEntry", HttpMethod.POST,
+                    new HttpEntity<>(call.getValue(), bearerHeaders(call.getKey().token(), MediaType.APPLICATION_JSON)),
+                    String.class);
+            assertEquals(HttpStatus.BAD_REQUEST, resp.getStatusCode(), call.getValue());
+        }
+        assertTrue(serviceEntryRepository.findByClientUuid(owner.userId()).isEmpty());
+    }
+
+    // Test 10: Dispatch — the token's role picks the strategy, and the caller's uuid beats the body's
+    @Test
+    void processServiceEntryDispatchesByRole() {
+        TestUser owner = register("CAR_OWNER");
+        TestUser garage = register("GARAGE");
+        String make = uniqueMake();
+
+        var submitted = rest.exchange("/api/v1/processServiceEntry", HttpMethod.POST,
+                new HttpEntity<>(Map.of("entryType", "Brakes", "carMake", make, "clientUuid", "someone-else"),
+                        bearerHeaders(owner.token(), MediaType.APPLICATION_JSON)),
+                Map.class);
+        assertEquals(HttpStatus.OK, submitted.getStatusCode());
+        Integer entryId = (Integer) submitted.getBody().get("id");
+        queuedIds.add(entryId);
+        assertEquals(owner.userId(), submitted.getBody().get("clientUuid"));
+        assertEquals("Brakes", submitted.getBody().get("entryType"));
+
+        var claimed = rest.exchange("/api/v1/processServiceEntry", HttpMethod.POST,
+                new HttpEntity<>(Map.of("entryId", entryId, "serviceUuid", "someone-else"),
+                        bearerHeaders(garage.token(), MediaType.APPLICATION_JSON)),
+                Map.class);
+        assertEquals(HttpStatus.OK, claimed.getStatusCode());
+        assertEquals(entryId, claimed.getBody().get("id"));
+        assertEquals(garage.userId(), claimed.getBody().get("serviceUuid"));
+        assertEquals(garage.userId(), serviceEntryRepository.findById(entryId).orElseThrow().getServiceUuid());
+    }
+}
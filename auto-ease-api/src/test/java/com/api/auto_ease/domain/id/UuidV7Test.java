@@ -0,0 +1,55 @@
+package com.api.auto_ease.domain.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UuidV7Test {
+
+    @Test
+    void hasVersionSevenAndRfcVariant() {
+        UUID uuid = UuidV7.generate();
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+    }
+
+    @Test
+    void embedsCurrentTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID uuid = UuidV7.generate();
+        long after = System.currentTimeMillis();
+
+        long timestamp = UuidV7.timestampMillis(uuid);
+        assertTrue(timestamp >= before, "timestamp should not precede generation");
+        // Counter overflow may borrow a few milliseconds from the future under heavy bursts.
+        assertTrue(timestamp <= after + 1_000, "timestamp should track the wall clock");
+    }
+
+    @Test
+    void isStrictlyIncreasingInBursts() {
+        UUID previous = UuidV7.generate();
+        Set<UUID> seen = new HashSet<>();
+        for (int i = 0; i < 100_000; i++) {
+            UUID next = UuidV7.generate();
+            assertTrue(compareUnsigned(previous, next) < 0, "ids must sort in generation order");
+            assertTrue(seen.add(next));
+            previous = next;
+        }
+    }
+
+    @Test
+    void rejectsRandomUuids() {
+        assertThrows(IllegalArgumentException.class, () -> UuidV7.timestampMillis(UUID.randomUUID()));
+    }
+
+    // PostgreSQL compares uuid values byte-wise, i.e. as unsigned 128-bit integers.
+    private static int compareUnsigned(UUID a, UUID b) {
+        int msb = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return msb != 0 ? msb : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+}
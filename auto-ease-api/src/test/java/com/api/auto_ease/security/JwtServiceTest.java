@@ -63,4 +63,24 @@ class JwtServiceTest {
         String token = shortLived.generateToken("uuid", "e@e.com", AppUserType.GARAGE);
         assertFalse(jwtService.isValid(token));
     }
+
+    @Test
+    void garageIdClaimCarriedIntoPrincipal() {
+        UUID garageId = UUID.randomUUID();
+        String token = jwtService.generateToken("uuid", "e@e.com", AppUserType.GARAGE, garageId);
+
+        AuthenticatedUser principal = jwtService.toPrincipal(jwtService.validateToken(token));
+        assertEquals("uuid", principal.getName());
+        assertEquals(AppUserType.GARAGE, principal.role());
+        assertEquals(garageId, principal.garageId());
+    }
+
+    @Test
+    void principalWithoutGarageHasNoGarageId() {
+        String token = jwtService.generateToken("uuid", "e@e.com", AppUserType.GARAGE);
+
+        Claims claims = jwtService.validateToken(token);
+        assertFalse(claims.containsKey("garageId"));
+        assertNull(jwtService.toPrincipal(claims).garageId());
+    }
 }
@@ -0,0 +1,94 @@
+package com.api.auto_ease.service.export;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Measures the writer side of the marketplace export: one quote-shaped row per operation
+ * through the same buffered, optionally gzipped {@link CsvWriter} chain the export uses, into
+ * a discarding stream. The score is rows per second; an export cannot beat it whatever the
+ * database delivers.
+ * <p>
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.api.auto_ease.service.export.CsvExportBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CsvExportBenchmark {
+
+    private static final int ROWS = 1024;
+
+    @Param({"false", "true"})
+    public boolean gzip;
+
+    private String[][] rows;
+    private CsvWriter csv;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        rows = new String[ROWS][];
+        for (int i = 0; i < ROWS; i++) {
+            rows[i] = new String[]{
+                    UUID.randomUUID().toString(), UUID.randomUUID().toString(), UUID.randomUUID().toString(),
+                    (100 + i % 900) + ".50", "2-3 hours",
+                    i % 10 == 0 ? "Pads, discs and \"premium\" fluid" : "Full service with filter change",
+                    i % 3 == 0 ? null : "12 months", "PENDING", null,
+                    "2025-03-20 10:00:00.123456+02", "2025-03-20 10:00:00.123456+02"};
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void openWriter() throws IOException {
+        OutputStream sink = OutputStream.nullOutputStream();
+        OutputStream target = gzip ? new GZIPOutputStream(sink, 64 * 1024) : sink;
+        csv = new CsvWriter(new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), 64 * 1024));
+    }
+
+    @TearDown(Level.Iteration)
+    public void closeWriter() throws IOException {
+        csv.close();
+    }
+
+    @Benchmark
+    public void writeRow() throws IOException {
+        String[] row = rows[next++ & (ROWS - 1)];
+        for (int i = 0; i < row.length; i++) {
+            csv.field(row[i], i == 4 || i == 5 || i == 6 || i == 7);
+        }
+        csv.endRow();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CsvExportBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
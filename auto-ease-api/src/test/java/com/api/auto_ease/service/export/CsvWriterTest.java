@@ -0,0 +1,43 @@
+package com.api.auto_ease.service.export;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvWriterTest {
+
+    private static String write(String[][] rows, boolean text) throws IOException {
+        StringWriter out = new StringWriter();
+        try (CsvWriter csv = new CsvWriter(out)) {
+            for (String[] row : rows) {
+                for (String value : row) {
+                    csv.field(value, text);
+                }
+                csv.endRow();
+            }
+        }
+        return out.toString();
+    }
+
+    @Test
+    void writesPlainFieldsAndNulls() throws IOException {
+        assertEquals("id,price,notes\r\n1,250.00,\r\n",
+                write(new String[][]{{"id", "price", "notes"}, {"1", "250.00", null}}, false));
+    }
+
+    @Test
+    void quotesFieldsWithSeparatorsQuotesAndLineBreaks() throws IOException {
+        assertEquals("\"Brakes, front\",\"He said \"\"soon\"\"\",\"two\nlines\",plain\r\n",
+                write(new String[][]{{"Brakes, front", "He said \"soon\"", "two\nlines", "plain"}}, true));
+    }
+
+    @Test
+    void guardsFormulasInTextFieldsOnly() throws IOException {
+        assertEquals("'=SUM(A1:A9),'@cmd,\"'-1,2\"\r\n",
+                write(new String[][]{{"=SUM(A1:A9)", "@cmd", "-1,2"}}, true));
+        assertEquals("-12.50\r\n", write(new String[][]{{"-12.50"}}, false));
+    }
+}
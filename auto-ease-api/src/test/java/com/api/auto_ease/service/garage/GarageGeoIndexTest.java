@@ -0,0 +1,121 @@
+package com.api.auto_ease.service.garage;
+
+import com.api.auto_ease.domain.garage.Garage;
+import com.api.auto_ease.dto.garage.NearbyGarageResponse;
+import com.api.auto_ease.service.geo.GeoDistance;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GarageGeoIndexTest {
+
+    private GarageGeoIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new GarageGeoIndex(null);
+    }
+
+    private Garage garage(double lat, double lng, boolean approved) {
+        Garage garage = new Garage();
+        garage.setId(UUID.randomUUID());
+        garage.setUserId(UUID.randomUUID().toString());
+        garage.setBusinessName("Garage");
+        garage.setIsApproved(approved);
+        garage.setLatitude(lat);
+        garage.setLongitude(lng);
+        garage.setModifiedDate(LocalDateTime.now());
+        return garage;
+    }
+
+    @Test
+    void matchesBruteForceSearch() {
+        Random random = new Random(42);
+        List<Garage> garages = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            Garage garage = garage(43.5 + random.nextDouble() * 5, 20 + random.nextDouble() * 10, true);
+            garages.add(garage);
+            index.upsert(garage);
+        }
+
+        for (int q = 0; q < 50; q++) {
+            double lat = 43.5 + random.nextDouble() * 5;
+            double lng = 20 + random.nextDouble() * 10;
+            double radius = 5 + random.nextDouble() * 45;
+
+            List<UUID> expected = garages.stream()
+                    .filter(g -> GeoDistance.haversineKm(lat, lng, g.getLatitude(), g.getLongitude()) <= radius)
+                    .sorted(Comparator.comparingDouble(g -> GeoDistance.haversineKm(lat, lng, g.getLatitude(), g.getLongitude())))
+                    .limit(25)
+                    .map(Garage::getId)
+                    .toList();
+
+            List<UUID> actual = index.findNearest(lat, lng, radius, 25).stream()
+                    .map(result -> result.getGarage().getId())
+                    .toList();
+
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    void skipsUnapprovedAndGaragesWithoutCoordinates() {
+        index.upsert(garage(46.77, 23.59, false));
+        Garage noCoordinates = garage(46.77, 23.59, true);
+        noCoordinates.setLatitude(null);
+        index.upsert(noCoordinates);
+
+        assertEquals(0, index.size());
+        assertTrue(index.findNearest(46.77, 23.59, 10, 10).isEmpty());
+    }
+
+    @Test
+    void movingGarageUpdatesItsCell() {
+        Garage garage = garage(46.77, 23.59, true);
+        index.upsert(garage);
+
+        garage.setLatitude(44.43);
+        garage.setLongitude(26.10);
+        garage.setModifiedDate(garage.getModifiedDate().plusSeconds(1));
+        index.upsert(garage);
+
+        assertTrue(index.findNearest(46.77, 23.59, 10, 10).isEmpty());
+        List<NearbyGarageResponse> results = index.findNearest(44.43, 26.10, 10, 10);
+        assertEquals(1, results.size());
+        assertEquals(garage.getId(), results.get(0).getGarage().getId());
+    }
+
+    @Test
+    void ignoresStaleUpdates() {
+        Garage garage = garage(46.77, 23.59, true);
+        index.upsert(garage);
+
+        Garage stale = garage(44.43, 26.10, true);
+        stale.setId(garage.getId());
+        stale.setModifiedDate(garage.getModifiedDate().minusMinutes(1));
+        index.upsert(stale);
+
+        assertEquals(1, index.findNearest(46.77, 23.59, 10, 10).size());
+    }
+
+    @Test
+    void findsGaragesAcrossTheAntimeridian() {
+        Garage east = garage(-17.0, 179.95, true);
+        Garage west = garage(-17.0, -179.95, true);
+        index.upsert(east);
+        index.upsert(west);
+
+        List<NearbyGarageResponse> results = index.findNearest(-17.0, 179.99, 20, 10);
+
+        assertEquals(2, results.size());
+        assertEquals(east.getId(), results.get(0).getGarage().getId());
+    }
+}
@@ -0,0 +1,163 @@
+package com.api.auto_ease.service.garage;
+
+import com.api.auto_ease.domain.garage.Garage;
+import com.api.auto_ease.domain.serviceCategory.ServiceCategory;
+import com.api.auto_ease.service.geo.GeoDistance;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GarageMatchIndexTest {
+
+    private static final UUID OIL_CHANGE = UUID.randomUUID();
+    private static final UUID BRAKES = UUID.randomUUID();
+    private static final UUID AC_HEATING = UUID.randomUUID();
+
+    private GarageMatchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new GarageMatchIndex(null, null);
+        index.setCategories(List.of(
+                category(OIL_CHANGE, "Oil Change"),
+                category(BRAKES, "Brake Service"),
+                category(AC_HEATING, "AC / Heating")));
+    }
+
+    private static ServiceCategory category(UUID id, String name) {
+        ServiceCategory category = new ServiceCategory();
+        category.setId(id);
+        category.setName(name);
+        return category;
+    }
+
+    private Garage garage(Double lat, Double lng, String... services) {
+        Garage garage = new Garage();
+        garage.setId(UUID.randomUUID());
+        garage.setUserId(UUID.randomUUID().toString());
+        garage.setBusinessName("Garage");
+        garage.setServices(services);
+        garage.setLatitude(lat);
+        garage.setLongitude(lng);
+        garage.setIsApproved(true);
+        garage.setAverageRating(BigDecimal.ZERO);
+        garage.setTotalReviews(0);
+        garage.setModifiedDate(LocalDateTime.now());
+        return garage;
+    }
+
+    private List<UUID> ids(List<GarageMatchIndex.Match> matches) {
+        return matches.stream().map(GarageMatchIndex.Match::garageId).toList();
+    }
+
+    @Test
+    void specialistsRankAboveGeneralists() {
+        Garage brakes = garage(45.0, 25.0, "brake-service", "Detailing");
+        Garage acNearby = garage(45.0, 25.0, "ac/heating");
+        Garage generalist = garage(45.0, 25.0, "Detailing");
+        index.upsert(brakes);
+        index.upsert(acNearby);
+        index.upsert(generalist);
+
+        assertEquals(List.of(brakes.getId(), generalist.getId()), ids(index.match(BRAKES, 45.0, 25.0, 10)));
+        assertEquals(List.of(acNearby.getId(), generalist.getId()), ids(index.match(AC_HEATING, 45.0, 25.0, 10)));
+        // Without a category every garage is a candidate
+        assertEquals(3, index.match(null, 45.0, 25.0, 10).size());
+    }
+
+    @Test
+    void closerAndBetterRatedGaragesWin() {
+        Garage near = garage(45.0, 25.0, "Oil Change");
+        Garage far = garage(45.3, 25.0, "Oil Change");
+        Garage tooFar = garage(47.0, 25.0, "Oil Change");
+        Garage unplaced = garage(null, null, "Oil Change");
+        index.upsert(near);
+        index.upsert(far);
+        index.upsert(tooFar);
+        index.upsert(unplaced);
+
+        List<GarageMatchIndex.Match> matches = index.match(OIL_CHANGE, 45.0, 25.0, 10);
+        assertEquals(List.of(near.getId(), far.getId(), unplaced.getId()), ids(matches));
+        assertEquals(0, matches.get(0).distanceKm(), 1e-9);
+        assertNull(matches.get(2).distanceKm());
+
+        Garage rated = garage(45.3, 25.0, "Oil Change");
+        rated.setAverageRating(new BigDecimal("5.00"));
+        rated.setTotalReviews(200);
+        index.upsert(rated);
+        assertEquals(List.of(near.getId(), rated.getId(), far.getId()), ids(index.match(OIL_CHANGE, 45.0, 25.0, 3)));
+
+        // A job without coordinates only ranks on category and rating
+        assertEquals(5, index.match(OIL_CHANGE, null, null, 10).size());
+    }
+
+    @Test
+    void followsApprovalAndServiceChanges() {
+        Garage garage = garage(45.0, 25.0, "Oil Change");
+        index.upsert(garage);
+        assertEquals(List.of(garage.getId()), ids(index.match(OIL_CHANGE, 45.0, 25.0, 10)));
+
+        Garage moved = garage(45.0, 25.0, "Brake Service");
+        moved.setId(garage.getId());
+        moved.setModifiedDate(garage.getModifiedDate().plusMinutes(1));
+        index.upsert(moved);
+        assertTrue(index.match(OIL_CHANGE, 45.0, 25.0, 10).isEmpty());
+        assertEquals(List.of(garage.getId()), ids(index.match(BRAKES, 45.0, 25.0, 10)));
+
+        // An event that arrives late does not roll the entry back
+        index.upsert(garage);
+        assertTrue(index.match(OIL_CHANGE, 45.0, 25.0, 10).isEmpty());
+
+        moved.setIsApproved(false);
+        moved.setModifiedDate(moved.getModifiedDate().plusMinutes(1));
+        index.upsert(moved);
+        assertEquals(0, index.size());
+        assertTrue(index.match(BRAKES, 45.0, 25.0, 10).isEmpty());
+    }
+
+    @Test
+    void matchesBruteForceRanking() {
+        Random random = new Random(11);
+        String[][] offerings = {{"Oil Change"}, {"Brake Service"}, {"Oil Change", "Brake Service"}, {"Tuning"}};
+        List<Garage> garages = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            Garage garage = garage(44 + random.nextDouble() * 3, 23 + random.nextDouble() * 4,
+                    offerings[random.nextInt(offerings.length)]);
+            garage.setAverageRating(BigDecimal.valueOf(random.nextInt(500), 2));
+            garage.setTotalReviews(random.nextInt(50));
+            garages.add(garage);
+            index.upsert(garage);
+        }
+
+        for (int q = 0; q < 50; q++) {
+            double lat = 44 + random.nextDouble() * 3;
+            double lng = 23 + random.nextDouble() * 4;
+
+            List<UUID> expected = garages.stream()
+                    .filter(g -> GeoDistance.haversineKm(lat, lng, g.getLatitude(), g.getLongitude()) <= GarageMatchIndex.MAX_DISTANCE_KM)
+                    .filter(g -> List.of(g.getServices()).contains("Oil Change") || !List.of(g.getServices()).contains("Brake Service"))
+                    .sorted(Comparator.comparingDouble((Garage g) -> expectedScore(g, lat, lng)).reversed())
+                    .limit(20)
+                    .map(Garage::getId)
+                    .toList();
+
+            assertEquals(expected, ids(index.match(OIL_CHANGE, lat, lng, 20)));
+        }
+    }
+
+    private static double expectedScore(Garage garage, double lat, double lng) {
+        double weight = List.of(garage.getServices()).contains("Oil Change") ? 1 : 0.5;
+        double distance = GeoDistance.haversineKm(lat, lng, garage.getLatitude(), garage.getLongitude());
+        return weight * (1 / (1 + distance / 15))
+                * GarageSearchIndex.ratingFactor(garage.getAverageRating(), garage.getTotalReviews());
+    }
+}
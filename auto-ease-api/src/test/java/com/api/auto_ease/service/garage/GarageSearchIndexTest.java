@@ -0,0 +1,127 @@
+package com.api.auto_ease.service.garage;
+
+import com.api.auto_ease.domain.garage.Garage;
+import com.api.auto_ease.dto.garage.GarageSearchHit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GarageSearchIndexTest {
+
+    private GarageSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new GarageSearchIndex(null);
+    }
+
+    private Garage garage(String name, String city, String description, String... services) {
+        Garage garage = new Garage();
+        garage.setId(UUID.randomUUID());
+        garage.setUserId(UUID.randomUUID().toString());
+        garage.setBusinessName(name);
+        garage.setCity(city);
+        garage.setDescription(description);
+        garage.setServices(services);
+        garage.setIsApproved(true);
+        garage.setAverageRating(BigDecimal.ZERO);
+        garage.setTotalReviews(0);
+        garage.setModifiedDate(LocalDateTime.now());
+        return garage;
+    }
+
+    private List<UUID> ids(List<GarageSearchHit> hits) {
+        return hits.stream().map(hit -> hit.getGarage().getId()).toList();
+    }
+
+    @Test
+    void foldsDiacriticsAndCase() {
+        assertEquals(List.of("frane", "si", "directie", "brasov"), GarageSearchIndex.tokenize("Frâne și Direcție, BRAȘOV"));
+    }
+
+    @Test
+    void matchesPrefixesAndRequiresEveryTerm() {
+        Garage brakes = garage("Service Frâne Rapid", "Brașov", "Reparații sisteme de frânare", "Brake Service");
+        Garage tyres = garage("Vulcanizare Nord", "Brașov", "Schimb anvelope", "Tyre Change");
+        Garage cluj = garage("Frâne Cluj", "Cluj-Napoca", null, "Brake Service");
+        index.upsert(brakes);
+        index.upsert(tyres);
+        index.upsert(cluj);
+
+        assertEquals(List.of(brakes.getId()), ids(index.search("fran brasov", 10)));
+        assertEquals(2, index.search("brak", 10).size());
+        assertTrue(index.search("brake munich", 10).isEmpty());
+        assertTrue(index.search("  ,, ", 10).isEmpty());
+    }
+
+    @Test
+    void nameMatchOutranksDescriptionMatch() {
+        Garage named = garage("Diesel Expert", "Iași", "Service auto");
+        Garage described = garage("Auto Moldova", "Iași", "Reparăm motoare diesel și benzină");
+        index.upsert(described);
+        index.upsert(named);
+
+        assertEquals(List.of(named.getId(), described.getId()), ids(index.search("diesel", 10)));
+    }
+
+    @Test
+    void ratingBreaksTiesWithAPrior() {
+        Garage unrated = garage("Auto Center", "Sibiu", null);
+        Garage oneReview = garage("Auto Center", "Sibiu", null);
+        oneReview.setAverageRating(new BigDecimal("5.00"));
+        oneReview.setTotalReviews(1);
+        Garage established = garage("Auto Center", "Sibiu", null);
+        established.setAverageRating(new BigDecimal("4.80"));
+        established.setTotalReviews(120);
+        index.upsert(unrated);
+        index.upsert(oneReview);
+        index.upsert(established);
+
+        assertEquals(List.of(established.getId(), oneReview.getId(), unrated.getId()),
+                ids(index.search("auto center", 10)));
+    }
+
+    @Test
+    void updatesReplacePostingsAndIgnoreStaleVersions() {
+        Garage garage = garage("Turbo Garage", "Oradea", null);
+        index.upsert(garage);
+
+        Garage renamed = garage("Nitro Garage", "Oradea", null);
+        renamed.setId(garage.getId());
+        renamed.setModifiedDate(garage.getModifiedDate().plusMinutes(1));
+        index.upsert(renamed);
+        assertTrue(index.search("turbo", 10).isEmpty());
+        assertEquals(List.of(garage.getId()), ids(index.search("nitro", 10)));
+
+        // An event for the older version arriving late must not bring the old name back
+        index.upsert(garage);
+        assertTrue(index.search("turbo", 10).isEmpty());
+
+        Garage unapproved = garage("Nitro Garage", "Oradea", null);
+        unapproved.setId(garage.getId());
+        unapproved.setIsApproved(false);
+        unapproved.setModifiedDate(renamed.getModifiedDate().plusMinutes(1));
+        index.upsert(unapproved);
+        assertEquals(0, index.size());
+        assertEquals(0, index.termCount());
+    }
+
+    @Test
+    void keepsOnlyTheBestHits() {
+        for (int i = 0; i < 200; i++) {
+            index.upsert(garage("Garage " + i, "Timișoara", null));
+        }
+
+        List<GarageSearchHit> hits = index.search("timis", 15);
+        assertEquals(15, hits.size());
+        for (int i = 1; i < hits.size(); i++) {
+            assertTrue(hits.get(i - 1).getScore() >= hits.get(i).getScore());
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.api.auto_ease.service.jobrequest;
+
+import com.api.auto_ease.domain.jobrequest.Urgency;
+import com.api.auto_ease.dto.jobrequest.JobRequestResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OpenJobRequestIndexTest {
+
+    private static final UUID OIL_CHANGE = UUID.randomUUID();
+    private static final UUID BRAKES = UUID.randomUUID();
+    private static final LocalDateTime NOW = LocalDateTime.now();
+
+    private OpenJobRequestIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new OpenJobRequestIndex();
+    }
+
+    private OpenJobRequestIndex.Entry entry(UUID categoryId, Urgency urgency, String city, BigDecimal budgetMax, int minutesAgo) {
+        UUID id = UUID.randomUUID();
+        LocalDateTime created = NOW.minusMinutes(minutesAgo);
+        return new OpenJobRequestIndex.Entry(id, categoryId, categoryId == OIL_CHANGE ? "Oil Change" : "Brake Service",
+                urgency, city, "Cluj", null, budgetMax, null, null, null, created, created,
+                JobRequestResponse.builder().id(id).build());
+    }
+
+    private List<UUID> ids(OpenJobRequestIndex.Result result) {
+        return result.entries().stream().map(OpenJobRequestIndex.Entry::id).toList();
+    }
+
+    @Test
+    void notReadyUntilLoaded() {
+        assertFalse(index.isReady());
+        index.load(List.of());
+        assertTrue(index.isReady());
+    }
+
+    @Test
+    void filtersByIntersectingBitsetsNewestFirst() {
+        var oldOil = entry(OIL_CHANGE, Urgency.NORMAL, "Cluj-Napoca", null, 30);
+        var newOil = entry(OIL_CHANGE, Urgency.NORMAL, "cluj-napoca", null, 5);
+        var urgentOil = entry(OIL_CHANGE, Urgency.HIGH, "Cluj-Napoca", null, 10);
+        var brakes = entry(BRAKES, Urgency.NORMAL, "Turda", null, 1);
+        index.load(List.of(oldOil, newOil, urgentOil, brakes));
+
+        var result = index.search(new OpenJobRequestIndex.Query(OIL_CHANGE, Urgency.NORMAL, "CLUJ-NAPOCA", null, null), false);
+
+        assertEquals(List.of(newOil.id(), oldOil.id()), ids(result));
+    }
+
+    @Test
+    void unknownFilterValueMatchesNothing() {
+        index.load(List.of(entry(OIL_CHANGE, Urgency.NORMAL, "Cluj-Napoca", null, 1)));
+
+        assertTrue(index.search(new OpenJobRequestIndex.Query(null, null, "Iasi", null, null), false).entries().isEmpty());
+        assertTrue(index.search(new OpenJobRequestIndex.Query(BRAKES, null, null, null, null), false).entries().isEmpty());
+    }
+
+    @Test
+    void facetsIgnoreTheirOwnFilter() {
+        index.load(List.of(
+                entry(OIL_CHANGE, Urgency.NORMAL, "Cluj-Napoca", null, 1),
+                entry(OIL_CHANGE, Urgency.HIGH, "Cluj-Napoca", null, 2),
+                entry(BRAKES, Urgency.HIGH, "Cluj-Napoca", null, 3)));
+
+        var result = index.search(new OpenJobRequestIndex.Query(OIL_CHANGE, Urgency.HIGH, null, null, null), true);
+
+        assertEquals(1, result.entries().size());
+        assertEquals(1L, result.categoryCounts().get(OIL_CHANGE));
+        assertEquals(1L, result.categoryCounts().get(BRAKES));
+        assertEquals("Brake Service", result.categoryNames().get(BRAKES));
+        assertEquals(1L, result.urgencyCounts().get(Urgency.NORMAL));
+        assertEquals(1L, result.urgencyCounts().get(Urgency.HIGH));
+    }
+
+    @Test
+    void residualPredicateAppliesToResultsAndFacets() {
+        index.load(List.of(
+                entry(OIL_CHANGE, Urgency.NORMAL, "Cluj-Napoca", new BigDecimal("100"), 1),
+                entry(OIL_CHANGE, Urgency.NORMAL, "Cluj-Napoca", new BigDecimal("900"), 2)));
+
+        var result = index.search(new OpenJobRequestIndex.Query(null, null, null, null,
+                e -> e.budgetMax().compareTo(new BigDecimal("500")) >= 0), true);
+
+        assertEquals(1, result.entries().size());
+        assertEquals(1L, result.categoryCounts().get(OIL_CHANGE));
+    }
+
+    @Test
+    void putReplacesAndRemoveFreesSlot() {
+        var entry = entry(OIL_CHANGE, Urgency.NORMAL, "Cluj-Napoca", null, 1);
+        index.load(List.of(entry));
+
+        var moved = new OpenJobRequestIndex.Entry(entry.id(), BRAKES, "Brake Service", Urgency.HIGH, "Turda", "Cluj",
+                null, null, null, null, null, entry.createdDate(), NOW, entry.response());
+        index.put(moved);
+
+        assertEquals(1, index.size());
+        assertTrue(index.search(new OpenJobRequestIndex.Query(OIL_CHANGE, null, null, null, null), false).entries().isEmpty());
+        assertEquals(List.of(entry.id()), ids(index.search(new OpenJobRequestIndex.Query(BRAKES, null, "Turda", null, null), false)));
+
+        index.remove(entry.id());
+        assertEquals(0, index.size());
+
+        var next = entry(OIL_CHANGE, Urgency.LOW, "Cluj-Napoca", null, 1);
+        index.put(next);
+        assertEquals(List.of(next.id()), ids(index.search(new OpenJobRequestIndex.Query(null, Urgency.LOW, null, null, null), false)));
+    }
+
+    private static OpenJobRequestIndex.Entry withVersion(OpenJobRequestIndex.Entry entry, Urgency urgency,
+                                                         LocalDateTime modifiedDate) {
+        return new OpenJobRequestIndex.Entry(entry.id(), entry.categoryId(), entry.categoryName(), urgency,
+                entry.city(), entry.state(), entry.budgetMin(), entry.budgetMax(), entry.preferredDate(),
+                entry.lat(), entry.lng(), entry.createdDate(), modifiedDate, entry.response());
+    }
+
+    @Test
+    void putIgnoresOlderCopies() {
+        var entry = entry(OIL_CHANGE, Urgency.NORMAL, "Cluj-Napoca", null, 10);
+        index.load(List.of(entry));
+
+        // Two refreshes finishing in the wrong order: the newer one must stay
+        index.put(withVersion(entry, Urgency.HIGH, NOW));
+        index.put(withVersion(entry, Urgency.LOW, NOW.minusMinutes(5)));
+
+        assertEquals(1, index.size());
+        assertEquals(NOW, index.versions().get(entry.id()));
+        assertEquals(List.of(entry.id()), ids(index.search(new OpenJobRequestIndex.Query(null, Urgency.HIGH, null, null, null), false)));
+        assertTrue(index.search(new OpenJobRequestIndex.Query(null, Urgency.LOW, null, null, null), false).entries().isEmpty());
+    }
+
+    @Test
+    void loadKeepsEntriesPutWhileTheSnapshotWasRead() {
+        var changed = entry(OIL_CHANGE, Urgency.NORMAL, "Cluj-Napoca", null, 30);
+        var created = entry(BRAKES, Urgency.HIGH, "Turda", null, 1);
+        var untouched = entry(OIL_CHANGE, Urgency.LOW, "Cluj-Napoca", null, 20);
+        var staleInIndex = entry(BRAKES, Urgency.NORMAL, "Turda", null, 40);
+
+        // Events applied before the startup snapshot lands
+        index.put(withVersion(changed, Urgency.HIGH, NOW));
+        index.put(created);
+        index.put(staleInIndex);
+        assertFalse(index.isReady());
+
+        index.load(List.of(changed, untouched, withVersion(staleInIndex, Urgency.LOW, NOW)));
+
+        assertTrue(index.isReady());
+        assertEquals(4, index.size());
+        assertEquals(NOW, index.versions().get(changed.id()));
+        assertEquals(NOW, index.versions().get(staleInIndex.id()));
+        assertEquals(List.of(created.id(), changed.id()),
+                ids(index.search(new OpenJobRequestIndex.Query(null, Urgency.HIGH, null, null, null), false)));
+        assertEquals(List.of(untouched.id(), staleInIndex.id()),
+                ids(index.search(new OpenJobRequestIndex.Query(null, Urgency.LOW, null, null, null), false)));
+    }
+}
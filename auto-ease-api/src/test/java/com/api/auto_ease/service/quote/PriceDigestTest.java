@@ -0,0 +1,97 @@
+package com.api.auto_ease.service.quote;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PriceDigestTest {
+
+    private static double rankOf(double[] sorted, double value) {
+        int index = Arrays.binarySearch(sorted, value);
+        return (index >= 0 ? index : -index - 1) / (double) sorted.length;
+    }
+
+    @Test
+    void emptyAndSingleValue() {
+        PriceDigest digest = new PriceDigest();
+        assertTrue(Double.isNaN(digest.quantile(0.5)));
+        assertEquals(0, digest.count());
+
+        digest.add(250);
+        assertEquals(250, digest.quantile(0.25), 0);
+        assertEquals(250, digest.quantile(0.75), 0);
+        assertEquals(1, digest.count());
+    }
+
+    @Test
+    void quartilesStayCloseInRank() {
+        Random random = new Random(3);
+        int n = 100_000;
+        double[] values = new double[n];
+        PriceDigest digest = new PriceDigest();
+        for (int i = 0; i < n; i++) {
+            // Skewed like real prices: most quotes small, a long tail of large jobs
+            values[i] = Math.round(Math.exp(5 + random.nextGaussian()) * 100) / 100.0;
+            digest.add(values[i]);
+        }
+        Arrays.sort(values);
+
+        for (double q : new double[]{0.01, 0.1, 0.25, 0.5, 0.75, 0.9, 0.99}) {
+            assertEquals(q, rankOf(values, digest.quantile(q)), 0.01, "q=" + q);
+        }
+        assertEquals(values[0], digest.quantile(0), 0);
+        assertEquals(values[n - 1], digest.quantile(1), 0);
+        assertTrue(digest.centroidCount() <= PriceDigest.DEFAULT_COMPRESSION + 1);
+    }
+
+    @Test
+    void mergedDigestsMatchOneDigest() {
+        Random random = new Random(5);
+        PriceDigest whole = new PriceDigest();
+        PriceDigest merged = new PriceDigest();
+        double[] values = new double[20_000];
+        for (int part = 0; part < 4; part++) {
+            PriceDigest digest = new PriceDigest();
+            for (int i = 0; i < 5_000; i++) {
+                double value = 100 + part * 50 + random.nextDouble() * 400;
+                values[part * 5_000 + i] = value;
+                digest.add(value);
+                whole.add(value);
+            }
+            merged.merge(digest);
+        }
+        Arrays.sort(values);
+
+        assertEquals(whole.count(), merged.count());
+        for (double q : new double[]{0.25, 0.5, 0.75}) {
+            assertEquals(q, rankOf(values, merged.quantile(q)), 0.01, "q=" + q);
+        }
+    }
+
+    @Test
+    void roundTripsThroughBytes() {
+        PriceDigest digest = new PriceDigest();
+        for (int i = 1; i <= 1_000; i++) {
+            digest.add(i);
+        }
+
+        PriceDigest copy = PriceDigest.fromBytes(digest.toBytes());
+
+        assertEquals(digest.count(), copy.count());
+        assertEquals(digest.quantile(0.25), copy.quantile(0.25), 0);
+        assertEquals(digest.quantile(0.75), copy.quantile(0.75), 0);
+        copy.add(5_000);
+        assertEquals(5_000, copy.quantile(1), 0);
+    }
+
+    @Test
+    void rejectsBadInput() {
+        PriceDigest digest = new PriceDigest();
+        assertThrows(IllegalArgumentException.class, () -> digest.add(Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> digest.quantile(1.5));
+        assertThrows(IllegalArgumentException.class, () -> PriceDigest.fromBytes(new byte[]{9}));
+    }
+}
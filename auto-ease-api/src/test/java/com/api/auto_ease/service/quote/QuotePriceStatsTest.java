@@ -0,0 +1,84 @@
+package com.api.auto_ease.service.quote;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QuotePriceStatsTest {
+
+    private static final UUID BRAKES = UUID.randomUUID();
+    private static final UUID TOYOTA = UUID.randomUUID();
+    private static final UUID FORD = UUID.randomUUID();
+
+    private QuotePriceStats stats;
+
+    @BeforeEach
+    void setUp() {
+        stats = new QuotePriceStats(null, null);
+    }
+
+    private void quote(UUID makeId, Integer year, int price) {
+        stats.record(BRAKES, makeId, year, BigDecimal.valueOf(price), LocalDateTime.now(), false);
+    }
+
+    @Test
+    void needsEnoughQuotesForARange() {
+        for (int i = 0; i < QuotePriceStats.MIN_QUOTES - 1; i++) {
+            quote(TOYOTA, 2021, 300);
+        }
+        assertNull(stats.typicalRange(BRAKES, TOYOTA, 2021));
+
+        quote(TOYOTA, 2021, 300);
+        QuotePriceStats.PriceRange range = stats.typicalRange(BRAKES, TOYOTA, 2021);
+        assertEquals(QuotePriceStats.MIN_QUOTES, range.quoteCount());
+        assertEquals(2020, range.yearFrom());
+        assertEquals(2024, range.yearTo());
+        assertEquals(300, range.median(), 0);
+    }
+
+    @Test
+    void fallsBackToWiderCells() {
+        for (int price = 100; price <= 500; price += 100) {
+            quote(TOYOTA, 2012, price);
+        }
+        quote(TOYOTA, 2023, 1_000);
+        quote(FORD, 2023, 1_000);
+
+        // Toyota 2023 has one quote, so Toyota as a whole answers
+        QuotePriceStats.PriceRange toyota = stats.typicalRange(BRAKES, TOYOTA, 2023);
+        assertEquals(TOYOTA, toyota.makeId());
+        assertNull(toyota.yearFrom());
+        assertEquals(6, toyota.quoteCount());
+
+        // Ford has one quote, so the whole category answers
+        QuotePriceStats.PriceRange ford = stats.typicalRange(BRAKES, FORD, 2023);
+        assertNull(ford.makeId());
+        assertEquals(7, ford.quoteCount());
+        assertTrue(ford.p25() <= ford.median() && ford.median() <= ford.p75());
+
+        assertNull(stats.typicalRange(UUID.randomUUID(), TOYOTA, 2012));
+    }
+
+    @Test
+    void rangeFollowsNewQuotes() {
+        for (int i = 0; i < 5; i++) {
+            quote(TOYOTA, 2020, 200);
+        }
+        assertEquals(200, stats.typicalRange(BRAKES, TOYOTA, 2020).p75(), 0);
+
+        for (int i = 0; i < 10; i++) {
+            quote(TOYOTA, 2020, 400);
+        }
+        QuotePriceStats.PriceRange range = stats.typicalRange(BRAKES, TOYOTA, 2020);
+        assertEquals(15, range.quoteCount());
+        assertEquals(400, range.p75(), 0);
+        // Quotes without a make only count towards the category
+        stats.record(BRAKES, null, null, BigDecimal.TEN, LocalDateTime.now(), false);
+        assertEquals(3, stats.cellCount());
+    }
+}
@@ -0,0 +1,109 @@
+package com.api.auto_ease.service.referencedata;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrefixTrieTest {
+
+    private static final List<String> NAMES = List.of(
+            "Toyota", "Škoda", "Land Rover", "Mercedes-Benz", "Mini", "Mitsubishi", "Dacia", "Citroën");
+
+    private static List<Integer> lookup(PrefixTrie trie, String prefix, int limit) {
+        int[] out = new int[limit];
+        int count = trie.lookup(prefix, out, limit);
+        List<Integer> ordinals = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ordinals.add(out[i]);
+        }
+        return ordinals;
+    }
+
+    private static PrefixTrie names() {
+        PrefixTrie.Builder builder = PrefixTrie.builder();
+        for (int i = 0; i < NAMES.size(); i++) {
+            builder.add(NAMES.get(i), i);
+        }
+        return builder.build();
+    }
+
+    @Test
+    void foldsCaseDiacriticsAndSeparators() {
+        assertEquals("skoda", PrefixTrie.foldKey("Škoda"));
+        assertEquals("mercedes benz", PrefixTrie.foldKey("  Mercedes--Benz "));
+        assertEquals("citroen", PrefixTrie.foldKey("CITROËN"));
+    }
+
+    @Test
+    void findsKeysByFoldedPrefix() {
+        PrefixTrie trie = names();
+
+        assertEquals(List.of(1), lookup(trie, "SKO", 10));
+        assertEquals(List.of(7), lookup(trie, "citroë", 10));
+        assertEquals(List.of(3), lookup(trie, "mercedes b", 10));
+        assertEquals(List.of(3), lookup(trie, "Mercedes   -Benz", 10));
+        assertEquals(List.of(4, 5), lookup(trie, "mi", 10));
+        assertEquals(List.of(4), lookup(trie, "mi", 1));
+        assertEquals(List.of(), lookup(trie, "mx", 10));
+        assertEquals(List.of(), lookup(trie, "toyotas", 10));
+        assertEquals(NAMES.size(), lookup(trie, "", 50).size());
+    }
+
+    @Test
+    void returnsEachEntryOnce() {
+        PrefixTrie trie = PrefixTrie.builder()
+                .add("Mini Cooper", 0)
+                .add("Cooper", 0)
+                .add("Mini Mini Cooper", 0)
+                .add("Mini One", 1)
+                .build();
+
+        assertEquals(List.of(0, 1), lookup(trie, "mini", 10));
+    }
+
+    @Test
+    void emptyTrieFindsNothing() {
+        PrefixTrie trie = PrefixTrie.builder().add("  ", 0).add(null, 1).build();
+
+        assertEquals(0, trie.keyCount());
+        assertEquals(List.of(), lookup(trie, "", 10));
+    }
+
+    @Test
+    void matchesBruteForceSearch() {
+        Random random = new Random(7);
+        String alphabet = "abcde ";
+        List<String> keys = new ArrayList<>();
+        PrefixTrie.Builder builder = PrefixTrie.builder();
+        for (int i = 0; i < 5_000; i++) {
+            StringBuilder key = new StringBuilder();
+            int length = 1 + random.nextInt(10);
+            for (int j = 0; j < length; j++) {
+                key.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            builder.add(key.toString(), i);
+            keys.add(PrefixTrie.foldKey(key.toString()));
+        }
+        PrefixTrie trie = builder.build();
+        assertTrue(trie.nodeCount() < 2 * trie.keyCount());
+
+        for (int q = 0; q < 500; q++) {
+            String key = keys.get(random.nextInt(keys.size()));
+            String prefix = PrefixTrie.foldKey(key.substring(0, Math.min(key.length(), 1 + random.nextInt(3))));
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < keys.size(); i++) {
+                if (!keys.get(i).isEmpty() && keys.get(i).startsWith(prefix)) {
+                    expected.add(i);
+                }
+            }
+            expected.sort(Comparator.<Integer, String>comparing(keys::get).thenComparing(Comparator.naturalOrder()));
+
+            assertEquals(expected.subList(0, Math.min(20, expected.size())), lookup(trie, prefix, 20));
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.api.auto_ease.service.serviceEntry;
+
+import com.api.auto_ease.config.BaseConfig;
+import com.api.auto_ease.domain.appUser.AppUserType;
+import com.api.auto_ease.domain.serviceEntry.ServiceEntry;
+import com.api.auto_ease.service.serviceEntry.dto.ClientServiceEntryRequest;
+import com.api.auto_ease.service.serviceEntry.dto.ServiceLookupRequest;
+import com.api.auto_ease.service.serviceEntry.strategy.ServiceEntryStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the in-process cost of {@link ServiceEntryService#processServiceEntry}: registry
+ * lookup plus binding the request body to the strategy's payload type. Strategies are stubs,
+ * so no database work is included.
+ * <p>
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.api.auto_ease.service.serviceEntry.ServiceEntryDispatchBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ServiceEntryDispatchBenchmark {
+
+    private static final String CALLER_UUID = "0a6c7f1e-6a55-4b1f-9d0a-2f0a3a3f8e11";
+
+    private ServiceEntryService service;
+    private byte[] clientPayload;
+    private byte[] lookupPayload;
+
+    @Setup
+    public void setUp() {
+        service = new ServiceEntryService(
+                List.of(new StubStrategy<>(AppUserType.CAR_OWNER, ClientServiceEntryRequest.class),
+                        new StubStrategy<>(AppUserType.GARAGE, ServiceLookupRequest.class)),
+                new BaseConfig(null).serializingObjectMapper());
+
+        clientPayload = """
+                {"entryType":"Oil Change","carMake":"Toyota","carModel":"Corolla","carYear":2018,\
+                "carVin":"1M8GDM9AXKP042788","serviceDate":"2024-05-14","priority":2,"cost":89.90}\
+                """.getBytes(StandardCharsets.UTF_8);
+        lookupPayload = """
+                {"carMake":"Toyota"}\
+                """.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public ServiceEntry dispatchClientEntry() {
+        return service.processServiceEntry(AppUserType.CAR_OWNER, CALLER_UUID, clientPayload);
+    }
+
+    @Benchmark
+    public ServiceEntry dispatchServiceLookup() {
+        return service.processServiceEntry(AppUserType.GARAGE, CALLER_UUID, lookupPayload);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ServiceEntryDispatchBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+    private record StubStrategy<P>(AppUserType userType, Class<P> payloadType) implements ServiceEntryStrategy<P> {
+
+        @Override
+        public ServiceEntry processServiceEntry(String callerUuid, P payload) {
+            return new ServiceEntry();
+        }
+
+        @Override
+        public AppUserType getUserType() {
+            return userType;
+        }
+
+        @Override
+        public Class<P> getPayloadType() {
+            return payloadType;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.api.auto_ease.service.serviceEntry;
+
+import com.api.auto_ease.config.BaseConfig;
+import com.api.auto_ease.domain.appUser.AppUserType;
+import com.api.auto_ease.domain.serviceEntry.ServiceEntry;
+import com.api.auto_ease.service.serviceEntry.dto.ClientServiceEntryRequest;
+import com.api.auto_ease.service.serviceEntry.dto.ServiceLookupRequest;
+import com.api.auto_ease.service.serviceEntry.strategy.ServiceEntryStrategy;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ServiceEntryServiceTest {
+
+    private static final String CALLER_UUID = "caller-1";
+
+    private final ObjectMapper objectMapper = new BaseConfig(null).serializingObjectMapper();
+
+    private RecordingStrategy<ClientServiceEntryRequest> ownerStrategy;
+    private RecordingStrategy<ServiceLookupRequest> garageStrategy;
+    private ServiceEntryService service;
+
+    @BeforeEach
+    void setUp() {
+        ownerStrategy = new RecordingStrategy<>(AppUserType.CAR_OWNER, ClientServiceEntryRequest.class);
+        garageStrategy = new RecordingStrategy<>(AppUserType.GARAGE, ServiceLookupRequest.class);
+        service = new ServiceEntryService(List.of(ownerStrategy, garageStrategy), objectMapper);
+    }
+
+    private static byte[] body(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private HttpStatus statusOf(AppUserType userType, String json) {
+        ResponseStatusException e = assertThrows(ResponseStatusException.class,
+                () -> service.processServiceEntry(userType, CALLER_UUID, body(json)));
+        return HttpStatus.valueOf(e.getStatusCode().value());
+    }
+
+    @Test
+    void carOwnerBodyIsBoundToTheClientRequest() {
+        service.processServiceEntry(AppUserType.CAR_OWNER, CALLER_UUID, body("""
+                {"entryType":"Oil change","carMake":"Toyota","carYear":2018,"serviceDate":"2024-05-14","cost":89.90}"""));
+
+        assertTrue(garageStrategy.payloads.isEmpty());
+        assertEquals(List.of(CALLER_UUID), ownerStrategy.callers);
+        ClientServiceEntryRequest request = ownerStrategy.payloads.getFirst();
+        assertEquals("Oil change", request.getEntryType());
+        assertEquals("Toyota", request.getCarMake());
+        assertEquals(2018, request.getCarYear());
+        assertEquals("2024-05-14", request.getServiceDate().toString());
+        assertEquals(0, new BigDecimal("89.9").compareTo(request.getCost()));
+    }
+
+    @Test
+    void garageBodyIsBoundToTheLookupRequest() {
+        service.processServiceEntry(AppUserType.GARAGE, CALLER_UUID, body("{\"entryId\":42,\"carMake\":\"Honda\"}"));
+
+        assertTrue(ownerStrategy.payloads.isEmpty());
+        assertEquals(List.of(CALLER_UUID), garageStrategy.callers);
+        assertEquals(42, garageStrategy.payloads.getFirst().getEntryId());
+        assertEquals("Honda", garageStrategy.payloads.getFirst().getCarMake());
+    }
+
+    @Test
+    void unknownFieldsAreIgnored() {
+        service.processServiceEntry(AppUserType.GARAGE, CALLER_UUID,
+                body("{\"carMake\":\"Honda\",\"serviceUuid\":\"someone-else\"}"));
+
+        assertEquals("Honda", garageStrategy.payloads.getFirst().getCarMake());
+        assertEquals(List.of(CALLER_UUID), garageStrategy.callers);
+    }
+
+    @Test
+    void roleWithoutStrategyIsForbidden() {
+        assertEquals(HttpStatus.FORBIDDEN, statusOf(AppUserType.ADMIN, "{}"));
+    }
+
+    @Test
+    void malformedBodyIsBadRequest() {
+        assertEquals(HttpStatus.BAD_REQUEST, statusOf(AppUserType.CAR_OWNER, "{\"entryType\":"));
+        assertEquals(HttpStatus.BAD_REQUEST, statusOf(AppUserType.CAR_OWNER, "{\"carYear\":\"twenty\"}"));
+        assertEquals(HttpStatus.BAD_REQUEST, statusOf(AppUserType.GARAGE, "not json"));
+        assertEquals(HttpStatus.BAD_REQUEST, statusOf(AppUserType.GARAGE, ""));
+        assertTrue(ownerStrategy.payloads.isEmpty());
+        assertTrue(garageStrategy.payloads.isEmpty());
+    }
+
+    @Test
+    void duplicateStrategyForARoleIsRejected() {
+        List<ServiceEntryStrategy<?>> strategies = List.of(ownerStrategy,
+                new RecordingStrategy<>(AppUserType.CAR_OWNER, ClientServiceEntryRequest.class));
+
+        assertThrows(IllegalStateException.class, () -> new ServiceEntryService(strategies, objectMapper));
+    }
+
+    private static final class RecordingStrategy<P> implements ServiceEntryStrategy<P> {
+
+        private final AppUserType userType;
+        private final Class<P> payloadType;
+        private final List<String> callers = new ArrayList<>();
+        private final List<P> payloads = new ArrayList<>();
+
+        private RecordingStrategy(AppUserType userType, Class<P> payloadType) {
+            this.userType = userType;
+            this.payloadType = payloadType;
+        }
+
+        @Override
+        public ServiceEntry processServiceEntry(String callerUuid, P payload) {
+            callers.add(callerUuid);
+            payloads.add(payload);
+            return new ServiceEntry();
+        }
+
+        @Override
+        public AppUserType getUserType() {
+            return userType;
+        }
+
+        @Override
+        public Class<P> getPayloadType() {
+            return payloadType;
+        }
+    }
+}
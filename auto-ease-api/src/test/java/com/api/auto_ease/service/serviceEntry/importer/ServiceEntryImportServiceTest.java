@@ -0,0 +1,138 @@
+package com.api.auto_ease.service.serviceEntry.importer;
+
+import com.api.auto_ease.domain.serviceEntry.ServiceEntry;
+import com.api.auto_ease.repository.bulk.BulkSaveRepository;
+import com.api.auto_ease.service.serviceEntry.dto.ServiceEntryImportError;
+import com.api.auto_ease.service.serviceEntry.dto.ServiceEntryImportResponse;
+import com.api.auto_ease.service.serviceEntry.strategy.ClientServiceEntryStrategy;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ServiceEntryImportServiceTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    private final List<List<ServiceEntry>> savedChunks = new ArrayList<>();
+    private ServiceEntryImportService importService;
+
+    @BeforeEach
+    void setUp() {
+        // Records each chunk instead of writing it; a chunk holding a "reject" entry fails like a
+        // constraint violation would
+        BulkSaveRepository bulkSaveRepository = new BulkSaveRepository(null, BATCH_SIZE) {
+            @Override
+            public <T> int saveAll(Iterable<T> entities) {
+                List<ServiceEntry> chunk = new ArrayList<>();
+                entities.forEach(entity -> chunk.add((ServiceEntry) entity));
+                if (chunk.stream().anyMatch(entry -> "reject".equals(entry.getEntryType()))) {
+                    throw new DataIntegrityViolationException("value too long for type character varying(100)");
+                }
+                savedChunks.add(chunk);
+                return chunk.size();
+            }
+        };
+        importService = new ServiceEntryImportService(new ServiceEntryLineParser(new ObjectMapper()),
+                new ClientServiceEntryStrategy(null), bulkSaveRepository,
+                Validation.buildDefaultValidatorFactory().getValidator());
+    }
+
+    private ServiceEntryImportResponse importLines(String body) throws IOException {
+        return importService.importEntries("client-1",
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static List<Integer> errorLines(ServiceEntryImportResponse response) {
+        return response.getErrors().stream().map(ServiceEntryImportError::getLine).toList();
+    }
+
+    @Test
+    void reportsEachBadLineByNumberAndImportsTheRest() throws IOException {
+        ServiceEntryImportResponse response = importLines(
+                "{\"entryType\":\"Oil change\",\"carMake\":\"Toyota\",\"priority\":2}\n"   // 1
+                        + "   \n"                                                          // 2 blank
+                        + "{\"entryType\":\"Brakes\"\n"                                    // 3 malformed
+                        + "{\"carMake\":\"Honda\"}\n"                                      // 4 no entryType
+                        + "{\"entryType\":\"Tyres\",\"carYear\":1700}\n"                   // 5 invalid year
+                        + "{\"entryType\":\"Battery\",\"carYear\":\"new\"}\n"              // 6 wrong type
+                        + "{\"entryType\":\"Filters\"}\r\n"                                // 7 CRLF
+                        + "{\"entryType\":\"Wipers\",\"cost\":15}");                       // 8 no newline
+
+        assertEquals(8, response.getLinesRead());
+        assertEquals(3, response.getImported());
+        assertEquals(4, response.getFailed());
+        assertFalse(response.isErrorsTruncated());
+        assertEquals(List.of(3, 4, 5, 6), errorLines(response));
+
+        List<ServiceEntryImportError> errors = response.getErrors();
+        assertTrue(errors.get(0).getMessage().startsWith("Malformed JSON: "));
+        assertTrue(errors.get(1).getMessage().startsWith("entryType "));
+        assertTrue(errors.get(2).getMessage().startsWith("carYear "));
+        assertEquals("Malformed JSON: Expected an integer for 'carYear'", errors.get(3).getMessage());
+
+        assertEquals(2, savedChunks.size());
+        List<ServiceEntry> saved = savedChunks.stream().flatMap(List::stream).toList();
+        assertEquals(List.of("Oil change", "Filters", "Wipers"), saved.stream().map(ServiceEntry::getEntryType).toList());
+        assertEquals(2, saved.get(0).getPriority());
+        assertTrue(saved.stream().allMatch(entry -> "client-1".equals(entry.getClientUuid())));
+        // History rows are never offered to the mechanics' queue
+        assertTrue(saved.stream().allMatch(entry -> entry.getCompletedAt() != null));
+    }
+
+    @Test
+    void clientUuidComesFromTheCallerNotTheLine() throws IOException {
+        importLines("{\"entryType\":\"Oil change\",\"clientUuid\":\"someone-else\"}\n");
+
+        assertEquals("client-1", savedChunks.getFirst().getFirst().getClientUuid());
+    }
+
+    @Test
+    void overlongLineFailsAloneAndKeepsLineNumbers() throws IOException {
+        String longLine = "{\"entryType\":\"" + "x".repeat(ServiceEntryImportService.MAX_LINE_LENGTH) + "\"}";
+
+        ServiceEntryImportResponse response = importLines(longLine + "\n{\"entryType\":\"Oil change\"}\n");
+
+        assertEquals(2, response.getLinesRead());
+        assertEquals(1, response.getImported());
+        assertEquals(List.of(1), errorLines(response));
+        assertEquals("Line exceeds " + ServiceEntryImportService.MAX_LINE_LENGTH + " characters",
+                response.getErrors().getFirst().getMessage());
+    }
+
+    @Test
+    void rejectedChunkFailsOnlyItsOwnLines() throws IOException {
+        ServiceEntryImportResponse response = importLines("""
+                {"entryType":"Oil change"}
+                {"entryType":"Brakes"}
+                {"entryType":"Tyres"}
+                {"entryType":"reject"}
+                {"entryType":"Battery"}
+                """);
+
+        assertEquals(5, response.getLinesRead());
+        assertEquals(3, response.getImported());
+        assertEquals(List.of(3, 4), errorLines(response));
+        assertTrue(response.getErrors().stream()
+                .allMatch(error -> error.getMessage().startsWith("Rejected by database: ")));
+    }
+
+    @Test
+    void emptyBodyImportsNothing() throws IOException {
+        ServiceEntryImportResponse response = importLines("");
+
+        assertEquals(0, response.getLinesRead());
+        assertEquals(0, response.getImported());
+        assertTrue(response.getErrors().isEmpty());
+        assertTrue(savedChunks.isEmpty());
+    }
+}
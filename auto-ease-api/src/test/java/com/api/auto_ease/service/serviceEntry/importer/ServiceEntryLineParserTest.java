@@ -0,0 +1,101 @@
+package com.api.auto_ease.service.serviceEntry.importer;
+
+import com.api.auto_ease.service.serviceEntry.dto.ClientServiceEntryRequest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ServiceEntryLineParserTest {
+
+    private final ServiceEntryLineParser parser = new ServiceEntryLineParser(new ObjectMapper());
+
+    private ClientServiceEntryRequest parse(String line) throws IOException {
+        char[] buffer = line.toCharArray();
+        return parser.parse(buffer, buffer.length);
+    }
+
+    @Test
+    void parsesEveryField() throws IOException {
+        ClientServiceEntryRequest entry = parse("""
+                {"clientUuid":"c-1","serviceUuid":"s-1","entryType":"Oil change","carMake":"Toyota",\
+                "carModel":"Corolla","carYear":2019,"carVin":"JT2BG22K1X0123456","description":"5W-30",\
+                "serviceDate":"2024-03-15","location":"Austin","priority":3,"cost":89.5,"note":"ok"}""");
+
+        assertEquals("c-1", entry.getClientUuid());
+        assertEquals("s-1", entry.getServiceUuid());
+        assertEquals("Oil change", entry.getEntryType());
+        assertEquals("Toyota", entry.getCarMake());
+        assertEquals("Corolla", entry.getCarModel());
+        assertEquals(2019, entry.getCarYear());
+        assertEquals("JT2BG22K1X0123456", entry.getCarVin());
+        assertEquals("5W-30", entry.getDescription());
+        assertEquals(LocalDate.of(2024, 3, 15), entry.getServiceDate());
+        assertEquals("Austin", entry.getLocation());
+        assertEquals(3, entry.getPriority());
+        assertEquals(new BigDecimal("89.5"), entry.getCost());
+        assertEquals("ok", entry.getNote());
+    }
+
+    @Test
+    void skipsUnknownFieldsAndAcceptsNulls() throws IOException {
+        ClientServiceEntryRequest entry = parse("""
+                {"entryType":"Brakes","shop":{"name":"Joe's","tags":["a","b"]},"carYear":null,\
+                "serviceDate":null,"cost":120}""");
+
+        assertEquals("Brakes", entry.getEntryType());
+        assertNull(entry.getCarYear());
+        assertNull(entry.getServiceDate());
+        assertEquals(new BigDecimal("120"), entry.getCost());
+    }
+
+    @Test
+    void parsesOnlyTheGivenLength() throws IOException {
+        char[] buffer = "{\"entryType\":\"Tyres\"}garbage left over from a longer line".toCharArray();
+
+        ClientServiceEntryRequest entry = parser.parse(buffer, "{\"entryType\":\"Tyres\"}".length());
+
+        assertEquals("Tyres", entry.getEntryType());
+    }
+
+    @Test
+    void rejectsMalformedJson() {
+        assertThrows(JsonProcessingException.class, () -> parse("{\"entryType\":\"Oil\""));
+        assertThrows(JsonProcessingException.class, () -> parse("{entryType:\"Oil\"}"));
+        assertThrows(JsonProcessingException.class, () -> parse("not json"));
+    }
+
+    @Test
+    void rejectsAnythingButOneObject() {
+        JsonProcessingException array = assertThrows(JsonProcessingException.class, () -> parse("[{\"entryType\":\"Oil\"}]"));
+        assertEquals("Expected a JSON object", array.getOriginalMessage());
+
+        JsonProcessingException twoObjects = assertThrows(JsonProcessingException.class,
+                () -> parse("{\"entryType\":\"Oil\"} {\"entryType\":\"Brakes\"}"));
+        assertEquals("Unexpected content after JSON object", twoObjects.getOriginalMessage());
+    }
+
+    @Test
+    void rejectsFieldsOfTheWrongType() {
+        JsonProcessingException year = assertThrows(JsonProcessingException.class,
+                () -> parse("{\"entryType\":\"Oil\",\"carYear\":\"2019\"}"));
+        assertEquals("Expected an integer for 'carYear'", year.getOriginalMessage());
+
+        JsonProcessingException make = assertThrows(JsonProcessingException.class,
+                () -> parse("{\"entryType\":\"Oil\",\"carMake\":42}"));
+        assertEquals("Expected a string for 'carMake'", make.getOriginalMessage());
+
+        JsonProcessingException cost = assertThrows(JsonProcessingException.class,
+                () -> parse("{\"entryType\":\"Oil\",\"cost\":\"cheap\"}"));
+        assertEquals("Expected a number for 'cost'", cost.getOriginalMessage());
+
+        JsonProcessingException date = assertThrows(JsonProcessingException.class,
+                () -> parse("{\"entryType\":\"Oil\",\"serviceDate\":\"15/03/2024\"}"));
+        assertEquals("Expected an ISO date (yyyy-MM-dd) for 'serviceDate'", date.getOriginalMessage());
+    }
+}
@@ -0,0 +1,65 @@
+package com.api.auto_ease.service.vin;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link VinDecoder#decode} against the bundled tables over a mix of known, unknown
+ * and European VINs. Run with {@code -prof gc} to confirm the decode path does not allocate.
+ * <p>
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.api.auto_ease.service.vin.VinDecoderBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VinDecoderBenchmark {
+
+    private static final String[] VINS = {
+            "1HGCM82633A004352", "5YFBURHE5HP123456", "WVWZZZ1JZ3W386752", "1M8GDM9AXKP042788"};
+
+    private VinDecoder decoder;
+    private int next;
+
+    @Setup
+    public void setUp() throws IOException {
+        try (Reader wmi = resource("/vin/wmi.csv"); Reader vds = resource("/vin/vds.csv")) {
+            decoder = VinDecoder.load(wmi, vds);
+        }
+    }
+
+    private static Reader resource(String path) {
+        return new InputStreamReader(VinDecoderBenchmark.class.getResourceAsStream(path), StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public long decode() {
+        return decoder.decode(VINS[next++ & (VINS.length - 1)], 2026);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(VinDecoderBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,103 @@
+package com.api.auto_ease.service.vin;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VinDecoderTest {
+
+    private static final int CURRENT_YEAR = 2026;
+
+    private static VinDecoder bundled;
+
+    @BeforeAll
+    static void loadBundledTables() throws IOException {
+        try (Reader wmi = resource("/vin/wmi.csv"); Reader vds = resource("/vin/vds.csv")) {
+            bundled = VinDecoder.load(wmi, vds);
+        }
+    }
+
+    private static Reader resource(String path) {
+        return new InputStreamReader(VinDecoderTest.class.getResourceAsStream(path), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void decodesManufacturerModelAndYear() {
+        long decoded = bundled.decode("1HGCM82633A004352", CURRENT_YEAR);
+
+        assertEquals(VinDecoder.VALID, VinDecoder.status(decoded));
+        assertTrue(VinDecoder.checkDigitMatches(decoded));
+        assertEquals(2003, VinDecoder.modelYear(decoded));
+        assertEquals("Honda of America", bundled.manufacturer(decoded));
+        assertEquals("Honda", bundled.make(decoded));
+        assertEquals("Accord", bundled.model(decoded));
+
+        assertEquals(decoded, bundled.decode("1hgcm82633a004352", CURRENT_YEAR));
+    }
+
+    @Test
+    void unknownManufacturerStillValidates() {
+        long decoded = bundled.decode("1M8GDM9AXKP042788", CURRENT_YEAR);
+
+        assertEquals(VinDecoder.VALID, VinDecoder.status(decoded));
+        assertEquals(1989, VinDecoder.modelYear(decoded));
+        assertNull(bundled.manufacturer(decoded));
+        assertNull(bundled.model(decoded));
+    }
+
+    @Test
+    void northAmericanYearCycleFollowsPositionSeven() {
+        // Position 7 is a letter, so 'H' is 2017 rather than 1987
+        long decoded = bundled.decode("5YFBURHE5HP123456", CURRENT_YEAR);
+
+        assertEquals(VinDecoder.VALID, VinDecoder.status(decoded));
+        assertEquals(2017, VinDecoder.modelYear(decoded));
+        assertEquals("Corolla", bundled.model(decoded));
+    }
+
+    @Test
+    void checkDigitOnlyEnforcedForNorthAmerica() {
+        long mismatch = bundled.decode("1HGCM82634A004352", CURRENT_YEAR);
+        assertEquals(VinDecoder.CHECK_DIGIT_MISMATCH, VinDecoder.status(mismatch));
+
+        // European VINs commonly carry no check digit
+        long european = bundled.decode("WVWZZZ1JZ3W386752", CURRENT_YEAR);
+        assertEquals(VinDecoder.VALID, VinDecoder.status(european));
+        assertFalse(VinDecoder.checkDigitMatches(european));
+        assertEquals(2003, VinDecoder.modelYear(european));
+        assertEquals("Volkswagen", bundled.make(european));
+    }
+
+    @Test
+    void rejectsMalformedVins() {
+        assertEquals(VinDecoder.MALFORMED, VinDecoder.status(bundled.decode(null, CURRENT_YEAR)));
+        assertEquals(VinDecoder.MALFORMED, VinDecoder.status(bundled.decode("1HGCM82633A00435", CURRENT_YEAR)));
+        assertEquals(VinDecoder.MALFORMED, VinDecoder.status(bundled.decode("1HGCM82633A00435O", CURRENT_YEAR)));
+        assertEquals(VinDecoder.MALFORMED, VinDecoder.status(bundled.decode("1HGCM82633A00435É", CURRENT_YEAR)));
+    }
+
+    @Test
+    void longestVdsPrefixWins() throws IOException {
+        VinDecoder decoder = VinDecoder.load(
+                new StringReader("1FT,Ford Motor Company,Ford\n"),
+                new StringReader("# model lines\n1FT,F,F-Series\n1FT,FW1,F-150\n"));
+
+        assertEquals("F-150", decoder.model(decoder.decode("1FTFW1E52JFA12345", CURRENT_YEAR)));
+        assertEquals("F-Series", decoder.model(decoder.decode("1FTFX1E56JFA12345", CURRENT_YEAR)));
+    }
+
+    @Test
+    void rejectsBadTableRows() {
+        assertThrows(IllegalArgumentException.class, () -> VinDecoder.load(
+                new StringReader("1FO,Ford Motor Company,Ford\n"), new StringReader("")));
+        assertThrows(IllegalArgumentException.class, () -> VinDecoder.load(
+                new StringReader("1FT,Ford Motor Company,Ford\n"), new StringReader("1FT,ABCDEF,Too Long\n")));
+    }
+}
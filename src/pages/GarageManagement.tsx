@@ -122,7 +122,9 @@ export default function GarageManagement() {
         await api.put('/garages/me', garageForm);
         toast({ title: "Success", description: "Garage updated successfully!" });
       } else {
-        const data = await api.post<Garage>('/garages', garageForm);
+        const data = await api.post<Garage & { token?: string }>('/garages', garageForm);
+        // The re-issued token carries the garage id
+        if (data.token) localStorage.setItem('token', data.token);
         setGarage(data);
         setShowGarageForm(false);
         toast({ title: "Success", description: "Garage profile created! Awaiting admin approval." });